@@ -0,0 +1,13 @@
+package com.starter.crudexample.application.item.create.bulk;
+
+import java.util.List;
+
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+
+public record BulkCreateItemsCommand(
+        List<CreateItemCommand> items) {
+
+    public static BulkCreateItemsCommand with(final List<CreateItemCommand> anItems) {
+        return new BulkCreateItemsCommand(anItems);
+    }
+}
@@ -0,0 +1,16 @@
+package com.starter.crudexample.application.item.create.bulk;
+
+import java.util.List;
+
+import com.starter.crudexample.domain.item.Item;
+
+public record BulkCreateItemsOutput(
+        List<String> ids
+) {
+
+    public static BulkCreateItemsOutput from(final List<Item> anItems) {
+        return new BulkCreateItemsOutput(anItems.stream()
+                .map(anItem -> anItem.getId().getValue())
+                .toList());
+    }
+}
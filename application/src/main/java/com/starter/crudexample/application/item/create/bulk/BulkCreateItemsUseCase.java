@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.item.create.bulk;
+
+import com.starter.crudexample.application.UseCase;
+
+public sealed abstract class BulkCreateItemsUseCase
+        extends UseCase<BulkCreateItemsCommand, BulkCreateItemsOutput>
+        permits DefaultBulkCreateItemsUseCase {
+}
@@ -0,0 +1,74 @@
+package com.starter.crudexample.application.item.create.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.domain.validation.handler.Notification;
+
+public non-sealed class DefaultBulkCreateItemsUseCase extends BulkCreateItemsUseCase {
+
+    public static final int MAX_ITEMS = 5_000;
+
+    private final ItemGateway itemGateway;
+
+    public DefaultBulkCreateItemsUseCase(final ItemGateway itemGateway) {
+        this.itemGateway = Objects.requireNonNull(itemGateway);
+    }
+
+    @Override
+    public BulkCreateItemsOutput execute(final BulkCreateItemsCommand aCommand) {
+        final var commands = aCommand.items() == null ? List.<CreateItemCommand>of() : aCommand.items();
+
+        final var notification = Notification.create();
+
+        if (commands.isEmpty()) {
+            notification.append(new Error("'items' should not be empty"));
+        }
+
+        if (commands.size() > MAX_ITEMS) {
+            notification.append(new Error("'items' must have at most %d entries".formatted(MAX_ITEMS)));
+        }
+
+        if (notification.hasError()) {
+            notify(notification);
+        }
+
+        // Valida todas as linhas antes de gravar: ou entram todos os itens ou nenhum
+        final var anItems = new ArrayList<Item>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            final var aRow = commands.get(i);
+            if (aRow == null) {
+                notification.append(new Error("items[%d]: should not be null".formatted(i)));
+                continue;
+            }
+
+            final var rowNotification = Notification.create();
+
+            final var aItem = rowNotification.validate(() -> Item.newItem(aRow.name(), aRow.description(), aRow.price()));
+
+            if (rowNotification.hasError()) {
+                final var index = i;
+                rowNotification.getErrors().forEach(anError ->
+                        notification.append(new Error("items[%d]: %s".formatted(index, anError.message()))));
+            } else {
+                anItems.add(aItem);
+            }
+        }
+
+        if (notification.hasError()) {
+            notify(notification);
+        }
+
+        return BulkCreateItemsOutput.from(this.itemGateway.createAll(anItems));
+    }
+
+    private void notify(Notification notification) {
+        throw new NotificationException("Could not create Aggregate Items", notification);
+    }
+}
@@ -0,0 +1,30 @@
+package com.starter.crudexample.application.item.create.imports;
+
+import java.time.Duration;
+
+// Tamanho do lote ajustado por AIMD: cresce de minSize em minSize enquanto a gravação de um lote
+// fica dentro da latência alvo e cai pela metade quando passa dela
+final class ChunkSize {
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetNanos;
+    private int current;
+
+    ChunkSize(final int minSize, final int maxSize, final Duration targetLatency) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetNanos = targetLatency.toNanos();
+        this.current = minSize;
+    }
+
+    int current() {
+        return this.current;
+    }
+
+    void record(final long elapsedNanos) {
+        this.current = elapsedNanos <= this.targetNanos
+                ? Math.min(this.maxSize, this.current + this.minSize)
+                : Math.max(this.minSize, this.current / 2);
+    }
+}
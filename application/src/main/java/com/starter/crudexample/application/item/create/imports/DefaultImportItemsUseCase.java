@@ -0,0 +1,112 @@
+package com.starter.crudexample.application.item.create.imports;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.domain.validation.handler.Notification;
+
+// Diferente do BulkCreateItemsUseCase, cada lote é gravado (e confirmado) por conta própria:
+// linhas inválidas são reportadas e puladas, e só um lote fica em memória por vez. Se um lote
+// falha a importação para ali: os lotes anteriores continuam gravados e o resumo diz até onde chegou
+public non-sealed class DefaultImportItemsUseCase extends ImportItemsUseCase {
+
+    private final ItemGateway itemGateway;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final Duration targetLatency;
+
+    public DefaultImportItemsUseCase(
+            final ItemGateway itemGateway,
+            final int minChunkSize,
+            final int maxChunkSize,
+            final Duration targetLatency) {
+        this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetLatency = Objects.requireNonNull(targetLatency);
+    }
+
+    @Override
+    public ImportItemsOutput execute(final ImportItemsCommand aCommand) {
+        final var rows = aCommand.rows();
+        final var onError = aCommand.onError();
+        final var chunkSize = new ChunkSize(this.minChunkSize, this.maxChunkSize, this.targetLatency);
+        final var chunk = new ArrayList<Item>(this.maxChunkSize);
+
+        long row = 0;
+        long chunkStart = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        while (rows.hasNext()) {
+            final var aRow = rows.next();
+            row++;
+
+            if (aRow == null) {
+                onError.accept(ImportItemsError.with(row, List.of(new Error("could not be parsed"))));
+                rejected++;
+                continue;
+            }
+
+            final var notification = Notification.create();
+            final var aItem = notification.validate(() -> Item.newItem(aRow.name(), aRow.description(), aRow.price()));
+
+            if (notification.hasError()) {
+                onError.accept(ImportItemsError.with(row, notification.getErrors()));
+                rejected++;
+                continue;
+            }
+
+            if (chunk.isEmpty()) {
+                chunkStart = row;
+            }
+            chunk.add(aItem);
+
+            if (chunk.size() >= chunkSize.current()) {
+                final var written = write(chunk, chunkSize, chunkStart, onError);
+                if (written < 0) {
+                    return ImportItemsOutput.aborted(imported, rejected);
+                }
+                imported += written;
+            }
+        }
+
+        final var written = write(chunk, chunkSize, chunkStart, onError);
+        if (written < 0) {
+            return ImportItemsOutput.aborted(imported, rejected);
+        }
+
+        return ImportItemsOutput.completed(imported + written, rejected);
+    }
+
+    // Devolve -1 quando o lote não pôde ser gravado; o erro sai na linha em que o lote começou
+    private int write(
+            final List<Item> aChunk,
+            final ChunkSize aChunkSize,
+            final long aStartRow,
+            final Consumer<ImportItemsError> onError) {
+        if (aChunk.isEmpty()) {
+            return 0;
+        }
+
+        final var start = System.nanoTime();
+        try {
+            this.itemGateway.createAll(aChunk);
+        } catch (final RuntimeException ex) {
+            onError.accept(ImportItemsError.with(aStartRow, List.of(
+                    new Error("could not be written; the import stopped and rows from here on were not imported"))));
+            return -1;
+        }
+        aChunkSize.record(System.nanoTime() - start);
+
+        final var written = aChunk.size();
+        aChunk.clear();
+        return written;
+    }
+}
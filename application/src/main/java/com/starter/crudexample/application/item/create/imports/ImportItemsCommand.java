@@ -0,0 +1,18 @@
+package com.starter.crudexample.application.item.create.imports;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+
+// rows é lido uma única vez, sob demanda; linhas que não puderam ser lidas chegam como null
+public record ImportItemsCommand(
+        Iterator<CreateItemCommand> rows,
+        Consumer<ImportItemsError> onError
+) {
+    public static ImportItemsCommand with(
+            final Iterator<CreateItemCommand> aRows,
+            final Consumer<ImportItemsError> anOnError) {
+        return new ImportItemsCommand(aRows, anOnError);
+    }
+}
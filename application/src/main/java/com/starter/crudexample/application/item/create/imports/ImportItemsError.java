@@ -0,0 +1,15 @@
+package com.starter.crudexample.application.item.create.imports;
+
+import java.util.List;
+
+import com.starter.crudexample.domain.validation.Error;
+
+// row começa em 1 e conta só as linhas de dados (sem o cabeçalho do CSV)
+public record ImportItemsError(
+        long row,
+        List<Error> errors
+) {
+    public static ImportItemsError with(final long aRow, final List<Error> anErrors) {
+        return new ImportItemsError(aRow, List.copyOf(anErrors));
+    }
+}
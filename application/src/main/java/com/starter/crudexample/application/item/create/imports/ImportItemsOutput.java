@@ -0,0 +1,16 @@
+package com.starter.crudexample.application.item.create.imports;
+
+// complete é false quando um lote não pôde ser gravado: imported conta só o que já estava confirmado
+public record ImportItemsOutput(
+        long imported,
+        long rejected,
+        boolean complete
+) {
+    public static ImportItemsOutput completed(final long anImported, final long aRejected) {
+        return new ImportItemsOutput(anImported, aRejected, true);
+    }
+
+    public static ImportItemsOutput aborted(final long anImported, final long aRejected) {
+        return new ImportItemsOutput(anImported, aRejected, false);
+    }
+}
@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.item.create.imports;
+
+import com.starter.crudexample.application.UseCase;
+
+public sealed abstract class ImportItemsUseCase
+        extends UseCase<ImportItemsCommand, ImportItemsOutput>
+        permits DefaultImportItemsUseCase {
+}
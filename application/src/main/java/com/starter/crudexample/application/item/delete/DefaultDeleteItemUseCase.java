@@ -2,19 +2,26 @@ package com.starter.crudexample.application.item.delete;
 
 import java.util.Objects;
 
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
 import com.starter.crudexample.domain.item.ItemGateway;
 import com.starter.crudexample.domain.item.ItemID;
 
 public non-sealed class DefaultDeleteItemUseCase extends DeleteItemUseCase {
 
     private final ItemGateway itemGateway;
+    private final ItemArchiveGateway itemArchiveGateway;
 
-    public DefaultDeleteItemUseCase(final ItemGateway itemGateway) {
+    public DefaultDeleteItemUseCase(final ItemGateway itemGateway, final ItemArchiveGateway itemArchiveGateway) {
         this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.itemArchiveGateway = Objects.requireNonNull(itemArchiveGateway);
     }
 
+    // O item pode estar na tabela quente ou no arquivo. A tabela quente vem primeiro: se o
+    // arquivador estiver movendo o item, a exclusão espera o lote confirmar e o acha no arquivo
     @Override
     public void execute(final String anIn) {
-        this.itemGateway.deleteById(ItemID.from(anIn));
+        final var anId = ItemID.from(anIn);
+        this.itemGateway.deleteById(anId);
+        this.itemArchiveGateway.deleteById(anId);
     }
 }
@@ -0,0 +1,30 @@
+package com.starter.crudexample.application.item.rebuild;
+
+import java.util.Objects;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.domain.validation.Error;
+
+// Cada partição usa uma conexão do pool enquanto roda: o limite evita esgotá-lo
+public non-sealed class DefaultRebuildItemListingsUseCase extends RebuildItemListingsUseCase {
+
+    private final ItemListingGateway itemListingGateway;
+    private final int maxPartitions;
+
+    public DefaultRebuildItemListingsUseCase(final ItemListingGateway itemListingGateway, final int maxPartitions) {
+        this.itemListingGateway = Objects.requireNonNull(itemListingGateway);
+        this.maxPartitions = maxPartitions;
+    }
+
+    @Override
+    public RebuildItemListingsOutput execute(final RebuildItemListingsCommand aCommand) {
+        final var partitions = aCommand.partitions();
+
+        if (partitions < 1 || partitions > this.maxPartitions) {
+            throw DomainException.with(new Error("'partitions' must be between 1 and %d".formatted(this.maxPartitions)));
+        }
+
+        return new RebuildItemListingsOutput(partitions, this.itemListingGateway.rebuild(partitions));
+    }
+}
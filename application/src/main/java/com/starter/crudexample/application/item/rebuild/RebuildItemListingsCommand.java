@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.item.rebuild;
+
+public record RebuildItemListingsCommand(int partitions) {
+
+    public static RebuildItemListingsCommand with(final int aPartitions) {
+        return new RebuildItemListingsCommand(aPartitions);
+    }
+}
@@ -0,0 +1,7 @@
+package com.starter.crudexample.application.item.rebuild;
+
+public record RebuildItemListingsOutput(
+        int partitions,
+        long rebuilt
+) {
+}
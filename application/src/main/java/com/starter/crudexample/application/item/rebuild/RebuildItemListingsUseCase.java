@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.item.rebuild;
+
+import com.starter.crudexample.application.UseCase;
+
+public sealed abstract class RebuildItemListingsUseCase
+        extends UseCase<RebuildItemListingsCommand, RebuildItemListingsOutput>
+        permits DefaultRebuildItemListingsUseCase {
+}
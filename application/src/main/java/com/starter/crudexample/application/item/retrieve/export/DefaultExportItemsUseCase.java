@@ -0,0 +1,21 @@
+package com.starter.crudexample.application.item.retrieve.export;
+
+import java.util.Objects;
+
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.domain.item.ItemGateway;
+
+public non-sealed class DefaultExportItemsUseCase extends ExportItemsUseCase {
+
+    private final ItemGateway itemGateway;
+
+    public DefaultExportItemsUseCase(final ItemGateway itemGateway) {
+        this.itemGateway = Objects.requireNonNull(itemGateway);
+    }
+
+    @Override
+    public void execute(final ExportItemsCommand aCommand) {
+        final var consumer = aCommand.consumer();
+        this.itemGateway.exportAll(aCommand.terms(), preview -> consumer.accept(ItemListOutput.from(preview)));
+    }
+}
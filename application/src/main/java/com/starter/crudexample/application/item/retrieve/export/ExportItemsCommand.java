@@ -0,0 +1,14 @@
+package com.starter.crudexample.application.item.retrieve.export;
+
+import java.util.function.Consumer;
+
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+
+public record ExportItemsCommand(
+        String terms,
+        Consumer<ItemListOutput> consumer
+) {
+    public static ExportItemsCommand with(final String terms, final Consumer<ItemListOutput> aConsumer) {
+        return new ExportItemsCommand(terms, aConsumer);
+    }
+}
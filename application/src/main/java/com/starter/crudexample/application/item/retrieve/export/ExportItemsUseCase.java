@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.item.retrieve.export;
+
+import com.starter.crudexample.application.UnitUseCase;
+
+public sealed abstract class ExportItemsUseCase
+    extends UnitUseCase<ExportItemsCommand>
+    permits DefaultExportItemsUseCase {
+}
@@ -3,6 +3,7 @@ package com.starter.crudexample.application.item.retrieve.get;
 import java.util.Objects;
 
 import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
 import com.starter.crudexample.domain.item.ItemGateway;
 import com.starter.crudexample.domain.item.ItemID;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
@@ -10,15 +11,19 @@ import com.starter.crudexample.domain.exceptions.NotFoundException;
 public non-sealed class DefaultGetItemByIdUseCase extends GetItemByIdUseCase {
 
     private final ItemGateway itemGateway;
+    private final ItemArchiveGateway itemArchiveGateway;
 
-    public DefaultGetItemByIdUseCase(final ItemGateway itemGateway) {
+    public DefaultGetItemByIdUseCase(final ItemGateway itemGateway, final ItemArchiveGateway itemArchiveGateway) {
         this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.itemArchiveGateway = Objects.requireNonNull(itemArchiveGateway);
     }
 
+    // O arquivo só é consultado quando o item não está na tabela principal
     @Override
     public ItemOutput execute(final String anIn) {
         final var aItemId = ItemID.from(anIn);
         return this.itemGateway.findById(aItemId)
+                .or(() -> this.itemArchiveGateway.findById(aItemId))
                 .map(ItemOutput::from)
                 .orElseThrow(() -> NotFoundException.with(Item.class, aItemId));
     }
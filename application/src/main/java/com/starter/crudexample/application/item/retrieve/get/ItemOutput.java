@@ -10,7 +10,8 @@ public record ItemOutput(
                 String description,
                 double price,
                 Instant createdAt,
-                Instant updatedAt) {
+                Instant updatedAt,
+                long version) {
         public static ItemOutput from(final Item item) {
                 return new ItemOutput(
                                 item.getId().getValue(),
@@ -18,6 +19,7 @@ public record ItemOutput(
                                 item.getDescription(),
                                 item.getPrice(),
                                 item.getCreatedAt(),
-                                item.getUpdatedAt());
+                                item.getUpdatedAt(),
+                                item.getVersion());
         }
 }
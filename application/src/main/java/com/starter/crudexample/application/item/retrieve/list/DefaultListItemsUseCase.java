@@ -2,21 +2,22 @@ package com.starter.crudexample.application.item.retrieve.list;
 
 import java.util.Objects;
 
-import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemListingGateway;
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
 
+// Lê do modelo de leitura, não da tabela de itens: listagem e escrita escalam separadamente
 public non-sealed class DefaultListItemsUseCase extends ListItemsUseCase {
 
-    private final ItemGateway itemGateway;
+    private final ItemListingGateway itemListingGateway;
 
-    public DefaultListItemsUseCase(final ItemGateway itemGateway) {
-        this.itemGateway = Objects.requireNonNull(itemGateway);
+    public DefaultListItemsUseCase(final ItemListingGateway itemListingGateway) {
+        this.itemListingGateway = Objects.requireNonNull(itemListingGateway);
     }
 
     @Override
     public Pagination<ItemListOutput> execute(final SearchQuery aQuery) {
-        return this.itemGateway.findAll(aQuery)
+        return this.itemListingGateway.findAll(aQuery)
                 .map(ItemListOutput::from);
     }
 }
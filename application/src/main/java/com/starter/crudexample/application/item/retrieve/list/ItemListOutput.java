@@ -3,6 +3,7 @@ package com.starter.crudexample.application.item.retrieve.list;
 import java.time.Instant;
 
 import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemPreview;
 
 public record ItemListOutput(
         String id,
@@ -19,5 +20,14 @@ public record ItemListOutput(
                 item.getPrice(),
                 item.getCreatedAt());
     }
+
+    public static ItemListOutput from(final ItemPreview aPreview) {
+        return new ItemListOutput(
+                aPreview.id(),
+                aPreview.name(),
+                aPreview.description(),
+                aPreview.price(),
+                aPreview.createdAt());
+    }
 }
 
@@ -0,0 +1,108 @@
+package com.starter.crudexample.application.item.retrieve.list.archived;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.validation.Error;
+
+/**
+ * Listagem com os itens arquivados: cada fonte devolve as primeiras {@code (page + 1) * perPage}
+ * linhas na mesma ordenação e a página é recortada da junção. O custo cresce com a profundidade
+ * da página, por isso ela é limitada e não há cursor.
+ */
+public non-sealed class DefaultListItemsWithArchiveUseCase extends ListItemsWithArchiveUseCase {
+
+    private static final int MAX_WINDOW = 10_000;
+
+    private final ItemListingGateway itemListingGateway;
+    private final ItemArchiveGateway itemArchiveGateway;
+
+    public DefaultListItemsWithArchiveUseCase(
+            final ItemListingGateway itemListingGateway,
+            final ItemArchiveGateway itemArchiveGateway) {
+        this.itemListingGateway = Objects.requireNonNull(itemListingGateway);
+        this.itemArchiveGateway = Objects.requireNonNull(itemArchiveGateway);
+    }
+
+    @Override
+    public Pagination<ItemListOutput> execute(final SearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            throw DomainException.with(new Error("Listing archived items does not support cursor pagination"));
+        }
+
+        final var anOrder = order(aQuery);
+        final var start = (long) aQuery.page() * aQuery.perPage();
+        final var window = start + aQuery.perPage();
+        if (window > MAX_WINDOW) {
+            throw DomainException.with(new Error("Listing archived items is limited to the first %d rows".formatted(MAX_WINDOW)));
+        }
+
+        final var aWindowQuery = new SearchQuery(
+                0, (int) window, aQuery.terms(), aQuery.sort(), aQuery.direction(), null, aQuery.count());
+        final var active = this.itemListingGateway.findAll(aWindowQuery);
+        final var archived = this.itemArchiveGateway.findAll(aWindowQuery);
+
+        final var merged = Stream.concat(active.items().stream(), archived.items().stream())
+                .sorted(anOrder)
+                .toList();
+
+        final var content = merged.stream()
+                .skip(start)
+                .limit(aQuery.perPage())
+                .map(ItemListOutput::from)
+                .toList();
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                totalOf(active.total(), archived.total()),
+                content,
+                active.hasNext() || archived.hasNext() || merged.size() > window,
+                null);
+    }
+
+    private static long totalOf(final long active, final long archived) {
+        return active == Pagination.UNKNOWN_TOTAL || archived == Pagination.UNKNOWN_TOTAL
+                ? Pagination.UNKNOWN_TOTAL
+                : active + archived;
+    }
+
+    // Mesma ordem das consultas: a coluna pedida e o id como desempate. As duas fontes ordenam o nome
+    // por name_key em utf8mb4_0900_bin, bytes UTF-8, então a junção compara a mesma chave por code point
+    private static Comparator<ItemPreview> order(final SearchQuery aQuery) {
+        final var sort = Objects.requireNonNullElse(aQuery.sort(), "");
+        final Comparator<ItemPreview> bySort = switch (sort) {
+            case "name" -> Comparator.comparing(ItemPreview::nameKey, DefaultListItemsWithArchiveUseCase::compareCodePoints);
+            case "price" -> Comparator.comparing(ItemPreview::price);
+            case "createdAt" -> Comparator.comparing(ItemPreview::createdAt);
+            default -> throw DomainException.with(new Error("Listing archived items does not support sort '%s'".formatted(sort)));
+        };
+
+        final var withId = bySort.thenComparing(ItemPreview::id);
+        return "desc".equalsIgnoreCase(aQuery.direction()) ? withId.reversed() : withId;
+    }
+
+    // String.compareTo compara unidades UTF-16, que divergem da ordem dos bytes UTF-8 fora do BMP
+    private static int compareCodePoints(final String left, final String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            final var a = left.codePointAt(i);
+            final var b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+}
@@ -0,0 +1,11 @@
+package com.starter.crudexample.application.item.retrieve.list.archived;
+
+import com.starter.crudexample.application.UseCase;
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+
+public sealed abstract class ListItemsWithArchiveUseCase
+        extends UseCase<SearchQuery, Pagination<ItemListOutput>>
+        permits DefaultListItemsWithArchiveUseCase {
+}
@@ -0,0 +1,30 @@
+package com.starter.crudexample.application.item.retrieve.revision;
+
+import java.util.Objects;
+
+import com.starter.crudexample.domain.exceptions.NotFoundException;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+
+// Revisão atual sem hidratar o agregado: basta a versão para responder GETs condicionais
+public non-sealed class DefaultGetItemRevisionUseCase extends GetItemRevisionUseCase {
+
+    private final ItemGateway itemGateway;
+    private final ItemArchiveGateway itemArchiveGateway;
+
+    public DefaultGetItemRevisionUseCase(final ItemGateway itemGateway, final ItemArchiveGateway itemArchiveGateway) {
+        this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.itemArchiveGateway = Objects.requireNonNull(itemArchiveGateway);
+    }
+
+    @Override
+    public ItemRevisionOutput execute(final String anIn) {
+        final var anId = ItemID.from(anIn);
+        return this.itemGateway.findVersion(anId)
+                .or(() -> this.itemArchiveGateway.findVersion(anId))
+                .map(version -> ItemRevisionOutput.from(anId, version))
+                .orElseThrow(() -> NotFoundException.with(Item.class, anId));
+    }
+}
@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.item.retrieve.revision;
+
+import com.starter.crudexample.application.UseCase;
+
+public sealed abstract class GetItemRevisionUseCase
+        extends UseCase<String, ItemRevisionOutput>
+        permits DefaultGetItemRevisionUseCase {
+}
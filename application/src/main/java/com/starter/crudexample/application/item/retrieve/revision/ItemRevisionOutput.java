@@ -0,0 +1,12 @@
+package com.starter.crudexample.application.item.retrieve.revision;
+
+
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
+
+public record ItemRevisionOutput(String id, String revision) {
+
+    public static ItemRevisionOutput from(final ItemID anId, final long version) {
+        return new ItemRevisionOutput(anId.getValue(), RevisionUtils.of(anId, version));
+    }
+}
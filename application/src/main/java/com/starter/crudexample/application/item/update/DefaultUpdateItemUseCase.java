@@ -1,14 +1,18 @@
 package com.starter.crudexample.application.item.update;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
 import com.starter.crudexample.domain.Identifier;
+import com.starter.crudexample.domain.exceptions.ConflictException;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.exceptions.PreconditionFailedException;
 import com.starter.crudexample.domain.item.Item;
 import com.starter.crudexample.domain.item.ItemGateway;
 import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
 import com.starter.crudexample.domain.validation.handler.Notification;
 
 public non-sealed class DefaultUpdateItemUseCase extends UpdateItemUseCase {
@@ -26,8 +30,7 @@ public non-sealed class DefaultUpdateItemUseCase extends UpdateItemUseCase {
         final var aDescription = aCommand.description();
         final var aPrice = aCommand.price();
 
-        final var aItem = this.itemGateway.findById(anId)
-                .orElseThrow(notFound(anId));
+        final var aItem = load(anId, aCommand.revisions(), aCommand.version());
 
         final var notification = Notification.create();
 
@@ -40,6 +43,28 @@ public non-sealed class DefaultUpdateItemUseCase extends UpdateItemUseCase {
         return UpdateItemOutput.from(this.itemGateway.update(aItem));
     }
 
+    // Sem bloqueio de linha: a revisão (If-Match) e a versão informadas são conferidas aqui e
+    // o gateway só grava se a versão no banco ainda for a lida, cobrindo escritas concorrentes.
+    // Com If-Match, a ausência do recurso também é uma pré-condição falha (412), não um 404
+    private Item load(final ItemID anId, final List<String> expectedRevisions, final Long expectedVersion) {
+        final var found = this.itemGateway.findById(anId);
+        if (found.isEmpty() && expectedRevisions != null) {
+            throw PreconditionFailedException.with(Item.class, anId);
+        }
+
+        final var aItem = found.orElseThrow(notFound(anId));
+
+        if (!RevisionUtils.matches(expectedRevisions, RevisionUtils.of(anId, aItem.getVersion()))) {
+            throw PreconditionFailedException.with(Item.class, anId);
+        }
+
+        if (expectedVersion != null && expectedVersion != aItem.getVersion()) {
+            throw ConflictException.with(Item.class, anId);
+        }
+
+        return aItem;
+    }
+
     private void notify(final Identifier anId, final Notification notification) {
         throw new NotificationException("Could not update Aggregate Item %s".formatted(anId.getValue()), notification);
     }
@@ -1,16 +1,39 @@
 package com.starter.crudexample.application.item.update;
 
+import java.util.List;
+
 public record UpdateItemCommand(
         String id,
         String name,
         String description,
-        double price
+        double price,
+        List<String> revisions, // revisões aceitas (If-Match); null para não verificar
+        Long version // versão lida pelo cliente; null para não verificar
 ) {
     public static UpdateItemCommand with(
             final String id,
             final String name,
             final String description,
             final double price) {
-        return new UpdateItemCommand(id, name, description, price);
+        return with(id, name, description, price, null);
+    }
+
+    public static UpdateItemCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final double price,
+            final String revision) {
+        return with(id, name, description, price, revision == null ? null : List.of(revision), null);
+    }
+
+    public static UpdateItemCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final double price,
+            final List<String> revisions,
+            final Long version) {
+        return new UpdateItemCommand(id, name, description, price, revisions, version);
     }
 }
@@ -1,15 +1,11 @@
 package com.starter.crudexample.application.item.update;
 
 import com.starter.crudexample.domain.item.Item;
-import com.starter.crudexample.domain.item.ItemID;
 
-public record UpdateItemOutput(String id) {
-
-    public static UpdateItemOutput from(final ItemID anId) {
-        return new UpdateItemOutput(anId.getValue());
-    }
+// version é a nova versão gravada: o cliente a reenvia (ou o ETag dela) na próxima alteração
+public record UpdateItemOutput(String id, long version) {
 
     public static UpdateItemOutput from(final Item aItem) {
-        return from(aItem.getId());
+        return new UpdateItemOutput(aItem.getId().getValue(), aItem.getVersion());
     }
-}
\ No newline at end of file
+}
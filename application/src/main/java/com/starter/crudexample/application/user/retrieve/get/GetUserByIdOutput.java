@@ -14,7 +14,8 @@ public record GetUserByIdOutput(
     boolean active,
     Instant createdAt,
     Instant updatedAt,
-    Instant deletedAt
+    Instant deletedAt,
+    long version
 ) {
     public static GetUserByIdOutput from(final User user) {
         return new GetUserByIdOutput(
@@ -25,7 +26,8 @@ public record GetUserByIdOutput(
             user.isActive(),
             user.getCreatedAt(),
             user.getUpdatedAt(),
-            user.getDeletedAt()
+            user.getDeletedAt(),
+            user.getVersion()
         );
     }
 }
@@ -16,7 +16,7 @@ public non-sealed class DefaultListUsersUseCase extends ListUsersUseCase {
 
     @Override
     public Pagination<UserListOutput> execute(final SearchQuery aQuery) {
-        return this.userGateway.findAll(aQuery)
+        return this.userGateway.findAllPreviews(aQuery)
             .map(UserListOutput::from);
     }
 }
@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.starter.crudexample.domain.user.Role;
 import com.starter.crudexample.domain.user.User;
+import com.starter.crudexample.domain.user.UserPreview;
 
 public record UserListOutput(
     String id,
@@ -24,4 +25,15 @@ public record UserListOutput(
             user.getCreatedAt()
         );
     }
+
+    public static UserListOutput from(final UserPreview aPreview) {
+        return new UserListOutput(
+            aPreview.id(),
+            aPreview.username(),
+            aPreview.email(),
+            aPreview.roles(),
+            aPreview.active(),
+            aPreview.createdAt()
+        );
+    }
 }
@@ -0,0 +1,26 @@
+package com.starter.crudexample.application.user.retrieve.revision;
+
+import java.util.Objects;
+
+import com.starter.crudexample.domain.exceptions.NotFoundException;
+import com.starter.crudexample.domain.user.User;
+import com.starter.crudexample.domain.user.UserGateway;
+import com.starter.crudexample.domain.user.UserID;
+
+// Revisão atual sem hidratar o agregado: basta a versão para responder GETs condicionais
+public non-sealed class DefaultGetUserRevisionUseCase extends GetUserRevisionUseCase {
+
+    private final UserGateway userGateway;
+
+    public DefaultGetUserRevisionUseCase(final UserGateway userGateway) {
+        this.userGateway = Objects.requireNonNull(userGateway);
+    }
+
+    @Override
+    public UserRevisionOutput execute(final String anIn) {
+        final var anId = UserID.from(anIn);
+        return this.userGateway.findVersion(anId)
+            .map(version -> UserRevisionOutput.from(anId, version))
+            .orElseThrow(() -> NotFoundException.with(User.class, anId));
+    }
+}
@@ -0,0 +1,8 @@
+package com.starter.crudexample.application.user.retrieve.revision;
+
+import com.starter.crudexample.application.UseCase;
+
+public sealed abstract class GetUserRevisionUseCase
+    extends UseCase<String, UserRevisionOutput>
+    permits DefaultGetUserRevisionUseCase {
+}
@@ -0,0 +1,11 @@
+package com.starter.crudexample.application.user.retrieve.revision;
+
+
+import com.starter.crudexample.domain.user.UserID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
+
+public record UserRevisionOutput(String id, String revision) {
+    public static UserRevisionOutput from(final UserID anId, final long version) {
+        return new UserRevisionOutput(anId.getValue(), RevisionUtils.of(anId, version));
+    }
+}
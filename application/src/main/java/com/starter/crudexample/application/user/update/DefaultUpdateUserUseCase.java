@@ -1,15 +1,19 @@
 package com.starter.crudexample.application.user.update;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
 import com.starter.crudexample.domain.Identifier;
+import com.starter.crudexample.domain.exceptions.ConflictException;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.exceptions.PreconditionFailedException;
 import com.starter.crudexample.domain.user.PasswordHasher;
 import com.starter.crudexample.domain.user.User;
 import com.starter.crudexample.domain.user.UserGateway;
 import com.starter.crudexample.domain.user.UserID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
 import com.starter.crudexample.domain.validation.handler.Notification;
 
 public non-sealed class DefaultUpdateUserUseCase extends UpdateUserUseCase {
@@ -31,7 +35,7 @@ public non-sealed class DefaultUpdateUserUseCase extends UpdateUserUseCase {
         final var roles = aCommand.roles();
         final var isActive = aCommand.active();
 
-        final var aUser = this.userGateway.findById(anId).orElseThrow(notFound(anId));
+        final var aUser = load(anId, aCommand.revisions(), aCommand.version());
 
         final var notification = Notification.create();
 
@@ -53,6 +57,28 @@ public non-sealed class DefaultUpdateUserUseCase extends UpdateUserUseCase {
         return UpdateUserOutput.from(this.userGateway.update(aUser));
     }
 
+    // Sem bloqueio de linha: a revisão (If-Match) e a versão informadas são conferidas aqui e
+    // o gateway só grava se a versão no banco ainda for a lida, cobrindo escritas concorrentes.
+    // Com If-Match, a ausência do recurso também é uma pré-condição falha (412), não um 404
+    private User load(final UserID anId, final List<String> expectedRevisions, final Long expectedVersion) {
+        final var found = this.userGateway.findById(anId);
+        if (found.isEmpty() && expectedRevisions != null) {
+            throw PreconditionFailedException.with(User.class, anId);
+        }
+
+        final var aUser = found.orElseThrow(notFound(anId));
+
+        if (!RevisionUtils.matches(expectedRevisions, RevisionUtils.of(anId, aUser.getVersion()))) {
+            throw PreconditionFailedException.with(User.class, anId);
+        }
+
+        if (expectedVersion != null && expectedVersion != aUser.getVersion()) {
+            throw ConflictException.with(User.class, anId);
+        }
+
+        return aUser;
+    }
+
     private void notify(final Identifier anId, final Notification notification) {
         throw new NotificationException("Could not update Aggregate User %s".formatted(anId.getValue()), notification);
     }
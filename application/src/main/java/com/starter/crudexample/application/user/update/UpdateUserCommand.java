@@ -10,7 +10,9 @@ public record UpdateUserCommand(
     String email,
     String password, // pode ser null para não alterar
     List<Role> roles,
-    boolean active
+    boolean active,
+    List<String> revisions, // revisões aceitas (If-Match); null para não verificar
+    Long version // versão lida pelo cliente; null para não verificar
 ) {
     public static UpdateUserCommand with(
         final String id,
@@ -20,6 +22,31 @@ public record UpdateUserCommand(
         final List<Role> roles,
         final boolean active
     ) {
-        return new UpdateUserCommand(id, username, email, password, roles, active);
+        return with(id, username, email, password, roles, active, null);
+    }
+
+    public static UpdateUserCommand with(
+        final String id,
+        final String username,
+        final String email,
+        final String password,
+        final List<Role> roles,
+        final boolean active,
+        final String revision
+    ) {
+        return with(id, username, email, password, roles, active, revision == null ? null : List.of(revision), null);
+    }
+
+    public static UpdateUserCommand with(
+        final String id,
+        final String username,
+        final String email,
+        final String password,
+        final List<Role> roles,
+        final boolean active,
+        final List<String> revisions,
+        final Long version
+    ) {
+        return new UpdateUserCommand(id, username, email, password, roles, active, revisions, version);
     }
 }
@@ -1,9 +1,8 @@
 package com.starter.crudexample.application.user.update;
 
 import com.starter.crudexample.domain.user.User;
-import com.starter.crudexample.domain.user.UserID;
 
-public record UpdateUserOutput(String id) {
-    public static UpdateUserOutput from(final UserID anId) { return new UpdateUserOutput(anId.getValue()); }
-    public static UpdateUserOutput from(final User aUser) { return from(aUser.getId()); }
+// version é a nova versão gravada: o cliente a reenvia (ou o ETag dela) na próxima alteração
+public record UpdateUserOutput(String id, long version) {
+    public static UpdateUserOutput from(final User aUser) { return new UpdateUserOutput(aUser.getId().getValue(), aUser.getVersion()); }
 }
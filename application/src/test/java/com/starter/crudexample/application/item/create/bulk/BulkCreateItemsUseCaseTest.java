@@ -0,0 +1,95 @@
+package com.starter.crudexample.application.item.create.bulk;
+
+import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.item.ItemGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Objects;
+
+public class BulkCreateItemsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateItemsUseCase useCase;
+
+    @Mock
+    private ItemGateway itemGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(itemGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsBulkCreate_shouldCreateAllInOneCall() {
+        // given
+        final var aCommand = BulkCreateItemsCommand.with(List.of(
+                CreateItemCommand.with("Notebook", "Item 1 description", 10.0),
+                CreateItemCommand.with("Celular", "Item 2 description", 20.0),
+                CreateItemCommand.with("Tablet", "Item 3 description", 30.0)));
+
+        when(itemGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertEquals(3, actualOutput.ids().size());
+        Assertions.assertTrue(actualOutput.ids().stream().allMatch(Objects::nonNull));
+
+        verify(itemGateway, times(1)).createAll(argThat(items ->
+                items.size() == 3
+                        && Objects.equals("Notebook", items.get(0).getName())
+                        && Objects.equals("Celular", items.get(1).getName())
+                        && Objects.equals("Tablet", items.get(2).getName())));
+    }
+
+    @Test
+    public void givenInvalidRows_whenCallsBulkCreate_shouldReportEveryRowAndCreateNothing() {
+        // given
+        final var aCommand = BulkCreateItemsCommand.with(List.of(
+                CreateItemCommand.with("Notebook", "Item 1 description", 10.0),
+                CreateItemCommand.with(null, "Item 2 description", 20.0),
+                CreateItemCommand.with("Tablet", "Item 3 description", -1.0)));
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            useCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertEquals(2, actualException.getErrors().size());
+        Assertions.assertEquals("items[1]: 'name' should not be null", actualException.getErrors().get(0).message());
+        Assertions.assertEquals("items[2]: 'price' should not be negative", actualException.getErrors().get(1).message());
+
+        verify(itemGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenAnEmptyCommand_whenCallsBulkCreate_shouldThrowsNotificationException() {
+        // given
+        final var aCommand = BulkCreateItemsCommand.with(List.of());
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            useCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertEquals(1, actualException.getErrors().size());
+        Assertions.assertEquals("'items' should not be empty", actualException.getErrors().get(0).message());
+
+        verify(itemGateway, times(0)).createAll(any());
+    }
+}
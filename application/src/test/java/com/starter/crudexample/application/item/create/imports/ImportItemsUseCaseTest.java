@@ -0,0 +1,137 @@
+package com.starter.crudexample.application.item.create.imports;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+
+public class ImportItemsUseCaseTest extends UseCaseTest {
+
+    private DefaultImportItemsUseCase useCase;
+
+    @Mock
+    private ItemGateway itemGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(itemGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultImportItemsUseCase(itemGateway, 2, 4, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void givenValidAndInvalidRows_whenCallsImport_shouldWriteValidRowsInGrowingChunksAndReportTheRest() {
+        // given
+        final var rows = new ArrayList<CreateItemCommand>();
+        IntStream.rangeClosed(1, 7).forEach(i -> rows.add(CreateItemCommand.with("Item " + i, "Description", 10.0 * i)));
+        rows.add(2, CreateItemCommand.with(null, "Description", 10.0));
+        rows.add(5, null);
+
+        final var actualChunks = new ArrayList<List<String>>();
+        when(itemGateway.createAll(any())).thenAnswer(invocation -> {
+            final List<Item> chunk = invocation.getArgument(0);
+            actualChunks.add(chunk.stream().map(Item::getName).toList());
+            return List.copyOf(chunk);
+        });
+
+        final var actualErrors = new ArrayList<ImportItemsError>();
+
+        // when
+        final var actualOutput = useCase.execute(ImportItemsCommand.with(rows.iterator(), actualErrors::add));
+
+        // then
+        Assertions.assertEquals(7, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+
+        // começa com o mínimo (2) e soma 2 a cada lote rápido, até o máximo (4)
+        Assertions.assertEquals(List.of(
+                List.of("Item 1", "Item 2"),
+                List.of("Item 3", "Item 4", "Item 5", "Item 6"),
+                List.of("Item 7")), actualChunks);
+
+        Assertions.assertEquals(2, actualErrors.size());
+        Assertions.assertEquals(3, actualErrors.get(0).row());
+        Assertions.assertEquals("'name' should not be null", actualErrors.get(0).errors().get(0).message());
+        Assertions.assertEquals(6, actualErrors.get(1).row());
+        Assertions.assertEquals("could not be parsed", actualErrors.get(1).errors().get(0).message());
+    }
+
+    @Test
+    public void givenOnlyInvalidRows_whenCallsImport_shouldWriteNothing() {
+        // given
+        final var rows = Arrays.asList(CreateItemCommand.with("", "Description", 10.0), null);
+        final var actualErrors = new ArrayList<ImportItemsError>();
+
+        // when
+        final var actualOutput = useCase.execute(ImportItemsCommand.with(rows.iterator(), actualErrors::add));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+        Assertions.assertEquals(2, actualErrors.size());
+        verify(itemGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAChunkThatFailsToWrite_whenCallsImport_shouldStopAndReturnAPartialSummary() {
+        // given
+        final var rows = new ArrayList<CreateItemCommand>();
+        IntStream.rangeClosed(1, 8).forEach(i -> rows.add(CreateItemCommand.with("Item " + i, "Description", 10.0 * i)));
+        final var remaining = rows.iterator();
+
+        when(itemGateway.createAll(any()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<List<Item>>getArgument(0)))
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        final var actualErrors = new ArrayList<ImportItemsError>();
+
+        // when
+        final var actualOutput = useCase.execute(ImportItemsCommand.with(remaining, actualErrors::add));
+
+        // then
+        Assertions.assertEquals(ImportItemsOutput.aborted(2, 0), actualOutput);
+        Assertions.assertFalse(actualOutput.complete());
+
+        Assertions.assertEquals(1, actualErrors.size());
+        Assertions.assertEquals(3, actualErrors.get(0).row());
+
+        // as linhas depois do lote que falhou não são lidas
+        Assertions.assertTrue(remaining.hasNext());
+    }
+
+    @Test
+    public void givenASlowChunk_whenRecordingItsLatency_shouldHalveTheChunkSize() {
+        // given
+        final var chunkSize = new ChunkSize(100, 1_000, Duration.ofMillis(200));
+        IntStream.range(0, 5).forEach(i -> chunkSize.record(Duration.ofMillis(50).toNanos()));
+        Assertions.assertEquals(600, chunkSize.current());
+
+        // when
+        chunkSize.record(Duration.ofMillis(500).toNanos());
+
+        // then
+        Assertions.assertEquals(300, chunkSize.current());
+
+        IntStream.range(0, 10).forEach(i -> chunkSize.record(Duration.ofSeconds(1).toNanos()));
+        Assertions.assertEquals(100, chunkSize.current());
+    }
+}
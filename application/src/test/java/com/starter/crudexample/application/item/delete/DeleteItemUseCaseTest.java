@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
@@ -15,6 +16,7 @@ import org.mockito.Mock;
 
 import com.starter.crudexample.application.UseCaseTest;
 import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
 import com.starter.crudexample.domain.item.ItemGateway;
 import com.starter.crudexample.domain.item.ItemID;
 
@@ -25,9 +27,12 @@ public class DeleteItemUseCaseTest extends UseCaseTest {
     @Mock
     private ItemGateway itemGateway;
 
+    @Mock
+    private ItemArchiveGateway itemArchiveGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(itemGateway);
+        return List.of(itemGateway, itemArchiveGateway);
     }
 
     @Test
@@ -45,12 +50,32 @@ public class DeleteItemUseCaseTest extends UseCaseTest {
 
         // then
         verify(itemGateway).deleteById(eq(expectedId));
+        verify(itemArchiveGateway).deleteById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAnArchivedItemId_whenCallsDeleteItem_shouldDeleteItFromTheArchive() {
+        // given
+        final var expectedId = ItemID.unique();
+
+        doNothing()
+                .when(itemGateway).deleteById(any());
+        doNothing()
+                .when(itemArchiveGateway).deleteById(any());
+
+        // when
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        // then
+        final var inOrder = inOrder(itemGateway, itemArchiveGateway);
+        inOrder.verify(itemGateway).deleteById(eq(expectedId));
+        inOrder.verify(itemArchiveGateway).deleteById(eq(expectedId));
     }
 
     @Test
     public void givenAnInvalidId_whenCallsDeleteItem_shouldBeOk() {
         // given
-        final var expectedId = ItemID.from("invalid-id");
+        final var expectedId = ItemID.unique();
 
         doNothing()
                 .when(itemGateway).deleteById(any());
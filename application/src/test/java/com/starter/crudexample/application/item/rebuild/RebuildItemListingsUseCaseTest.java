@@ -0,0 +1,66 @@
+package com.starter.crudexample.application.item.rebuild;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+
+public class RebuildItemListingsUseCaseTest extends UseCaseTest {
+
+    private DefaultRebuildItemListingsUseCase useCase;
+
+    @Mock
+    private ItemListingGateway itemListingGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(itemListingGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultRebuildItemListingsUseCase(itemListingGateway, 16);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsRebuild_shouldReturnRebuiltCount() {
+        // given
+        final var expectedPartitions = 4;
+        final var expectedRebuilt = 1_000L;
+
+        when(itemListingGateway.rebuild(expectedPartitions)).thenReturn(expectedRebuilt);
+
+        // when
+        final var actualOutput = useCase.execute(RebuildItemListingsCommand.with(expectedPartitions));
+
+        // then
+        Assertions.assertEquals(expectedPartitions, actualOutput.partitions());
+        Assertions.assertEquals(expectedRebuilt, actualOutput.rebuilt());
+    }
+
+    @Test
+    public void givenTooManyPartitions_whenCallsRebuild_shouldReturnDomainException() {
+        // given
+        final var expectedErrorMessage = "'partitions' must be between 1 and 16";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(RebuildItemListingsCommand.with(17)));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(itemListingGateway, never()).rebuild(anyInt());
+    }
+}
@@ -0,0 +1,63 @@
+package com.starter.crudexample.application.item.retrieve.export;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemPreview;
+
+public class ExportItemsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportItemsUseCase useCase;
+
+    @Mock
+    private ItemGateway itemGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(itemGateway);
+    }
+
+    @Test
+    public void givenATerm_whenCallsExportItems_shouldForwardEveryRowToTheConsumer() {
+        // given
+        final var previews = List.of(
+                ItemPreview.from(Item.newItem("Smartphone", "A smartphone description", 100.0)),
+                ItemPreview.from(Item.newItem("Laptop", "A laptop description", 1500.0)));
+
+        final var expectedTerms = "phone";
+        final var expectedRows = previews.stream()
+                .map(ItemListOutput::from)
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<ItemPreview> consumer = invocation.getArgument(1);
+            previews.forEach(consumer);
+            return null;
+        }).when(itemGateway).exportAll(eq(expectedTerms), any());
+
+        final var actualRows = new ArrayList<ItemListOutput>();
+
+        // when
+        useCase.execute(ExportItemsCommand.with(expectedTerms, actualRows::add));
+
+        // then
+        Assertions.assertEquals(expectedRows, actualRows);
+        verify(itemGateway).exportAll(eq(expectedTerms), any(Consumer.class));
+    }
+}
@@ -2,6 +2,7 @@ package com.starter.crudexample.application.item.retrieve.get;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -15,6 +16,7 @@ import org.mockito.Mock;
 import com.starter.crudexample.application.UseCaseTest;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
 import com.starter.crudexample.domain.item.ItemGateway;
 import com.starter.crudexample.domain.item.ItemID;
 
@@ -26,9 +28,12 @@ public class GetItemByIdUseCaseTest extends UseCaseTest {
     @Mock
     private ItemGateway itemGateway;
 
+    @Mock
+    private ItemArchiveGateway itemArchiveGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(itemGateway);
+        return List.of(itemGateway, itemArchiveGateway);
     }
 
     @Test
@@ -56,12 +61,35 @@ public class GetItemByIdUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(aItem.getCreatedAt(), actualOutput.createdAt());
 
         verify(itemGateway).findById(eq(expectedId));
+        verifyNoInteractions(itemArchiveGateway);
+    }
+
+    @Test
+    public void givenAnArchivedItem_whenCallsGetItem_shouldFallBackToTheArchive() {
+        // given
+        final var aItem = Item.newItem("Smartphone", "Latest smartphone model", 999.99);
+        final var expectedId = aItem.getId();
+
+        when(itemGateway.findById(eq(expectedId)))
+                .thenReturn(Optional.empty());
+        when(itemArchiveGateway.findById(eq(expectedId)))
+                .thenReturn(Optional.of(aItem));
+
+        // when
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertEquals(aItem.getName(), actualOutput.name());
+
+        verify(itemGateway).findById(eq(expectedId));
+        verify(itemArchiveGateway).findById(eq(expectedId));
     }
 
     @Test
     public void givenAInvalidId_whenCallsGetItemAndDoesNotExists_shouldReturnNotFoundException() {
         // given
-        final var expectedId = "123";
+        final var expectedId = ItemID.unique().getValue();
 
         when(itemGateway.findById(eq(ItemID.from(expectedId))))
                 .thenReturn(Optional.empty());
@@ -73,8 +101,26 @@ public class GetItemByIdUseCaseTest extends UseCaseTest {
         );
 
         // then
-        Assertions.assertEquals("Item with ID 123 was not found", actualException.getMessage());
+        Assertions.assertEquals("Item with ID %s was not found".formatted(expectedId), actualException.getMessage());
 
         verify(itemGateway).findById(eq(ItemID.from(expectedId)));
+        verify(itemArchiveGateway).findById(eq(ItemID.from(expectedId)));
+    }
+
+    @Test
+    public void givenAMalformedId_whenCallsGetItem_shouldReturnNotFoundWithoutQuerying() {
+        // given
+        final var expectedId = "123";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId)
+        );
+
+        // then
+        Assertions.assertEquals("Item with ID 123 was not found", actualException.getMessage());
+
+        verifyNoInteractions(itemGateway, itemArchiveGateway);
     }
 }
@@ -14,7 +14,8 @@ import org.mockito.Mock;
 
 import com.starter.crudexample.application.UseCaseTest;
 import com.starter.crudexample.domain.item.Item;
-import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.domain.item.ItemPreview;
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
 
@@ -24,11 +25,11 @@ public class ListItemsUseCaseTest extends UseCaseTest {
     private DefaultListItemsUseCase useCase;
 
     @Mock
-    private ItemGateway itemGateway;
+    private ItemListingGateway itemListingGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(itemGateway);
+        return List.of(itemListingGateway);
     }
 
     @Test
@@ -45,7 +46,11 @@ public class ListItemsUseCaseTest extends UseCaseTest {
         final var expectedDirection = "asc";
         final var expectedTotal = 2;
 
-        final var expectedItems = items.stream()
+        final var previews = items.stream()
+                .map(ItemPreview::from)
+                .toList();
+
+        final var expectedItems = previews.stream()
                 .map(ItemListOutput::from)
                 .toList();
 
@@ -53,9 +58,9 @@ public class ListItemsUseCaseTest extends UseCaseTest {
                 expectedPage,
                 expectedPerPage,
                 expectedTotal,
-                items);
+                previews);
 
-        when(itemGateway.findAll(any()))
+        when(itemListingGateway.findAll(any()))
                 .thenReturn(expectedPagination);
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort,
@@ -70,13 +75,13 @@ public class ListItemsUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(itemGateway).findAll(eq(aQuery));
+        verify(itemListingGateway).findAll(eq(aQuery));
     }
 
     @Test
     public void givenAValidQuery_whenCallsListCastitemsAndResultIsEmpty_shouldReturn() {
         // given
-        final var items = List.<Item>of();
+        final var items = List.<ItemPreview>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -93,7 +98,7 @@ public class ListItemsUseCaseTest extends UseCaseTest {
                 expectedTotal,
                 items);
 
-        when(itemGateway.findAll(any()))
+        when(itemListingGateway.findAll(any()))
                 .thenReturn(expectedPagination);
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort,
@@ -108,7 +113,7 @@ public class ListItemsUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(itemGateway).findAll(eq(aQuery));
+        verify(itemListingGateway).findAll(eq(aQuery));
     }
 
      @Test
@@ -122,7 +127,7 @@ public class ListItemsUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Gateway error";
 
-        when(itemGateway.findAll(any()))
+        when(itemListingGateway.findAll(any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort,
@@ -136,6 +141,6 @@ public class ListItemsUseCaseTest extends UseCaseTest {
         // then
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(itemGateway).findAll(eq(aQuery));
+        verify(itemListingGateway).findAll(eq(aQuery));
     }
 }
@@ -0,0 +1,144 @@
+package com.starter.crudexample.application.item.retrieve.list.archived;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.CountMode;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+
+public class ListItemsWithArchiveUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListItemsWithArchiveUseCase useCase;
+
+    @Mock
+    private ItemListingGateway itemListingGateway;
+
+    @Mock
+    private ItemArchiveGateway itemArchiveGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(itemListingGateway, itemArchiveGateway);
+    }
+
+    @Test
+    public void givenActiveAndArchivedItems_whenCallsListWithArchive_shouldMergeThemInTheRequestedOrder() {
+        // given
+        final var apple = ItemPreview.from(Item.newItem("Apple", "Description", 1.0));
+        final var banana = ItemPreview.from(Item.newItem("banana", "Description", 2.0));
+        final var cherry = ItemPreview.from(Item.newItem("Cherry", "Description", 3.0));
+        final var date = ItemPreview.from(Item.newItem("Date", "Description", 4.0));
+
+        final var aQuery = new SearchQuery(1, 2, "", "name", "asc", null, CountMode.EXACT);
+        final var aWindowQuery = new SearchQuery(0, 4, "", "name", "asc", null, CountMode.EXACT);
+
+        when(itemListingGateway.findAll(eq(aWindowQuery)))
+                .thenReturn(new Pagination<>(0, 4, 2, List.of(apple, date), false, null));
+        when(itemArchiveGateway.findAll(eq(aWindowQuery)))
+                .thenReturn(new Pagination<>(0, 4, 3, List.of(banana, cherry), true, null));
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(1, actualOutput.currentPage());
+        Assertions.assertEquals(2, actualOutput.perPage());
+        Assertions.assertEquals(5, actualOutput.total());
+        Assertions.assertTrue(actualOutput.hasNext());
+        Assertions.assertEquals(List.of(ItemListOutput.from(cherry), ItemListOutput.from(date)), actualOutput.items());
+    }
+
+    @Test
+    public void givenNamesWithSpacesAndAccents_whenCallsListWithArchive_shouldMergeThemByTheBinaryNameKey() {
+        // given
+        final var aBox = ItemPreview.from(Item.newItem("a box", "Description", 1.0));
+        final var aCup = ItemPreview.from(Item.newItem("A Cup", "Description", 2.0));
+        final var abacus = ItemPreview.from(Item.newItem("abacus", "Description", 3.0));
+        final var abbey = ItemPreview.from(Item.newItem("Abbey", "Description", 4.0));
+        final var ezra = ItemPreview.from(Item.newItem("ezra", "Description", 5.0));
+        final var eclair = ItemPreview.from(Item.newItem("Éclair", "Description", 6.0));
+
+        final var aQuery = new SearchQuery(0, 6, "", "name", "asc", null, CountMode.EXACT);
+
+        // cada fonte vem na ordem do banco (utf8mb4_0900_bin): o espaço vem antes das letras e o É depois do Z
+        when(itemListingGateway.findAll(eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 6, 3, List.of(aBox, abacus, eclair), false, null));
+        when(itemArchiveGateway.findAll(eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 6, 3, List.of(aCup, abbey, ezra), false, null));
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(
+                Stream.of(aBox, aCup, abacus, abbey, ezra, eclair).map(ItemListOutput::from).toList(),
+                actualOutput.items());
+    }
+
+    @Test
+    public void givenAnUnknownTotal_whenCallsListWithArchive_shouldNotAddTheCounts() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "price", "desc", null, CountMode.NONE);
+
+        when(itemListingGateway.findAll(eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of(), false, null));
+        when(itemArchiveGateway.findAll(eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of(), false, null));
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualOutput.total());
+        Assertions.assertFalse(actualOutput.hasNext());
+
+        verify(itemArchiveGateway).findAll(eq(aQuery));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListWithArchive_shouldReturnDomainException() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc", "cursor", CountMode.EXACT);
+        final var expectedErrorMessage = "Listing archived items does not support cursor pagination";
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verifyNoInteractions(itemListingGateway, itemArchiveGateway);
+    }
+
+    @Test
+    public void givenRelevanceSort_whenCallsListWithArchive_shouldReturnDomainException() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "phone", "relevance", "asc", null, CountMode.EXACT);
+        final var expectedErrorMessage = "Listing archived items does not support sort 'relevance'";
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verifyNoInteractions(itemListingGateway, itemArchiveGateway);
+    }
+}
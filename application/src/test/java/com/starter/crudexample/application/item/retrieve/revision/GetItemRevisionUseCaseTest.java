@@ -0,0 +1,96 @@
+package com.starter.crudexample.application.item.retrieve.revision;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.domain.exceptions.NotFoundException;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
+
+public class GetItemRevisionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetItemRevisionUseCase useCase;
+
+    @Mock
+    private ItemGateway itemGateway;
+
+    @Mock
+    private ItemArchiveGateway itemArchiveGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(itemGateway, itemArchiveGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetItemRevision_shouldReturnItWithoutLoadingTheItem() {
+        // given
+        final var aItem = Item.newItem("Smartphone", "Latest smartphone model", 999.99);
+        final var expectedId = aItem.getId();
+        final var expectedRevision = RevisionUtils.of(expectedId, aItem.getVersion());
+
+        when(itemGateway.findVersion(eq(expectedId)))
+                .thenReturn(Optional.of(aItem.getUpdatedAt()));
+
+        // when
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertEquals(expectedRevision, actualOutput.revision());
+
+        verify(itemGateway).findVersion(eq(expectedId));
+    }
+
+    @Test
+    public void givenAnArchivedItem_whenCallsGetItemRevision_shouldReadItFromTheArchive() {
+        // given
+        final var aItem = Item.newItem("Smartphone", "Latest smartphone model", 999.99);
+        final var expectedId = aItem.getId();
+        final var expectedRevision = RevisionUtils.of(expectedId, aItem.getVersion());
+
+        when(itemGateway.findVersion(eq(expectedId)))
+                .thenReturn(Optional.empty());
+        when(itemArchiveGateway.findVersion(eq(expectedId)))
+                .thenReturn(Optional.of(aItem.getUpdatedAt()));
+
+        // when
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(expectedRevision, actualOutput.revision());
+
+        verify(itemArchiveGateway).findVersion(eq(expectedId));
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetItemRevision_shouldReturnNotFound() {
+        // given
+        final var expectedId = ItemID.unique();
+        final var expectedErrorMessage = "Item with ID %s was not found".formatted(expectedId.getValue());
+
+        when(itemGateway.findVersion(eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
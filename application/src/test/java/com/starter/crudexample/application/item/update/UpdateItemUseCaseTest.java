@@ -19,10 +19,14 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.never;
 
 import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.domain.exceptions.ConflictException;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.exceptions.PreconditionFailedException;
 import com.starter.crudexample.domain.item.Item;
 import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
 
 public class UpdateItemUseCaseTest extends UseCaseTest {
 
@@ -80,6 +84,133 @@ public class UpdateItemUseCaseTest extends UseCaseTest {
         ));
     }
     
+    @Test
+    public void givenTheCurrentRevision_whenCallsUpdateItem_shouldUpdateIt() {
+        //given
+        final var aItem = Item.newItem("Item 1", "Description 1", 10.0);
+        final var expectedId = aItem.getId();
+        final var expectedRevision = RevisionUtils.of(expectedId, aItem.getVersion());
+
+        final var aCommand = UpdateItemCommand.with(
+                expectedId.getValue(), "Item name updated", "Item description updated", 20.0, expectedRevision);
+
+        when(itemGateway.findById(any()))
+                .thenReturn(Optional.of(Item.with(aItem)));
+
+        when(itemGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        //when
+        final var actualOutput = useCase.execute(aCommand);
+
+        //then
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(itemGateway).findById(eq(expectedId));
+        verify(itemGateway).update(any());
+    }
+
+    @Test
+    public void givenAListOfRevisionsWithTheCurrentOne_whenCallsUpdateItem_shouldUpdateIt() {
+        //given
+        final var aItem = Item.newItem("Item 1", "Description 1", 10.0);
+        final var expectedId = aItem.getId();
+        final var expectedRevisions = List.of("stale", RevisionUtils.of(expectedId, aItem.getVersion()));
+
+        final var aCommand = UpdateItemCommand.with(
+                expectedId.getValue(), "Item name updated", "Item description updated", 20.0, expectedRevisions, null);
+
+        when(itemGateway.findById(any()))
+                .thenReturn(Optional.of(Item.with(aItem)));
+
+        when(itemGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        //when
+        final var actualOutput = useCase.execute(aCommand);
+
+        //then
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(itemGateway).update(any());
+    }
+
+    @Test
+    public void givenAnyRevisionAndAMissingItem_whenCallsUpdateItem_shouldThrowsPreconditionFailed() {
+        //given
+        final var expectedId = ItemID.unique();
+        final var expectedErrorMessage = "Item with ID %s does not match the expected revision".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateItemCommand.with(
+                expectedId.getValue(), "Item name updated", "Item description updated", 20.0, List.of(RevisionUtils.ANY), null);
+
+        when(itemGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                PreconditionFailedException.class, () -> useCase.execute(aCommand));
+
+        //then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(itemGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAStaleRevision_whenCallsUpdateItem_shouldThrowsPreconditionFailed() {
+        //given
+        final var aItem = Item.newItem("Item 1", "Description 1", 10.0);
+        final var expectedId = aItem.getId();
+        final var expectedErrorMessage = "Item with ID %s does not match the expected revision".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateItemCommand.with(
+                expectedId.getValue(), "Item name updated", "Item description updated", 20.0, "stale");
+
+        when(itemGateway.findById(any()))
+                .thenReturn(Optional.of(Item.with(aItem)));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                PreconditionFailedException.class, () -> useCase.execute(aCommand));
+
+        //then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(itemGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateItem_shouldThrowsConflict() {
+        //given
+        final var aItem = Item.newItem("Item 1", "Description 1", 10.0);
+        final var expectedId = aItem.getId();
+        final var expectedErrorMessage = "Item with ID %s was modified concurrently".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateItemCommand.with(
+                expectedId.getValue(), "Item name updated", "Item description updated", 20.0, null, 1L);
+
+        when(itemGateway.findById(any()))
+                .thenReturn(Optional.of(Item.with(
+                        expectedId,
+                        aItem.getName(),
+                        aItem.getDescription(),
+                        aItem.getPrice(),
+                        aItem.getCreatedAt(),
+                        aItem.getUpdatedAt(),
+                        null,
+                        2L)));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class, () -> useCase.execute(aCommand));
+
+        //then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(itemGateway, never()).update(any());
+    }
+
     @Test
     public void givenAInvalidName_whenCallsUpdateItem_shouldThrowsNotificationException() {
         //given
@@ -45,7 +45,7 @@ public class DeleteUserUseCaseTest extends UseCaseTest {
 
     @Test
     public void givenAnInvalidId_whenCallsDeleteUser_shouldBeOk() {
-        final var expectedId = UserID.from("invalid-id");
+        final var expectedId = UserID.unique();
         doNothing().when(userGateway).deleteById(any());
 
         Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
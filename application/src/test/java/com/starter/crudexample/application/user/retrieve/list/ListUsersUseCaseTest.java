@@ -19,6 +19,7 @@ import com.starter.crudexample.domain.pagination.SearchQuery;
 import com.starter.crudexample.domain.user.Role;
 import com.starter.crudexample.domain.user.User;
 import com.starter.crudexample.domain.user.UserGateway;
+import com.starter.crudexample.domain.user.UserPreview;
 
 public class ListUsersUseCaseTest extends UseCaseTest {
 
@@ -46,7 +47,11 @@ public class ListUsersUseCaseTest extends UseCaseTest {
         final var expectedDirection = "asc";
         final var expectedTotal = users.size();
 
-        final var expectedItems = users.stream()
+        final var previews = users.stream()
+            .map(UserPreview::from)
+            .toList();
+
+        final var expectedItems = previews.stream()
             .map(UserListOutput::from)
             .toList();
 
@@ -54,10 +59,10 @@ public class ListUsersUseCaseTest extends UseCaseTest {
             expectedPage,
             expectedPerPage,
             expectedTotal,
-            users
+            previews
         );
 
-        when(userGateway.findAll(any())).thenReturn(expectedPagination);
+        when(userGateway.findAllPreviews(any())).thenReturn(expectedPagination);
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
@@ -76,7 +81,7 @@ public class ListUsersUseCaseTest extends UseCaseTest {
     @Test
     public void givenAValidQuery_whenCallsListUsersAndResultIsEmpty_shouldReturn() {
         // given
-        final var users = List.<User>of();
+        final var users = List.<UserPreview>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -94,7 +99,7 @@ public class ListUsersUseCaseTest extends UseCaseTest {
             users
         );
 
-        when(userGateway.findAll(any())).thenReturn(expectedPagination);
+        when(userGateway.findAllPreviews(any())).thenReturn(expectedPagination);
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
@@ -120,7 +125,7 @@ public class ListUsersUseCaseTest extends UseCaseTest {
         final var expectedDirection = "asc";
         final var expectedErrorMessage = "Gateway error";
 
-        when(userGateway.findAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(userGateway.findAllPreviews(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
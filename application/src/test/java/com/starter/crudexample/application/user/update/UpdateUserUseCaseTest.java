@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import com.starter.crudexample.application.UseCaseTest;
+import com.starter.crudexample.domain.exceptions.ConflictException;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.exceptions.NotificationException;
 import com.starter.crudexample.domain.user.PasswordHasher;
@@ -152,4 +153,41 @@ public class UpdateUserUseCaseTest extends UseCaseTest {
         verify(passwordHasher, times(0)).hash(any());
         verify(userGateway).update(argThat(aUser -> Objects.equals("oldpass", aUser.getPassword())));
     }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateUser_shouldThrowConflict() {
+        final var existing = User.newUser("john", "john@old.com", "oldpass", List.of(Role.USER), true);
+        final var expectedId = existing.getId();
+        final var expectedErrorMessage = "User with ID %s was modified concurrently".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateUserCommand.with(
+            expectedId.getValue(),
+            "johnny",
+            "johnny@example.com",
+            null,
+            List.of(Role.USER),
+            true,
+            null,
+            1L
+        );
+
+        when(userGateway.findById(eq(expectedId))).thenReturn(Optional.of(User.with(
+            expectedId,
+            existing.getUsername(),
+            existing.getEmail(),
+            existing.getPassword(),
+            existing.getRoles(),
+            existing.isActive(),
+            existing.getCreatedAt(),
+            existing.getUpdatedAt(),
+            null,
+            2L
+        )));
+
+        final var ex = Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+        Assertions.assertEquals(expectedErrorMessage, ex.getMessage());
+
+        verify(userGateway, times(0)).update(any());
+        verify(passwordHasher, times(0)).hash(any());
+    }
 }
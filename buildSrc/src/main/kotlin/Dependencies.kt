@@ -10,6 +10,7 @@ object Libs {
     const val springBootStarterDataJpa = "org.springframework.boot:spring-boot-starter-data-jpa"
     const val springBootStarterSecurity = "org.springframework.boot:spring-boot-starter-security"
     const val springBootStarterValidation = "org.springframework.boot:spring-boot-starter-validation"
+    const val springBootStarterActuator = "org.springframework.boot:spring-boot-starter-actuator"
     const val springBootStarterTest = "org.springframework.boot:spring-boot-starter-test"
     const val springSecurityTest = "org.springframework.security:spring-security-test"
     const val springSecurityOauth2Jose = "org.springframework.security:spring-security-oauth2-jose"
@@ -26,6 +27,9 @@ object Libs {
     const val jjwtImpl = "io.jsonwebtoken:jjwt-impl:0.12.5"
     const val jjwtJackson = "io.jsonwebtoken:jjwt-jackson:0.12.5"
 
+    // Cache
+    const val caffeine = "com.github.ben-manes.caffeine:caffeine"
+
     // Flyway
     const val flywayCore = "org.flywaydb:flyway-core"
     const val flywayMysql = "org.flywaydb:flyway-mysql"
@@ -12,7 +12,8 @@ import java.util.Objects;
 public abstract class Entity<ID extends Identifier> {
 
     protected final ID id;
-    private final List<DomainEvent> domainEvents;
+    // Alocada só no primeiro evento: agregados lidos do banco raramente registram algum
+    private List<DomainEvent> domainEvents;
 
     protected Entity(final ID id) {
         this(id, null);
@@ -21,7 +22,9 @@ public abstract class Entity<ID extends Identifier> {
     protected Entity(final ID id, final List<DomainEvent> domainEvents) {
         Objects.requireNonNull(id, "'id' should not be null");
         this.id = id;
-        this.domainEvents = new ArrayList<>(domainEvents == null ? Collections.emptyList() : domainEvents);
+        if (domainEvents != null && !domainEvents.isEmpty()) {
+            this.domainEvents = new ArrayList<>(domainEvents);
+        }
     }
 
     public abstract void validate(ValidationHandler handler);
@@ -31,6 +34,9 @@ public abstract class Entity<ID extends Identifier> {
     }
 
     public List<DomainEvent> getDomainEvents() {
+        if (domainEvents == null) {
+            return Collections.emptyList();
+        }
         return Collections.unmodifiableList(domainEvents);
     }
 
@@ -42,7 +48,9 @@ public abstract class Entity<ID extends Identifier> {
         getDomainEvents()
                 .forEach(publisher::publishEvent);
 
-        this.domainEvents.clear();
+        if (this.domainEvents != null) {
+            this.domainEvents.clear();
+        }
     }
 
     public void registerEvent(final DomainEvent event) {
@@ -50,6 +58,10 @@ public abstract class Entity<ID extends Identifier> {
             return;
         }
 
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>();
+        }
+
         this.domainEvents.add(event);
     }
 
@@ -0,0 +1,24 @@
+package com.starter.crudexample.domain.exceptions;
+
+import java.util.Collections;
+
+import com.starter.crudexample.domain.AggregateRoot;
+import com.starter.crudexample.domain.Identifier;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String aMessage) {
+        super(aMessage, Collections.emptyList());
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s was modified concurrently".formatted(
+                anAggregate.getSimpleName(),
+                id.getValue()
+        );
+        return new ConflictException(anError);
+    }
+}
@@ -0,0 +1,24 @@
+package com.starter.crudexample.domain.exceptions;
+
+import java.util.Collections;
+
+import com.starter.crudexample.domain.AggregateRoot;
+import com.starter.crudexample.domain.Identifier;
+
+public class PreconditionFailedException extends DomainException {
+
+    protected PreconditionFailedException(final String aMessage) {
+        super(aMessage, Collections.emptyList());
+    }
+
+    public static PreconditionFailedException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s does not match the expected revision".formatted(
+                anAggregate.getSimpleName(),
+                id.getValue()
+        );
+        return new PreconditionFailedException(anError);
+    }
+}
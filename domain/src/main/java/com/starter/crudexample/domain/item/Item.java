@@ -16,6 +16,7 @@ public class Item extends AggregateRoot<ItemID>{
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
     
     protected Item(
         final ItemID anId,
@@ -24,7 +25,22 @@ public class Item extends AggregateRoot<ItemID>{
         final Double aPrice,
         final Instant aCreatedAt,
         final Instant aUpdatedAt,
-        final Instant aDeletedAt
+        final Instant aDeletedAt,
+        final long aVersion
+    ) {
+        this(anId, aName, aDescription, aPrice, aCreatedAt, aUpdatedAt, aDeletedAt, aVersion, true);
+    }
+
+    private Item(
+        final ItemID anId,
+        final String aName,
+        final String aDescription,
+        final Double aPrice,
+        final Instant aCreatedAt,
+        final Instant aUpdatedAt,
+        final Instant aDeletedAt,
+        final long aVersion,
+        final boolean shouldValidate
     ) {
         super(anId);
         this.name = aName;
@@ -33,13 +49,18 @@ public class Item extends AggregateRoot<ItemID>{
         this.createdAt = aCreatedAt;
         this.updatedAt = aUpdatedAt;
         this.deletedAt = aDeletedAt;
-        selfValidate();
+        this.version = aVersion;
+        if (shouldValidate) {
+            selfValidate();
+        }
     }
 
     public static Item newItem(final String aName, final String aDescription, final Double aPrice) {
         final var anId = ItemID.unique();
         final var now = InstantUtils.now();
-        return new Item(anId, aName, aDescription, aPrice, now, now, null);
+        final var anItem = new Item(anId, aName, aDescription, aPrice, now, now, null, 0L);
+        anItem.registerEvent(ItemCreated.from(anItem));
+        return anItem;
     }
 
     public static Item with(
@@ -51,9 +72,37 @@ public class Item extends AggregateRoot<ItemID>{
         final Instant aUpdatedAt,
         final Instant aDeletedAt
     ) {
-        return new Item(anId, aName, aDescription, aPrice, aCreatedAt, aUpdatedAt, aDeletedAt);
+        return with(anId, aName, aDescription, aPrice, aCreatedAt, aUpdatedAt, aDeletedAt, 0L);
     }
 
+    public static Item with(
+        final ItemID anId,
+        final String aName,
+        final String aDescription,
+        final Double aPrice,
+        final Instant aCreatedAt,
+        final Instant aUpdatedAt,
+        final Instant aDeletedAt,
+        final long aVersion
+    ) {
+        return new Item(anId, aName, aDescription, aPrice, aCreatedAt, aUpdatedAt, aDeletedAt, aVersion);
+    }
+
+    // Estado já persistido (validado na escrita): reconstrói sem passar pelo ItemValidator
+    public static Item rehydrate(
+        final ItemID anId,
+        final String aName,
+        final String aDescription,
+        final Double aPrice,
+        final Instant aCreatedAt,
+        final Instant aUpdatedAt,
+        final Instant aDeletedAt,
+        final long aVersion
+    ) {
+        return new Item(anId, aName, aDescription, aPrice, aCreatedAt, aUpdatedAt, aDeletedAt, aVersion, false);
+    }
+
+    // Cópia de um agregado já válido: toda alteração passa pelo selfValidate
     public static Item with(final Item aItem) {
         return new Item(
                 aItem.id,
@@ -62,7 +111,9 @@ public class Item extends AggregateRoot<ItemID>{
                 aItem.price,
                 aItem.createdAt,
                 aItem.updatedAt,
-                aItem.deletedAt
+                aItem.deletedAt,
+                aItem.version,
+                false
         );
     }
     
@@ -72,6 +123,7 @@ public class Item extends AggregateRoot<ItemID>{
         this.price = aPrice;
         this.updatedAt = InstantUtils.now();
         selfValidate();
+        registerEvent(ItemUpdated.from(this));
         return this;
     }
 
@@ -108,6 +160,10 @@ public class Item extends AggregateRoot<ItemID>{
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     private void selfValidate() {
         final var notification = Notification.create();
         validate(notification);
@@ -0,0 +1,20 @@
+package com.starter.crudexample.domain.item;
+
+import java.util.Optional;
+
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+
+// Itens frios, movidos para fora da tabela principal: não são editáveis, só excluídos
+public interface ItemArchiveGateway {
+
+    Optional<Item> findById(ItemID anId);
+
+    Optional<Long> findVersion(ItemID anId);
+
+    // Remove a cópia arquivada; sem efeito se o item não está no arquivo
+    void deleteById(ItemID anId);
+
+    // Paginação por offset; ordenações por name, price e createdAt
+    Pagination<ItemPreview> findAll(SearchQuery aQuery);
+}
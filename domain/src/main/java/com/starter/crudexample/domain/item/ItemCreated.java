@@ -0,0 +1,30 @@
+package com.starter.crudexample.domain.item;
+
+import java.time.Instant;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+
+// Carrega as colunas da listagem: o modelo de leitura é projetado sem reler o agregado
+public record ItemCreated(
+        String id,
+        String name,
+        String description,
+        Double price,
+        Instant createdAt,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static ItemCreated from(final Item anItem) {
+        return new ItemCreated(
+                anItem.getId().getValue(),
+                anItem.getName(),
+                anItem.getDescription(),
+                anItem.getPrice(),
+                anItem.getCreatedAt(),
+                anItem.getCreatedAt());
+    }
+
+    public ItemPreview preview() {
+        return new ItemPreview(id, name, description, price, createdAt);
+    }
+}
@@ -0,0 +1,14 @@
+package com.starter.crudexample.domain.item;
+
+import java.time.Instant;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+import com.starter.crudexample.domain.utils.InstantUtils;
+
+// A exclusão não carrega o agregado: o evento é emitido pelo gateway a partir do id
+public record ItemDeleted(String id, Instant occurredOn) implements DomainEvent {
+
+    public static ItemDeleted of(final ItemID anId) {
+        return new ItemDeleted(anId.getValue(), InstantUtils.now());
+    }
+}
@@ -2,6 +2,7 @@ package com.starter.crudexample.domain.item;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
@@ -10,13 +11,24 @@ public interface ItemGateway {
 
     Item create(Item anItem);
 
+    List<Item> createAll(List<Item> anItems);
+
     void deleteById(ItemID anId);
 
     Optional<Item> findById(ItemID anId);
 
+    Optional<Long> findVersion(ItemID anId);
+
+    // Falha com conflito se a versão do agregado não for mais a gravada no banco
     Item update(Item anItem);
 
     Pagination<Item> findAll(SearchQuery aQuery);
 
+    Pagination<ItemPreview> findAllPreviews(SearchQuery aQuery);
+
+    // Entrega cada item ao consumidor conforme é lido, sem carregar o resultado inteiro
+    void exportAll(String terms, Consumer<ItemPreview> aConsumer);
+
+    // Inclui itens removidos: o id continua ocupado e não pode ser criado de novo
     List<ItemID> existsByIds(Iterable<ItemID> ids);
 }
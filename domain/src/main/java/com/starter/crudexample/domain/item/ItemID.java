@@ -3,7 +3,9 @@ package com.starter.crudexample.domain.item;
 import java.util.Objects;
 
 import com.starter.crudexample.domain.Identifier;
+import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.utils.IdUtils;
+import com.starter.crudexample.domain.validation.Error;
 
 public class ItemID extends Identifier {
 
@@ -18,8 +20,14 @@ public class ItemID extends Identifier {
         return ItemID.from(IdUtils.uuid());
     }
 
+    // Um valor que não é UUID não identifica nenhum Item: 404 já na borda, antes de chegar ao banco
     public static ItemID from(final String anId) {
-        return new ItemID(anId);
+        Objects.requireNonNull(anId);
+        final var value = IdUtils.normalize(anId);
+        if (value == null) {
+            throw NotFoundException.with(new Error("Item with ID %s was not found".formatted(anId)));
+        }
+        return new ItemID(value);
     }
 
     @Override
@@ -0,0 +1,14 @@
+package com.starter.crudexample.domain.item;
+
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+
+// Lado de leitura da listagem: um modelo desnormalizado, mantido a partir dos eventos do Item
+public interface ItemListingGateway {
+
+    Pagination<ItemPreview> findAll(SearchQuery aQuery);
+
+    // Reprojeta todos os itens a partir da tabela de escrita, em partições processadas em paralelo;
+    // devolve quantos itens foram projetados
+    long rebuild(int partitions);
+}
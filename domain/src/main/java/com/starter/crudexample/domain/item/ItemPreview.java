@@ -0,0 +1,33 @@
+package com.starter.crudexample.domain.item;
+
+import java.time.Instant;
+import java.util.Locale;
+
+// Somente leitura: colunas exibidas nas listagens, sem hidratar nem revalidar o agregado
+public record ItemPreview(
+        String id,
+        String name,
+        String description,
+        Double price,
+        Instant createdAt
+) {
+
+    public static ItemPreview from(final Item anItem) {
+        return new ItemPreview(
+                anItem.getId().getValue(),
+                anItem.getName(),
+                anItem.getDescription(),
+                anItem.getPrice(),
+                anItem.getCreatedAt());
+    }
+
+    // Chave de ordenação do nome, gravada em name_key: sem espaços nas pontas e em maiúsculas. O banco
+    // a compara byte a byte (utf8mb4_0900_bin), que é a ordem dos code points
+    public static String nameKey(final String aName) {
+        return aName.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public String nameKey() {
+        return nameKey(name);
+    }
+}
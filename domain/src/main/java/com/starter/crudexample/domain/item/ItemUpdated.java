@@ -0,0 +1,29 @@
+package com.starter.crudexample.domain.item;
+
+import java.time.Instant;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+
+public record ItemUpdated(
+        String id,
+        String name,
+        String description,
+        Double price,
+        Instant createdAt,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static ItemUpdated from(final Item anItem) {
+        return new ItemUpdated(
+                anItem.getId().getValue(),
+                anItem.getName(),
+                anItem.getDescription(),
+                anItem.getPrice(),
+                anItem.getCreatedAt(),
+                anItem.getUpdatedAt());
+    }
+
+    public ItemPreview preview() {
+        return new ItemPreview(id, name, description, price, createdAt);
+    }
+}
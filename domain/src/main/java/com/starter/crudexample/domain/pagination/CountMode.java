@@ -0,0 +1,25 @@
+package com.starter.crudexample.domain.pagination;
+
+import java.util.Arrays;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.validation.Error;
+
+/**
+ * Estratégia usada para preencher {@link Pagination#total()}.
+ */
+public enum CountMode {
+    // total exato, calculado com COUNT(*) a cada consulta
+    EXACT,
+    // total aproximado, servido de um cache e recalculado em segundo plano
+    ESTIMATED,
+    // sem COUNT(*): total = Pagination.UNKNOWN_TOTAL e hasNext vem da leitura de perPage + 1 linhas
+    NONE;
+
+    public static CountMode of(final String aValue) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aValue))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'count' must be one of exact, estimated or none")));
+    }
+}
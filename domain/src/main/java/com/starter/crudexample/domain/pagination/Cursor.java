@@ -0,0 +1,56 @@
+package com.starter.crudexample.domain.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.validation.Error;
+
+/**
+ * Token opaco de paginação por keyset: guarda a ordenação para a qual foi emitido, o valor
+ * da chave de ordenação e o id da última linha entregue, usado como critério de desempate.
+ */
+public record Cursor(String sort, String direction, String key, String id) {
+
+    private static final String SEPARATOR = ":";
+    private static final int PARTS = 4;
+
+    public Cursor {
+        Objects.requireNonNull(sort);
+        Objects.requireNonNull(direction);
+        // Colunas anuláveis não servem de chave: "null" seria comparado como texto
+        Objects.requireNonNull(key, "Cursor pagination requires a non-null sort key");
+        Objects.requireNonNull(id);
+    }
+
+    public static Cursor of(final String aSort, final String aDirection, final String aKey, final String anId) {
+        return new Cursor(aSort, aDirection.toLowerCase(), aKey, anId);
+    }
+
+    public static Cursor decode(final String aToken) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            // A chave vem por último: pode conter o separador
+            final var parts = raw.split(SEPARATOR, PARTS);
+            if (parts.length == PARTS && !parts[0].isEmpty() && !parts[2].isEmpty()) {
+                return new Cursor(parts[0], parts[1], parts[3], parts[2]);
+            }
+        } catch (final IllegalArgumentException ignored) {
+        }
+        throw DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+
+    // Um cursor só continua a ordenação que o emitiu
+    public Cursor requireFor(final String aSort, final String aDirection) {
+        if (!this.sort.equals(aSort) || !this.direction.equalsIgnoreCase(aDirection)) {
+            throw DomainException.with(new Error("'after' was issued for a different sort"));
+        }
+        return this;
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction, id, key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
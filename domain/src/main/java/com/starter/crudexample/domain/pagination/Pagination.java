@@ -3,18 +3,36 @@ package com.starter.crudexample.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * O significado de {@code total} depende do {@link CountMode} da consulta:
+ * EXACT traz a contagem exata, ESTIMATED uma contagem possivelmente defasada
+ * e NONE devolve {@link #UNKNOWN_TOTAL}; nesse caso use {@code hasNext}.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        boolean hasNext,
+        String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, hasNext(), nextCursor());
     }
-}
\ No newline at end of file
+}
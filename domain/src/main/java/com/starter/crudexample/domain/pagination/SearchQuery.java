@@ -1,10 +1,60 @@
 package com.starter.crudexample.domain.pagination;
 
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.validation.Error;
+
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        CountMode count
 ) {
-}
\ No newline at end of file
+
+    // Sem modo explícito: o keyset dispensa o COUNT(*), que custaria a cada página o que o cursor economiza
+    public SearchQuery {
+        if (page < 0 || perPage < 1) {
+            throw DomainException.with(new Error("'page' must be zero or positive and 'perPage' must be positive"));
+        }
+        // offset + perPage + 1 (linha de sondagem do hasNext) precisa caber em int para o LIMIT/OFFSET
+        if ((long) page * perPage + perPage + 1 > Integer.MAX_VALUE) {
+            throw DomainException.with(new Error("'page' is too large for 'perPage'"));
+        }
+        if (count == null) {
+            count = after != null && !after.isBlank() ? CountMode.NONE : CountMode.EXACT;
+        }
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, CountMode.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, CountMode.EXACT);
+    }
+
+    // Seguro contra overflow: o construtor limita page * perPage
+    public int offset() {
+        return page * perPage;
+    }
+
+    // Quando presente, a busca segue a partir do cursor (keyset) em vez de usar o offset da página
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
+}
@@ -20,6 +20,7 @@ public class User extends AggregateRoot<UserID> {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     public User(
         final UserID anId,
@@ -30,7 +31,8 @@ public class User extends AggregateRoot<UserID> {
         final boolean isActive,
         final Instant aCreatedAt,
         final Instant aUpdatedAt,
-        final Instant aDeletedAt
+        final Instant aDeletedAt,
+        final long aVersion
     ) {
         super(anId);
         this.username = aUsername;
@@ -40,7 +42,8 @@ public class User extends AggregateRoot<UserID> {
         this.active = isActive;
         this.createdAt = Objects.requireNonNull(aCreatedAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdatedAt, "'updatedAt' should not be null");
-    this.deletedAt = aDeletedAt;
+        this.deletedAt = aDeletedAt;
+        this.version = aVersion;
     }
 
     public static User newUser(
@@ -62,7 +65,8 @@ public class User extends AggregateRoot<UserID> {
             isActive,
             now,
             now,
-            deletedAt
+            deletedAt,
+            0L
         );
     }
     public static User with(
@@ -75,6 +79,48 @@ public class User extends AggregateRoot<UserID> {
         final Instant aCreatedAt,
         final Instant aUpdatedAt,
         final Instant aDeletedAt
+    ) {
+        return with(anId, aUsername, anEmail, aPassword, aRoles, isActive, aCreatedAt, aUpdatedAt, aDeletedAt, 0L);
+    }
+
+    public static User with(
+        final UserID anId,
+        final String aUsername,
+        final String anEmail,
+        final String aPassword,
+        final List<Role> aRoles,
+        final boolean isActive,
+        final Instant aCreatedAt,
+        final Instant aUpdatedAt,
+        final Instant aDeletedAt,
+        final long aVersion
+    ) {
+        return new User(
+            anId,
+            aUsername,
+            anEmail,
+            aPassword,
+            aRoles,
+            isActive,
+            aCreatedAt,
+            aUpdatedAt,
+            aDeletedAt,
+            aVersion
+        );
+    }
+
+    // Estado já persistido: usado pelos adapters de persistência ao reconstruir o agregado
+    public static User rehydrate(
+        final UserID anId,
+        final String aUsername,
+        final String anEmail,
+        final String aPassword,
+        final List<Role> aRoles,
+        final boolean isActive,
+        final Instant aCreatedAt,
+        final Instant aUpdatedAt,
+        final Instant aDeletedAt,
+        final long aVersion
     ) {
         return new User(
             anId,
@@ -85,7 +131,8 @@ public class User extends AggregateRoot<UserID> {
             isActive,
             aCreatedAt,
             aUpdatedAt,
-            aDeletedAt
+            aDeletedAt,
+            aVersion
         );
     }
 
@@ -99,7 +146,8 @@ public class User extends AggregateRoot<UserID> {
             aUser.active,
             aUser.createdAt,
             aUser.updatedAt,
-            aUser.deletedAt
+            aUser.deletedAt,
+            aUser.version
         );
     }
     
@@ -156,6 +204,10 @@ public class User extends AggregateRoot<UserID> {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public UserID getId() { return id; }
 
     public User update(
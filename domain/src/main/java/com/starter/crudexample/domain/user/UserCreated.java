@@ -0,0 +1,27 @@
+package com.starter.crudexample.domain.user;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+
+// Sem a senha: o evento sai do serviço pelo outbox
+public record UserCreated(
+        String id,
+        String username,
+        String email,
+        List<Role> roles,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static UserCreated from(final User aUser) {
+        return new UserCreated(
+                aUser.getId().getValue(),
+                aUser.getUsername(),
+                aUser.getEmail(),
+                aUser.getRoles() == null ? List.of() : List.copyOf(aUser.getRoles()),
+                aUser.isActive(),
+                aUser.getCreatedAt());
+    }
+}
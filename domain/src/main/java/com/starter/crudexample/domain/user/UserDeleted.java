@@ -0,0 +1,13 @@
+package com.starter.crudexample.domain.user;
+
+import java.time.Instant;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+import com.starter.crudexample.domain.utils.InstantUtils;
+
+public record UserDeleted(String id, Instant occurredOn) implements DomainEvent {
+
+    public static UserDeleted of(final UserID anId) {
+        return new UserDeleted(anId.getValue(), InstantUtils.now());
+    }
+}
@@ -14,10 +14,15 @@ public interface UserGateway {
 
     Optional<User> findById(UserID anId);
 
+    Optional<Long> findVersion(UserID anId);
+
+    // Falha com conflito se a versão do agregado não for mais a gravada no banco
     User update(User aUser);
 
     Pagination<User> findAll(SearchQuery aQuery);
 
+    Pagination<UserPreview> findAllPreviews(SearchQuery aQuery);
+
     List<UserID> existsByIds(Iterable<UserID> ids);
 
     boolean existsByEmail(String email);
@@ -3,7 +3,9 @@ package com.starter.crudexample.domain.user;
 import java.util.Objects;
 
 import com.starter.crudexample.domain.Identifier;
+import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.utils.IdUtils;
+import com.starter.crudexample.domain.validation.Error;
 
 public class UserID extends Identifier {
 
@@ -18,8 +20,14 @@ public class UserID extends Identifier {
         return UserID.from(IdUtils.uuid());
     }
 
+    // Um valor que não é UUID não identifica nenhum User: 404 já na borda, antes de chegar ao banco
     public static UserID from(final String anId) {
-        return new UserID(anId);
+        Objects.requireNonNull(anId);
+        final var value = IdUtils.normalize(anId);
+        if (value == null) {
+            throw NotFoundException.with(new Error("User with ID %s was not found".formatted(anId)));
+        }
+        return new UserID(value);
     }
 
     @Override
@@ -0,0 +1,26 @@
+package com.starter.crudexample.domain.user;
+
+import java.time.Instant;
+import java.util.List;
+
+// Somente leitura: colunas exibidas nas listagens, sem hidratar o agregado (e sem a senha)
+public record UserPreview(
+    String id,
+    String username,
+    String email,
+    List<Role> roles,
+    boolean active,
+    Instant createdAt
+) {
+
+    public static UserPreview from(final User aUser) {
+        return new UserPreview(
+            aUser.getId().getValue(),
+            aUser.getUsername(),
+            aUser.getEmail(),
+            aUser.getRoles(),
+            aUser.isActive(),
+            aUser.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.starter.crudexample.domain.user;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+
+public record UserUpdated(
+        String id,
+        String username,
+        String email,
+        List<Role> roles,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static UserUpdated from(final User aUser) {
+        return new UserUpdated(
+                aUser.getId().getValue(),
+                aUser.getUsername(),
+                aUser.getEmail(),
+                aUser.getRoles() == null ? List.of() : List.copyOf(aUser.getRoles()),
+                aUser.isActive(),
+                aUser.getUpdatedAt());
+    }
+}
@@ -1,12 +1,83 @@
 package com.starter.crudexample.domain.utils;
 
-import java.util.UUID;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
 
 public final class IdUtils {
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // rand_a (12 bits) é usado como contador dentro do mesmo milissegundo (RFC 9562, método 1);
+    // começa na metade inferior para sobrar espaço antes de estourar
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_MAX = (1 << COUNTER_BITS) - 1;
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+
+    private static final ThreadLocal<Clock> CLOCK = ThreadLocal.withInitial(Clock::new);
+
     private IdUtils() {}
 
+    // UUIDv7 em hex minúsculo sem hífens (32 chars): ordenado pelo tempo, então os INSERTs
+    // vão para o fim do índice da PK em vez de páginas aleatórias
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        final var random = ThreadLocalRandom.current();
+        final var clock = CLOCK.get();
+        clock.tick(random);
+
+        final long msb = (clock.millis << 16) | (0x7L << 12) | clock.counter;
+        final long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        final var chars = new char[32];
+        toHex(msb, chars, 0);
+        toHex(lsb, chars, 16);
+        return new String(chars);
+    }
+
+    // Hex compacto (32 chars) ou canônico com hífens (36 chars) -> hex compacto em minúsculas,
+    // ou null se o valor não for um UUID: é a forma gravada em BINARY(16)
+    public static String normalize(final String anId) {
+        final var compact = anId.length() == 36 && isCanonical(anId) ? anId.replace("-", "") : anId;
+        if (compact.length() != 32) {
+            return null;
+        }
+
+        for (int i = 0; i < compact.length(); i++) {
+            if (Character.digit(compact.charAt(i), 16) < 0) {
+                return null;
+            }
+        }
+        return compact.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isCanonical(final String anId) {
+        return anId.charAt(8) == '-' && anId.charAt(13) == '-' && anId.charAt(18) == '-' && anId.charAt(23) == '-';
+    }
+
+    private static void toHex(final long value, final char[] chars, final int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + 15 - i] = HEX[(int) (value >>> (i * 4)) & 0xF];
+        }
+    }
+
+    // Estado por thread: monotônico dentro da thread sem sincronização
+    private static final class Clock {
+        private long millis = -1;
+        private int counter;
+
+        void tick(final ThreadLocalRandom random) {
+            final var now = System.currentTimeMillis();
+
+            if (now > this.millis) {
+                this.millis = now;
+                this.counter = random.nextInt(COUNTER_SEED_BOUND);
+            } else if (this.counter < COUNTER_MAX) {
+                // mesmo milissegundo (ou relógio voltou): incrementa o contador
+                this.counter++;
+            } else {
+                // contador esgotado: avança o timestamp lógico
+                this.millis++;
+                this.counter = random.nextInt(COUNTER_SEED_BOUND);
+            }
+        }
     }
 }
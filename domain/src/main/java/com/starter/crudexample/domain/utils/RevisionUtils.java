@@ -0,0 +1,39 @@
+package com.starter.crudexample.domain.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.starter.crudexample.domain.Identifier;
+
+public final class RevisionUtils {
+
+    // Revisão esperada que aceita qualquer revisão atual (If-Match: *)
+    public static final String ANY = "*";
+
+    private static final int LENGTH = 32;
+
+    private RevisionUtils() {}
+
+    // Identificador opaco da versão de um agregado: o @Version muda a cada gravação, ao contrário
+    // de updatedAt, que pode se repetir entre duas escritas no mesmo tick do relógio
+    public static String of(final Identifier anId, final long version) {
+        final var source = "%s:%d".formatted(anId.getValue(), version);
+        return HexFormat.of().formatHex(sha256(source)).substring(0, LENGTH);
+    }
+
+    // Pré-condição atendida se a revisão atual estiver entre as esperadas; null dispensa a verificação
+    public static boolean matches(final List<String> expected, final String current) {
+        return expected == null || expected.contains(ANY) || expected.contains(current);
+    }
+
+    private static byte[] sha256(final String source) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
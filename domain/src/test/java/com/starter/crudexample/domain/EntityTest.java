@@ -89,6 +89,21 @@ public class EntityTest extends UnitTest {
         Assertions.assertEquals(expectedSentEvents, counter.get());
     }
 
+    @Test
+    public void givenNoDomainEvents_whenCallsPublishEvents_shouldNotCallPublisher() {
+
+        // given
+        final var counter = new AtomicInteger(0);
+        final var anEntity = new DummyEntity(new DummyID(), null);
+
+        // when
+        anEntity.publishDomainEvents(event -> counter.incrementAndGet());
+
+        // then
+        Assertions.assertTrue(anEntity.getDomainEvents().isEmpty());
+        Assertions.assertEquals(0, counter.get());
+    }
+
     public static class DummyEvent implements DomainEvent {
 
         @Override
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import com.starter.crudexample.domain.UnitTest;
 import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.utils.InstantUtils;
 
 import org.junit.jupiter.api.Assertions;
 
@@ -157,4 +158,75 @@ class ItemTest extends UnitTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
     }
+
+    @Test
+    public void givenPersistedState_whenCallRehydrate_thenInstantiateWithoutValidating() {
+        // Given
+        final var expectedId = ItemID.unique();
+        final var expectedName = "ab";
+        final var expectedDescription = "A variety of notebooks";
+        final var expectedPrice = 129.99;
+        final var expectedCreatedAt = InstantUtils.now();
+        final var expectedVersion = 3L;
+
+        // When
+        final var actualItem = Item.rehydrate(
+                expectedId, expectedName, expectedDescription, expectedPrice,
+                expectedCreatedAt, expectedCreatedAt, null, expectedVersion);
+
+        // Then
+        Assertions.assertEquals(expectedId, actualItem.getId());
+        Assertions.assertEquals(expectedName, actualItem.getName());
+        Assertions.assertEquals(expectedDescription, actualItem.getDescription());
+        Assertions.assertEquals(expectedPrice, actualItem.getPrice());
+        Assertions.assertEquals(expectedCreatedAt, actualItem.getCreatedAt());
+        Assertions.assertEquals(expectedCreatedAt, actualItem.getUpdatedAt());
+        Assertions.assertNull(actualItem.getDeletedAt());
+        Assertions.assertEquals(expectedVersion, actualItem.getVersion());
+        Assertions.assertTrue(actualItem.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenARehydratedItem_whenCallUpdateWithInvalidName_thenShouldReceiveError() {
+        // Given
+        final var aItem = Item.rehydrate(
+                ItemID.unique(), "Notebooks", "A variety of notebooks", 129.99,
+                InstantUtils.now(), InstantUtils.now(), null, 0L);
+
+        // When
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> aItem.update("ab", "A variety of notebooks", 129.99));
+
+        // Then
+        Assertions.assertEquals(1, actualException.getErrors().size());
+    }
+
+    @Test
+    public void givenAValidParams_whenCallNewItem_thenRegisterItemCreated() {
+        // When
+        final var actualItem = Item.newItem("Notebooks", "A variety of notebooks", 129.99);
+
+        // Then
+        Assertions.assertEquals(1, actualItem.getDomainEvents().size());
+        final var actualEvent = (ItemCreated) actualItem.getDomainEvents().get(0);
+        Assertions.assertEquals(actualItem.getId().getValue(), actualEvent.id());
+        Assertions.assertEquals(ItemPreview.from(actualItem), actualEvent.preview());
+    }
+
+    @Test
+    public void givenARehydratedItem_whenCallUpdate_thenRegisterItemUpdated() {
+        // Given
+        final var aItem = Item.rehydrate(
+                ItemID.unique(), "Notebooks", "A variety of notebooks", 129.99,
+                InstantUtils.now(), InstantUtils.now(), null, 1L);
+
+        // When
+        aItem.update("Laptops", "A variety of laptops", 999.99);
+
+        // Then
+        Assertions.assertEquals(1, aItem.getDomainEvents().size());
+        final var actualEvent = (ItemUpdated) aItem.getDomainEvents().get(0);
+        Assertions.assertEquals("Laptops", actualEvent.name());
+        Assertions.assertEquals(aItem.getUpdatedAt(), actualEvent.occurredOn());
+    }
 }
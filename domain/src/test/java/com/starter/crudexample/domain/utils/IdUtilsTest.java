@@ -0,0 +1,69 @@
+package com.starter.crudexample.domain.utils;
+
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.starter.crudexample.domain.UnitTest;
+
+public class IdUtilsTest extends UnitTest {
+
+    @Test
+    public void givenAGeneratedId_whenInspect_shouldBeAVersion7UuidInCompactHex() {
+        // when
+        final var actualId = IdUtils.uuid();
+
+        // then
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+        Assertions.assertEquals('7', actualId.charAt(12));
+        Assertions.assertTrue("89ab".indexOf(actualId.charAt(16)) >= 0);
+    }
+
+    @Test
+    public void givenAGeneratedId_whenInspect_shouldCarryTheCurrentTimestamp() {
+        // given
+        final var before = System.currentTimeMillis();
+
+        // when
+        final var actualId = IdUtils.uuid();
+
+        // then
+        final var actualMillis = Long.parseLong(actualId.substring(0, 12), 16);
+        Assertions.assertTrue(actualMillis >= before);
+        // contador esgotado adianta o timestamp lógico em alguns milissegundos, nunca mais que isso
+        Assertions.assertTrue(actualMillis <= System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    public void givenManyIdsInTheSameThread_whenGenerate_shouldBeUniqueAndStrictlyIncreasing() {
+        // given
+        final var expectedCount = 100_000;
+
+        // when
+        final var actualIds = IntStream.range(0, expectedCount)
+                .mapToObj(i -> IdUtils.uuid())
+                .toList();
+
+        // then
+        Assertions.assertEquals(expectedCount, new HashSet<>(actualIds).size());
+        for (int i = 1; i < actualIds.size(); i++) {
+            Assertions.assertTrue(actualIds.get(i - 1).compareTo(actualIds.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void givenACanonicalOrMalformedId_whenNormalize_shouldReturnCompactHexOrNull() {
+        // when
+        final var actualCanonical = IdUtils.normalize("0190F3A2-7C4B-7D1E-8A2B-3C4D5E6F7A8B");
+        final var actualCompact = IdUtils.normalize("0190f3a27c4b7d1e8a2b3c4d5e6f7a8b");
+
+        // then
+        Assertions.assertEquals("0190f3a27c4b7d1e8a2b3c4d5e6f7a8b", actualCanonical);
+        Assertions.assertEquals("0190f3a27c4b7d1e8a2b3c4d5e6f7a8b", actualCompact);
+        Assertions.assertNull(IdUtils.normalize("123"));
+        Assertions.assertNull(IdUtils.normalize("0190f3a27c4b7d1e8a2b3c4d5e6f7a8z"));
+        Assertions.assertNull(IdUtils.normalize("0190f3a2-7c4b7d1e-8a2b-3c4d5e6f7a8b"));
+    }
+}
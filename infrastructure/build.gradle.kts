@@ -19,6 +19,10 @@ dependencies {
     implementation(Libs.springBootStarterDataJpa)
     implementation(Libs.springBootStarterSecurity)
     implementation(Libs.springBootStarterValidation)
+    implementation(Libs.springBootStarterActuator)
+
+    // Cache
+    implementation(Libs.caffeine)
     
     // Swagger/OpenAPI
     implementation(Libs.springdocOpenapi)
@@ -0,0 +1,30 @@
+package com.starter.crudexample.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.starter.crudexample.infrastructure.api.models.BatchRequest;
+import com.starter.crudexample.infrastructure.api.models.BatchResponse;
+
+@RequestMapping(value = "batch")
+@Tag(name = "Batch")
+public interface BatchAPI {
+
+        @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Execute an ordered list of item create/update/delete operations in one transaction")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "All operations were committed"),
+                        @ApiResponse(responseCode = "404", description = "An operation referenced a missing item, nothing was committed"),
+                        @ApiResponse(responseCode = "422", description = "An operation was invalid, nothing was committed"),
+                        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+        })
+        ResponseEntity<BatchResponse> execute(@RequestBody BatchRequest input);
+}
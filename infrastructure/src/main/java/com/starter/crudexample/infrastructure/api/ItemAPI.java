@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,14 +17,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.infrastructure.item.models.CreateItemRequest;
+import com.starter.crudexample.infrastructure.item.models.CreateItemsBatchRequest;
 import com.starter.crudexample.infrastructure.item.models.ItemListResponse;
-import com.starter.crudexample.infrastructure.item.models.ItemResponse;
 import com.starter.crudexample.infrastructure.item.models.UpdateItemRequest;
 
 @RequestMapping(value = "items")
@@ -32,29 +37,46 @@ public interface ItemAPI {
         @Operation(summary = "Create a new item")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Created successfully"),
+                        @ApiResponse(responseCode = "202", description = "Accepted into the write-behind queue, stored shortly after"),
                         @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
                         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
         })
         ResponseEntity<?> create(@RequestBody CreateItemRequest input);
 
+        @PostMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Create many items in a single transaction")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "All items created successfully"),
+                        @ApiResponse(responseCode = "422", description = "One or more items are invalid, nothing was created"),
+                        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+        })
+        ResponseEntity<?> createBatch(@RequestBody CreateItemsBatchRequest input);
+
         @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
         @Operation(summary = "Get a item by it's identifier")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "item retrieved"),
+                        @ApiResponse(responseCode = "304", description = "item was not modified since the given ETag"),
                         @ApiResponse(responseCode = "404", description = "item was not found"),
                         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
         })
-        ItemResponse getById(@PathVariable String id);
+        ResponseEntity<?> getById(
+                        @PathVariable String id,
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
         @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
         @Operation(summary = "Update a Item by it's identifier")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Item updated"),
                         @ApiResponse(responseCode = "404", description = "Item was not found"),
+                        @ApiResponse(responseCode = "412", description = "Item was modified since the ETag given in If-Match, or does not exist"),
                         @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
                         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
         })
-        ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateItemRequest aBody);
+        ResponseEntity<?> updateById(
+                        @PathVariable String id,
+                        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @RequestBody UpdateItemRequest aBody);
 
         @DeleteMapping(value = "{id}")
         @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -69,6 +91,7 @@ public interface ItemAPI {
         @Operation(summary = "List all Items")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Items retrieved"),
+                        @ApiResponse(responseCode = "422", description = "A cursor or relevance sort was given together with archived=true"),
                         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
         })
         Pagination<ItemListResponse> list(
@@ -76,6 +99,44 @@ public interface ItemAPI {
                         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
                         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
                         @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-                        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+                        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+                        @RequestParam(name = "after", required = false) final String after,
+                        @RequestParam(name = "count", required = false) final String count,
+                        @RequestParam(name = "archived", required = false, defaultValue = "false") final boolean archived
                         );
+
+        @GetMapping(value = "export")
+        @Operation(summary = "Export all Items as NDJSON or CSV, streamed row by row")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Items streamed, gzip-encoded when accepted by the client"),
+                        @ApiResponse(responseCode = "422", description = "An unknown format was given"),
+                        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+        })
+        WebAsyncTask<Void> export(
+                        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+                        @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format,
+                        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+                        HttpServletResponse response);
+
+        @PostMapping(value = "import", consumes = { "application/x-ndjson", "text/csv" }, produces = "application/x-ndjson")
+        @Operation(summary = "Import Items from an NDJSON or CSV body, written in chunks as the body is read")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "One NDJSON line per rejected row, then a summary line"),
+                        @ApiResponse(responseCode = "422", description = "An unknown format or an invalid CSV header was given"),
+                        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+        })
+        WebAsyncTask<Void> importItems(
+                        @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format,
+                        InputStream body,
+                        HttpServletResponse response);
+
+        @PostMapping(value = "listings/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Rebuild the Items listing read model from the items table, in parallel partitions")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Read model rebuilt"),
+                        @ApiResponse(responseCode = "422", description = "An invalid number of partitions was given"),
+                        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+        })
+        ResponseEntity<?> rebuildListings(
+                        @RequestParam(name = "partitions", required = false, defaultValue = "4") final int partitions);
 }
@@ -1,5 +1,6 @@
 package com.starter.crudexample.infrastructure.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -40,20 +42,29 @@ public interface UserAPI {
     @Operation(summary = "Get a user by id")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "User was not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "User was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> getById(@PathVariable(name = "id") String id);
+    ResponseEntity<?> getById(
+        @PathVariable(name = "id") String id,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Update a User by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User updated"),
         @ApiResponse(responseCode = "404", description = "User was not found"),
+        @ApiResponse(responseCode = "412", description = "User was modified since the ETag given in If-Match, or does not exist"),
         @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateUserRequest aBody);
+    ResponseEntity<?> updateById(
+        @PathVariable String id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody UpdateUserRequest aBody
+    );
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -75,6 +86,8 @@ public interface UserAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "username") final String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "after", required = false) final String after,
+        @RequestParam(name = "count", required = false) final String count
     );
 }
@@ -0,0 +1,135 @@
+package com.starter.crudexample.infrastructure.api.controllers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+import com.starter.crudexample.application.item.create.CreateItemUseCase;
+import com.starter.crudexample.application.item.delete.DeleteItemUseCase;
+import com.starter.crudexample.application.item.update.UpdateItemCommand;
+import com.starter.crudexample.application.item.update.UpdateItemUseCase;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.exceptions.NotFoundException;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.infrastructure.api.BatchAPI;
+import com.starter.crudexample.infrastructure.api.models.BatchOperationRequest;
+import com.starter.crudexample.infrastructure.api.models.BatchOperationResult;
+import com.starter.crudexample.infrastructure.api.models.BatchRequest;
+import com.starter.crudexample.infrastructure.api.models.BatchResponse;
+
+@RestController
+public class BatchController implements BatchAPI {
+
+    public static final int MAX_OPERATIONS = 1_000;
+
+    private static final String CREATE = "create";
+    private static final String UPDATE = "update";
+    private static final String DELETE = "delete";
+
+    private final CreateItemUseCase createItemUseCase;
+    private final UpdateItemUseCase updateItemUseCase;
+    private final DeleteItemUseCase deleteItemUseCase;
+    private final TransactionTemplate transactionTemplate;
+
+    public BatchController(
+        final CreateItemUseCase createItemUseCase,
+        final UpdateItemUseCase updateItemUseCase,
+        final DeleteItemUseCase deleteItemUseCase,
+        final PlatformTransactionManager transactionManager) {
+        this.createItemUseCase = Objects.requireNonNull(createItemUseCase);
+        this.updateItemUseCase = Objects.requireNonNull(updateItemUseCase);
+        this.deleteItemUseCase = Objects.requireNonNull(deleteItemUseCase);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    }
+
+    @Override
+    public ResponseEntity<BatchResponse> execute(final BatchRequest input) {
+        final var operations = input.operations() == null ? List.<BatchOperationRequest>of() : input.operations();
+
+        if (operations.isEmpty()) {
+            throw DomainException.with(new Error("'operations' should not be empty"));
+        }
+
+        if (operations.size() > MAX_OPERATIONS) {
+            throw DomainException.with(new Error("'operations' must have at most %d entries".formatted(MAX_OPERATIONS)));
+        }
+
+        // Tudo ou nada: a primeira operação que falhar interrompe o lote e desfaz as anteriores
+        final var results = new ArrayList<BatchOperationResult>(operations.size());
+        this.transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < operations.size(); i++) {
+                final var aResult = dispatch(i, operations.get(i));
+                results.add(aResult);
+
+                if (aResult.failed()) {
+                    status.setRollbackOnly();
+                    return;
+                }
+            }
+        });
+
+        final var failure = results.getLast();
+        if (failure.failed()) {
+            return ResponseEntity.status(failure.status()).body(new BatchResponse(false, results));
+        }
+
+        return ResponseEntity.ok(new BatchResponse(true, results));
+    }
+
+    private BatchOperationResult dispatch(final int index, final BatchOperationRequest anOperation) {
+        if (anOperation == null) {
+            return invalid(index, null, null, "operation should not be null");
+        }
+
+        final var op = anOperation.op() == null ? null : anOperation.op().toLowerCase();
+        final var id = anOperation.id();
+
+        try {
+            return switch (op == null ? "" : op) {
+                case CREATE -> {
+                    final var output = this.createItemUseCase.execute(CreateItemCommand.with(
+                        anOperation.name(),
+                        anOperation.description(),
+                        anOperation.price()
+                    ));
+                    yield BatchOperationResult.success(index, op, HttpStatus.CREATED.value(), output.id());
+                }
+                case UPDATE -> {
+                    if (id == null || id.isBlank()) {
+                        yield invalid(index, op, id, "'id' should not be empty");
+                    }
+                    final var output = this.updateItemUseCase.execute(UpdateItemCommand.with(
+                        id,
+                        anOperation.name(),
+                        anOperation.description(),
+                        anOperation.price()
+                    ));
+                    yield BatchOperationResult.success(index, op, HttpStatus.OK.value(), output.id());
+                }
+                case DELETE -> {
+                    if (id == null || id.isBlank()) {
+                        yield invalid(index, op, id, "'id' should not be empty");
+                    }
+                    this.deleteItemUseCase.execute(id);
+                    yield BatchOperationResult.success(index, op, HttpStatus.NO_CONTENT.value(), id);
+                }
+                default -> invalid(index, anOperation.op(), id, "'op' must be one of create, update or delete");
+            };
+        } catch (final NotFoundException ex) {
+            return BatchOperationResult.failure(index, op, HttpStatus.NOT_FOUND.value(), id, List.of(new Error(ex.getMessage())));
+        } catch (final DomainException ex) {
+            return BatchOperationResult.failure(index, op, HttpStatus.UNPROCESSABLE_ENTITY.value(), id, ex.getErrors());
+        }
+    }
+
+    private BatchOperationResult invalid(final int index, final String op, final String id, final String aMessage) {
+        return BatchOperationResult.failure(index, op, HttpStatus.UNPROCESSABLE_ENTITY.value(), id, List.of(new Error(aMessage)));
+    }
+}
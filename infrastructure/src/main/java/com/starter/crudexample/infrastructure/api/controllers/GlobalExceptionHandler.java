@@ -3,7 +3,9 @@ package com.starter.crudexample.infrastructure.api.controllers;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -12,9 +14,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.starter.crudexample.domain.exceptions.ConflictException;
 import com.starter.crudexample.domain.exceptions.DomainException;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.exceptions.PreconditionFailedException;
 import com.starter.crudexample.domain.validation.Error;
 
 @RestControllerAdvice
@@ -48,6 +52,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailedException(final PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    // Versão (@Version) alterada por outra transação entre a leitura e o commit
+    @ExceptionHandler(value = OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailureException(final OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiError("The resource was modified concurrently", List.of()));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
@@ -1,47 +1,125 @@
 package com.starter.crudexample.infrastructure.api.controllers;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import com.starter.crudexample.application.item.create.CreateItemCommand;
 import com.starter.crudexample.application.item.create.CreateItemUseCase;
+import com.starter.crudexample.application.item.create.bulk.BulkCreateItemsCommand;
+import com.starter.crudexample.application.item.create.bulk.BulkCreateItemsUseCase;
+import com.starter.crudexample.application.item.create.imports.ImportItemsCommand;
+import com.starter.crudexample.application.item.create.imports.ImportItemsUseCase;
 import com.starter.crudexample.application.item.delete.DeleteItemUseCase;
+import com.starter.crudexample.application.item.rebuild.RebuildItemListingsCommand;
+import com.starter.crudexample.application.item.rebuild.RebuildItemListingsUseCase;
+import com.starter.crudexample.application.item.retrieve.export.ExportItemsCommand;
+import com.starter.crudexample.application.item.retrieve.export.ExportItemsUseCase;
 import com.starter.crudexample.application.item.retrieve.get.GetItemByIdUseCase;
 import com.starter.crudexample.application.item.retrieve.list.ListItemsUseCase;
+import com.starter.crudexample.application.item.retrieve.list.archived.ListItemsWithArchiveUseCase;
+import com.starter.crudexample.application.item.retrieve.revision.GetItemRevisionUseCase;
 import com.starter.crudexample.application.item.update.UpdateItemCommand;
 import com.starter.crudexample.application.item.update.UpdateItemUseCase;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.pagination.CountMode;
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.utils.RevisionUtils;
 import com.starter.crudexample.infrastructure.api.ItemAPI;
 import com.starter.crudexample.infrastructure.item.models.CreateItemRequest;
+import com.starter.crudexample.infrastructure.item.models.CreateItemsBatchRequest;
 import com.starter.crudexample.infrastructure.item.models.ItemListResponse;
-import com.starter.crudexample.infrastructure.item.models.ItemResponse;
 import com.starter.crudexample.infrastructure.item.models.UpdateItemRequest;
+import com.starter.crudexample.infrastructure.item.presenter.ItemExportWriter;
+import com.starter.crudexample.infrastructure.item.presenter.ItemFileFormat;
+import com.starter.crudexample.infrastructure.item.presenter.ItemImportReader;
 import com.starter.crudexample.infrastructure.item.presenter.ItemPresenter;
+import com.starter.crudexample.infrastructure.utils.AcceptEncodingUtils;
+import com.starter.crudexample.infrastructure.utils.ETagUtils;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 public class ItemController implements ItemAPI {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemController.class);
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP = "gzip";
     
     private final CreateItemUseCase createItemUseCase;
+    private final BulkCreateItemsUseCase bulkCreateItemsUseCase;
     private final GetItemByIdUseCase getItemByIdUseCase;
+    private final GetItemRevisionUseCase getItemRevisionUseCase;
     private final UpdateItemUseCase updateItemUseCase;
     private final DeleteItemUseCase deleteItemUseCase;
     private final ListItemsUseCase listItemsUseCase;
+    private final ListItemsWithArchiveUseCase listItemsWithArchiveUseCase;
+    private final ExportItemsUseCase exportItemsUseCase;
+    private final ImportItemsUseCase importItemsUseCase;
+    private final RebuildItemListingsUseCase rebuildItemListingsUseCase;
+    private final ObjectMapper mapper;
+    private final boolean writeBehind;
+    private final Duration exportTimeout;
+    private final Duration importTimeout;
 
     public ItemController(
         final CreateItemUseCase createItemUseCase, 
+        final BulkCreateItemsUseCase bulkCreateItemsUseCase,
         final GetItemByIdUseCase getItemByIdUseCase,
+        final GetItemRevisionUseCase getItemRevisionUseCase,
         final UpdateItemUseCase updateItemUseCase,
         final DeleteItemUseCase deleteItemUseCase,
-        final ListItemsUseCase listItemsUseCase) {
+        final ListItemsUseCase listItemsUseCase,
+        final ListItemsWithArchiveUseCase listItemsWithArchiveUseCase,
+        final ExportItemsUseCase exportItemsUseCase,
+        final ImportItemsUseCase importItemsUseCase,
+        final RebuildItemListingsUseCase rebuildItemListingsUseCase,
+        final ObjectMapper mapper,
+        @Value("${app.items.write-behind.enabled:false}") final boolean writeBehind,
+        @Value("${app.export.timeout:30m}") final Duration exportTimeout,
+        @Value("${app.import.timeout:30m}") final Duration importTimeout) {
         this.createItemUseCase = Objects.requireNonNull(createItemUseCase);
+        this.bulkCreateItemsUseCase = Objects.requireNonNull(bulkCreateItemsUseCase);
         this.getItemByIdUseCase = Objects.requireNonNull(getItemByIdUseCase);
+        this.getItemRevisionUseCase = Objects.requireNonNull(getItemRevisionUseCase);
         this.updateItemUseCase = Objects.requireNonNull(updateItemUseCase);
         this.deleteItemUseCase = Objects.requireNonNull(deleteItemUseCase);
         this.listItemsUseCase = Objects.requireNonNull(listItemsUseCase);
+        this.listItemsWithArchiveUseCase = Objects.requireNonNull(listItemsWithArchiveUseCase);
+        this.exportItemsUseCase = Objects.requireNonNull(exportItemsUseCase);
+        this.importItemsUseCase = Objects.requireNonNull(importItemsUseCase);
+        this.rebuildItemListingsUseCase = Objects.requireNonNull(rebuildItemListingsUseCase);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.writeBehind = writeBehind;
+        this.exportTimeout = Objects.requireNonNull(exportTimeout);
+        this.importTimeout = Objects.requireNonNull(importTimeout);
     }
     
     @Override
@@ -53,27 +131,62 @@ public class ItemController implements ItemAPI {
         );
         
         final var output = this.createItemUseCase.execute(aCommand);
-        
-        return ResponseEntity.created(URI.create("/items/" + output.id())).body(output);
+        final var location = URI.create("/items/" + output.id());
+
+        // Write-behind: o item está no journal, mas só fica visível depois que a fila for gravada
+        if (this.writeBehind) {
+            return ResponseEntity.accepted().location(location).body(output);
+        }
+
+        return ResponseEntity.created(location).body(output);
     }
 
     @Override
-    public ItemResponse getById(final String id) {
-        return ItemPresenter.present(this.getItemByIdUseCase.execute(id));
+    public ResponseEntity<?> createBatch(final CreateItemsBatchRequest input) {
+        final var items = input.items() == null ? List.<CreateItemRequest>of() : input.items();
+
+        final var aCommand = BulkCreateItemsCommand.with(items.stream()
+            .map(item -> item == null ? null : CreateItemCommand.with(item.name(), item.description(), item.price()))
+            .toList());
+
+        final var output = this.bulkCreateItemsUseCase.execute(aCommand);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(output);
     }
 
     @Override
-    public ResponseEntity<?> updateById(String id, UpdateItemRequest aBody) {
+    public ResponseEntity<?> getById(final String id, final String ifNoneMatch) {
+        // Com If-None-Match basta a revisão atual para responder 304, sem carregar o item
+        if (ifNoneMatch != null) {
+            final var eTag = ETagUtils.of(this.getItemRevisionUseCase.execute(id).revision());
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        final var output = this.getItemByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+            .eTag(ETagUtils.of(RevisionUtils.of(ItemID.from(output.id()), output.version())))
+            .body(ItemPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(String id, String ifMatch, UpdateItemRequest aBody) {
         final var aCommand = UpdateItemCommand.with(
             id,
             aBody.name(),
             aBody.description(),
-            aBody.price()
+            aBody.price(),
+            ETagUtils.revisionsOf(ifMatch),
+            aBody.version()
         );
 
         final var output = this.updateItemUseCase.execute(aCommand);
 
-        return ResponseEntity.ok(output);
+        return ResponseEntity.ok()
+            .eTag(ETagUtils.of(RevisionUtils.of(ItemID.from(output.id()), output.version())))
+            .body(output);
     }
 
     @Override
@@ -87,9 +200,118 @@ public class ItemController implements ItemAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count,
+            final boolean archived
+    ) {
+        final var aQuery = new SearchQuery(
+                page, perPage, search, sort, direction, after, count == null ? null : CountMode.of(count));
+        final var aPage = archived
+                ? this.listItemsWithArchiveUseCase.execute(aQuery)
+                : this.listItemsUseCase.execute(aQuery);
+        return aPage.map(ItemPresenter::present);
+    }
+
+    @Override
+    public WebAsyncTask<Void> export(
+            final String search,
+            final String format,
+            final String acceptEncoding,
+            final HttpServletResponse response
     ) {
-        return this.listItemsUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(ItemPresenter::present);
+        // Valida antes de começar o stream: depois do primeiro byte o status não muda mais
+        final var aFormat = ItemFileFormat.of(format);
+        final var gzip = AcceptEncodingUtils.prefers(acceptEncoding, GZIP);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(aFormat.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(aFormat.filename()).build().toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        return stream(this.exportTimeout, "Export", response, outputStream -> {
+            final var gzipStream = gzip ? new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE) : null;
+            final var writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipStream : outputStream, StandardCharsets.UTF_8),
+                STREAM_BUFFER_SIZE);
+
+            this.exportItemsUseCase.execute(ExportItemsCommand.with(
+                search,
+                ItemExportWriter.of(aFormat, this.mapper, writer)));
+
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+        });
+    }
+
+    @Override
+    public WebAsyncTask<Void> importItems(final String format, final InputStream body, final HttpServletResponse response) {
+        final var reader = ItemImportReader.of(
+            ItemFileFormat.of(format),
+            this.mapper,
+            new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE));
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(ItemFileFormat.NDJSON.contentType());
+
+        // O relatório sai enquanto o corpo ainda está sendo lido: uma linha por registro rejeitado e o resumo no fim
+        return stream(this.importTimeout, "Import", response, outputStream -> {
+            final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            final var json = this.mapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+            final var output = this.importItemsUseCase.execute(ImportItemsCommand.with(
+                reader,
+                anError -> writeLine(json, writer, anError)));
+
+            writeLine(json, writer, output);
+            writer.flush();
+        });
+    }
+
+    @Override
+    public ResponseEntity<?> rebuildListings(final int partitions) {
+        return ResponseEntity.ok(this.rebuildItemListingsUseCase.execute(RebuildItemListingsCommand.with(partitions)));
+    }
+
+    // Timeout só desta resposta (o das demais requisições assíncronas continua o padrão). Uma falha
+    // antes do primeiro byte vira a resposta de erro de sempre; depois dele, terminar "limpo" faria o
+    // cliente aceitar um arquivo truncado: a exceção sai do dispatch sem tratador e o container derruba
+    // a conexão (e o gzip fica sem trailer)
+    private static WebAsyncTask<Void> stream(
+            final Duration aTimeout,
+            final String anOperation,
+            final HttpServletResponse response,
+            final StreamingResponseBody body
+    ) {
+        return new WebAsyncTask<>(aTimeout.toMillis(), () -> {
+            try {
+                body.writeTo(response.getOutputStream());
+            } catch (final IOException | RuntimeException ex) {
+                if (!response.isCommitted()) {
+                    response.reset();
+                    throw ex;
+                }
+                LOGGER.error("{} aborted after the response was committed", anOperation, ex);
+                throw new IllegalStateException(anOperation + " aborted mid-stream", ex);
+            }
+            return null;
+        });
+    }
+
+    private static void writeLine(final ObjectWriter json, final Writer writer, final Object aValue) {
+        try {
+            json.writeValue(writer, aValue);
+            writer.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -4,6 +4,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Objects;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,22 +14,28 @@ import com.starter.crudexample.application.user.delete.DeleteUserUseCase;
 import com.starter.crudexample.application.user.retrieve.get.GetUserByIdQuery;
 import com.starter.crudexample.application.user.retrieve.get.GetUserByIdUseCase;
 import com.starter.crudexample.application.user.retrieve.list.ListUsersUseCase;
+import com.starter.crudexample.application.user.retrieve.revision.GetUserRevisionUseCase;
 import com.starter.crudexample.application.user.update.UpdateUserCommand;
 import com.starter.crudexample.application.user.update.UpdateUserUseCase;
+import com.starter.crudexample.domain.pagination.CountMode;
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
 import com.starter.crudexample.domain.user.Role;
+import com.starter.crudexample.domain.user.UserID;
+import com.starter.crudexample.domain.utils.RevisionUtils;
 import com.starter.crudexample.infrastructure.api.UserAPI;
 import com.starter.crudexample.infrastructure.user.models.CreateUserRequest;
 import com.starter.crudexample.infrastructure.user.models.UpdateUserRequest;
 import com.starter.crudexample.infrastructure.user.models.UserListResponse;
 import com.starter.crudexample.infrastructure.user.presenter.UserPresenter;
+import com.starter.crudexample.infrastructure.utils.ETagUtils;
 
 @RestController
 public class UserController implements UserAPI {
 
     private final CreateUserUseCase createUserUseCase;
     private final GetUserByIdUseCase getUserByIdUseCase;
+    private final GetUserRevisionUseCase getUserRevisionUseCase;
     private final UpdateUserUseCase updateUserUseCase;
     private final DeleteUserUseCase deleteUserUseCase;
     private final ListUsersUseCase listUsersUseCase;
@@ -36,12 +43,14 @@ public class UserController implements UserAPI {
     public UserController(
         final CreateUserUseCase createUserUseCase,
         final GetUserByIdUseCase getUserByIdUseCase,
+        final GetUserRevisionUseCase getUserRevisionUseCase,
         final UpdateUserUseCase updateUserUseCase,
         final DeleteUserUseCase deleteUserUseCase,
         final ListUsersUseCase listUsersUseCase
     ) {
         this.createUserUseCase = Objects.requireNonNull(createUserUseCase);
         this.getUserByIdUseCase = Objects.requireNonNull(getUserByIdUseCase);
+        this.getUserRevisionUseCase = Objects.requireNonNull(getUserRevisionUseCase);
         this.updateUserUseCase = Objects.requireNonNull(updateUserUseCase);
         this.deleteUserUseCase = Objects.requireNonNull(deleteUserUseCase);
         this.listUsersUseCase = Objects.requireNonNull(listUsersUseCase);
@@ -64,14 +73,24 @@ public class UserController implements UserAPI {
     }
 
     @Override
-    public ResponseEntity<?> getById(String id) {
+    public ResponseEntity<?> getById(String id, String ifNoneMatch) {
+        // Com If-None-Match basta a revisão atual para responder 304, sem carregar o usuário
+        if (ifNoneMatch != null) {
+            final var eTag = ETagUtils.of(this.getUserRevisionUseCase.execute(id).revision());
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
         final var aQuery = GetUserByIdQuery.with(id);
         final var output = this.getUserByIdUseCase.execute(aQuery);
-        return ResponseEntity.ok(UserPresenter.present(output));
+        return ResponseEntity.ok()
+            .eTag(ETagUtils.of(RevisionUtils.of(UserID.from(output.id()), output.version())))
+            .body(UserPresenter.present(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(String id, UpdateUserRequest aBody) {
+    public ResponseEntity<?> updateById(String id, String ifMatch, UpdateUserRequest aBody) {
         final var roles = aBody.roles() == null ? List.<Role>of() : aBody.roles();
         final var active = aBody.active() == null ? true : aBody.active();
         final var aCommand = UpdateUserCommand.with(
@@ -80,12 +99,16 @@ public class UserController implements UserAPI {
             aBody.email(),
             aBody.password(),
             roles,
-            active
+            active,
+            ETagUtils.revisionsOf(ifMatch),
+            aBody.version()
         );
 
         final var output = this.updateUserUseCase.execute(aCommand);
 
-        return ResponseEntity.ok(output);
+        return ResponseEntity.ok()
+            .eTag(ETagUtils.of(RevisionUtils.of(UserID.from(output.id()), output.version())))
+            .body(output);
     }
 
     @Override
@@ -99,9 +122,13 @@ public class UserController implements UserAPI {
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String after,
+        final String count
     ) {
-        return this.listUsersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aQuery = new SearchQuery(
+                page, perPage, search, sort, direction, after, count == null ? null : CountMode.of(count));
+        return this.listUsersUseCase.execute(aQuery)
                 .map(UserPresenter::present);
     }
 }
@@ -0,0 +1,12 @@
+package com.starter.crudexample.infrastructure.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BatchOperationRequest(
+        @JsonProperty("op") String op,
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("price") Double price
+) {
+}
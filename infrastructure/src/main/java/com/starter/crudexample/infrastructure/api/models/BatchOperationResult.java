@@ -0,0 +1,27 @@
+package com.starter.crudexample.infrastructure.api.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.starter.crudexample.domain.validation.Error;
+
+public record BatchOperationResult(
+        @JsonProperty("index") int index,
+        @JsonProperty("op") String op,
+        @JsonProperty("status") int status,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+
+    public static BatchOperationResult success(final int index, final String op, final int status, final String id) {
+        return new BatchOperationResult(index, op, status, id, List.of());
+    }
+
+    public static BatchOperationResult failure(final int index, final String op, final int status, final String id, final List<Error> errors) {
+        return new BatchOperationResult(index, op, status, id, errors);
+    }
+
+    public boolean failed() {
+        return !errors.isEmpty();
+    }
+}
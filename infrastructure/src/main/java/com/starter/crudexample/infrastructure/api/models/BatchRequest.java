@@ -0,0 +1,10 @@
+package com.starter.crudexample.infrastructure.api.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BatchRequest(
+        @JsonProperty("operations") List<BatchOperationRequest> operations
+) {
+}
@@ -0,0 +1,11 @@
+package com.starter.crudexample.infrastructure.api.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BatchResponse(
+        @JsonProperty("committed") boolean committed,
+        @JsonProperty("results") List<BatchOperationResult> results
+) {
+}
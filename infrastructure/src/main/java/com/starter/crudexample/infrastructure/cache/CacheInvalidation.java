@@ -0,0 +1,21 @@
+package com.starter.crudexample.infrastructure.cache;
+
+import java.time.Instant;
+
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+
+public record CacheInvalidation(
+        String id,
+        String cacheName,
+        String entryId,
+        Instant createdAt
+) {
+
+    public static CacheInvalidation from(final CacheInvalidationJpaEntity anEntity) {
+        return new CacheInvalidation(
+                anEntity.getId(),
+                anEntity.getCacheName(),
+                anEntity.getEntryId(),
+                anEntity.getCreatedAt());
+    }
+}
@@ -0,0 +1,92 @@
+package com.starter.crudexample.infrastructure.cache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.starter.crudexample.domain.item.ItemDeleted;
+import com.starter.crudexample.domain.item.ItemUpdated;
+import com.starter.crudexample.domain.user.UserDeleted;
+import com.starter.crudexample.domain.user.UserUpdated;
+import com.starter.crudexample.domain.utils.IdUtils;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Tabela {@code cache_invalidations}: cada update ou delete feito pelos gateways grava, na mesma
+ * transação, qual entrada ficou desatualizada. Todas as instâncias leem a tabela pelo
+ * {@link CacheInvalidationPoller} e descartam a entrada do cache local. Criações não entram:
+ * ausências não são cacheadas.
+ */
+@Component
+public class CacheInvalidationMySQLGateway {
+
+    public static final String ITEMS = "items";
+    public static final String USERS = "users";
+
+    private final EntityManager entityManager;
+
+    public CacheInvalidationMySQLGateway(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(final ItemUpdated anEvent) {
+        write(ITEMS, anEvent.id());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(final ItemDeleted anEvent) {
+        write(ITEMS, anEvent.id());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(final UserUpdated anEvent) {
+        write(USERS, anEvent.id());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(final UserDeleted anEvent) {
+        write(USERS, anEvent.id());
+    }
+
+    // Escritas que não passam pelos eventos do agregado, como o arquivamento de itens
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invalidate(final String cacheName, final List<String> ids) {
+        ids.forEach(anId -> write(cacheName, anId));
+    }
+
+    // Pelo índice de created_at; o limite inferior vem do poller e já inclui a folga de commit
+    public List<CacheInvalidation> findSince(final Instant since) {
+        return this.entityManager
+                .createQuery(
+                        "select c from CacheInvalidation c where c.createdAt > :since order by c.createdAt",
+                        CacheInvalidationJpaEntity.class)
+                .setParameter("since", since)
+                .getResultStream()
+                .map(CacheInvalidation::from)
+                .toList();
+    }
+
+    public int deleteBefore(final Instant before) {
+        return this.entityManager
+                .createQuery("delete from CacheInvalidation c where c.createdAt < :before")
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+
+    private void write(final String cacheName, final String anId) {
+        this.entityManager.persist(new CacheInvalidationJpaEntity(IdUtils.uuid(), cacheName, anId, InstantUtils.now()));
+    }
+}
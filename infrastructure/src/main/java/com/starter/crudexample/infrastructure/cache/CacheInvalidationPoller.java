@@ -0,0 +1,164 @@
+package com.starter.crudexample.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.starter.crudexample.domain.utils.InstantUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Lê {@code cache_invalidations} e descarta as entradas correspondentes dos {@link LocalCache}s desta
+ * instância. O intervalo começa em {@code minInterval}, dobra a cada leitura vazia até
+ * {@code maxInterval} e volta ao mínimo quando chega algo: uma instância ociosa faz poucas consultas
+ * e uma alteração é vista em no máximo {@code maxInterval} mais o tempo de commit da escrita.
+ * <p>
+ * Cada leitura volta {@code grace} antes da anterior: linhas gravadas por transações que confirmaram
+ * depois (ou por instâncias com o relógio atrasado) não são perdidas, e a entrada é descartada de novo
+ * enquanto estiver na janela, o que também cobre um recarregamento a partir de uma réplica atrasada.
+ */
+public class CacheInvalidationPoller implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationPoller.class);
+
+    private final CacheInvalidationMySQLGateway invalidations;
+    private final Map<String, List<LocalCache>> caches;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Duration grace;
+    private final Duration retention;
+    private final Map<String, Counter> invalidated = new HashMap<>();
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicLong lastPolledAt = new AtomicLong(System.currentTimeMillis());
+    // Linhas já vistas dentro da janela: o atraso é medido uma vez por linha
+    private final Map<String, Instant> seen = new HashMap<>();
+    private Instant watermark;
+    private Instant lastPurge = Instant.EPOCH;
+    private volatile Thread poller;
+    private volatile boolean running;
+
+    public CacheInvalidationPoller(
+            final CacheInvalidationMySQLGateway invalidations,
+            final List<LocalCache> caches,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            final Duration minInterval,
+            final Duration maxInterval,
+            final Duration grace,
+            final Duration retention) {
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.caches = caches.stream().collect(Collectors.groupingBy(LocalCache::name));
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.minInterval = Objects.requireNonNull(minInterval);
+        this.maxInterval = Objects.requireNonNull(maxInterval);
+        this.grace = Objects.requireNonNull(grace);
+        this.retention = Objects.requireNonNull(retention);
+
+        this.caches.keySet().forEach(name ->
+                this.invalidated.put(name, meterRegistry.counter("cache.invalidation.invalidated", "cache", name)));
+        this.failures = meterRegistry.counter("cache.invalidation.failures");
+        // Do commit em outra instância até o descarte aqui (inclui a diferença entre os relógios)
+        this.lag = Timer.builder("cache.invalidation.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        // Tempo desde a última leitura bem-sucedida: acima de max-interval, o limite de desatualização foi violado
+        Gauge.builder("cache.invalidation.staleness", this.lastPolledAt,
+                        polledAt -> (System.currentTimeMillis() - polledAt.get()) / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        this.running = true;
+        this.poller = Thread.ofPlatform().name("cache-invalidation").start(this::run);
+    }
+
+    // Uma leitura; devolve quantas linhas novas foram aplicadas. Não é thread-safe: roda só na thread do poller
+    public int pollOnce() {
+        final var startedAt = InstantUtils.now();
+        final var since = (this.watermark != null ? this.watermark : startedAt).minus(this.grace);
+
+        final var rows = this.transactionTemplate.execute(status -> this.invalidations.findSince(since));
+
+        int applied = 0;
+        for (final var row : rows) {
+            this.caches.getOrDefault(row.cacheName(), List.of()).forEach(cache -> cache.invalidate(row.entryId()));
+
+            if (this.seen.putIfAbsent(row.id(), row.createdAt()) == null) {
+                this.lag.record(Duration.between(row.createdAt(), startedAt).abs());
+                final var counter = this.invalidated.get(row.cacheName());
+                if (counter != null) {
+                    counter.increment();
+                }
+                applied++;
+            }
+        }
+
+        this.seen.values().removeIf(createdAt -> createdAt.isBefore(since));
+        this.watermark = startedAt;
+        this.lastPolledAt.set(startedAt.toEpochMilli());
+
+        purge(startedAt);
+        return applied;
+    }
+
+    // Qualquer instância pode apagar: é idempotente e a retenção é bem maior que a janela de leitura
+    private void purge(final Instant now) {
+        if (Duration.between(this.lastPurge, now).compareTo(this.retention) < 0) {
+            return;
+        }
+
+        final var purged = this.transactionTemplate.execute(status -> this.invalidations.deleteBefore(now.minus(this.retention)));
+        LOGGER.debug("Purged {} cache invalidations older than {}", purged, this.retention);
+        this.lastPurge = now;
+    }
+
+    private void run() {
+        var interval = this.minInterval;
+
+        while (this.running) {
+            try {
+                interval = pollOnce() > 0 ? this.minInterval : min(interval.multipliedBy(2), this.maxInterval);
+            } catch (final RuntimeException e) {
+                this.failures.increment();
+                LOGGER.warn("Could not read cache invalidations, retrying in {}", this.maxInterval, e);
+                interval = this.maxInterval;
+            }
+
+            try {
+                Thread.sleep(interval);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Sem interrupt, como no OutboxRelay: a thread sai depois de no máximo um intervalo
+    @Override
+    public void close() throws InterruptedException {
+        this.running = false;
+        final var aPoller = this.poller;
+        if (aPoller != null) {
+            aPoller.join();
+        }
+    }
+
+    private static Duration min(final Duration a, final Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,31 @@
+package com.starter.crudexample.infrastructure.cache;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Cache em memória de uma instância que precisa descartar entradas alteradas em outras instâncias.
+ * {@code name} é o mesmo gravado em {@code cache_invalidations.cache_name}.
+ */
+public interface LocalCache {
+
+    String name();
+
+    void invalidate(String anId);
+
+    static LocalCache of(final String name, final Consumer<String> invalidate) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(invalidate);
+        return new LocalCache() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void invalidate(final String anId) {
+                invalidate.accept(anId);
+            }
+        };
+    }
+}
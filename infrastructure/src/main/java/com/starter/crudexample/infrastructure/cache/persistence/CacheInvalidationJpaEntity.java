@@ -0,0 +1,71 @@
+package com.starter.crudexample.infrastructure.cache.persistence;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity(name = "CacheInvalidation")
+@Table(name = "cache_invalidations")
+public class CacheInvalidationJpaEntity implements Persistable<String> {
+
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "cache_name", nullable = false, length = 32)
+    private String cacheName;
+
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "entry_id", nullable = false, columnDefinition = "BINARY(16)")
+    private String entryId;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public CacheInvalidationJpaEntity() {
+    }
+
+    public CacheInvalidationJpaEntity(
+            final String id,
+            final String cacheName,
+            final String entryId,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.cacheName = cacheName;
+        this.entryId = entryId;
+        this.createdAt = createdAt;
+    }
+
+    // Só é inserido e depois removido pela retenção, nunca atualizado
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getEntryId() {
+        return entryId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.starter.crudexample.infrastructure.cache.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationJpaEntity, String> {
+}
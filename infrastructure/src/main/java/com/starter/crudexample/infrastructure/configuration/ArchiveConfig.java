@@ -0,0 +1,30 @@
+package com.starter.crudexample.infrastructure.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.starter.crudexample.infrastructure.item.ItemArchiveMySQLGateway;
+import com.starter.crudexample.infrastructure.item.ItemArchiver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ArchiveConfig {
+
+    // Pode rodar em várias instâncias: SKIP LOCKED reparte os lotes
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.archive.items.enabled", havingValue = "true", matchIfMissing = true)
+    public ItemArchiver itemArchiver(
+            final ItemArchiveMySQLGateway archive,
+            final MeterRegistry meterRegistry,
+            @Value("${app.archive.items.chunk-size:500}") final int chunkSize,
+            @Value("${app.archive.items.pause:200ms}") final Duration pause,
+            @Value("${app.archive.items.interval:1h}") final Duration interval,
+            @Value("${app.archive.items.max-age:365d}") final Duration maxAge) {
+        return new ItemArchiver(archive, meterRegistry, chunkSize, pause, interval, maxAge);
+    }
+}
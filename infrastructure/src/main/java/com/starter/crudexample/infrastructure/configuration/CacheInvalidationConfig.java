@@ -0,0 +1,37 @@
+package com.starter.crudexample.infrastructure.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.starter.crudexample.infrastructure.cache.CacheInvalidationMySQLGateway;
+import com.starter.crudexample.infrastructure.cache.CacheInvalidationPoller;
+import com.starter.crudexample.infrastructure.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    // Roda em todas as instâncias: cada uma descarta as entradas do próprio cache
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheInvalidationPoller cacheInvalidationPoller(
+            final CacheInvalidationMySQLGateway invalidations,
+            final ObjectProvider<LocalCache> caches,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.min-interval:50ms}") final Duration minInterval,
+            @Value("${app.cache.invalidation.max-interval:1s}") final Duration maxInterval,
+            @Value("${app.cache.invalidation.grace:5s}") final Duration grace,
+            @Value("${app.cache.invalidation.retention:10m}") final Duration retention) {
+        return new CacheInvalidationPoller(
+                invalidations, caches.orderedStream().toList(), transactionManager, meterRegistry,
+                minInterval, maxInterval, grace, retention);
+    }
+}
@@ -0,0 +1,33 @@
+package com.starter.crudexample.infrastructure.configuration;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.starter.crudexample.infrastructure.event.AsyncDomainEventBus;
+import com.starter.crudexample.infrastructure.event.DomainEventSubscriber;
+import com.starter.crudexample.infrastructure.event.OverflowPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class EventBusConfig {
+
+    // Recebe os eventos publicados pelos gateways depois do commit; sem assinantes não cria threads.
+    // Ainda não há DomainEventSubscriber na aplicação: o barramento é o ponto de extensão para eles.
+    // SPILL por padrão: com o buffer cheio a requisição não espera e nenhum evento é perdido
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public AsyncDomainEventBus domainEventBus(
+            final ObjectProvider<DomainEventSubscriber> subscribers,
+            final MeterRegistry meterRegistry,
+            @Value("${app.events.bus.capacity:8192}") final int capacity,
+            @Value("${app.events.bus.batch-size:256}") final int batchSize,
+            @Value("${app.events.bus.overflow:SPILL}") final OverflowPolicy overflowPolicy,
+            @Value("${app.events.bus.spill-dir:./data/events}") final Path spillDirectory) {
+        return new AsyncDomainEventBus(
+                subscribers.orderedStream().toList(), meterRegistry, capacity, batchSize, overflowPolicy, spillDirectory);
+    }
+}
@@ -0,0 +1,33 @@
+package com.starter.crudexample.infrastructure.configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.starter.crudexample.infrastructure.outbox.OutboxMySQLGateway;
+import com.starter.crudexample.infrastructure.outbox.OutboxRelay;
+import com.starter.crudexample.infrastructure.outbox.OutboxSink;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class OutboxConfig {
+
+    // Pode rodar em todas as instâncias: o SKIP LOCKED reparte os lotes entre elas
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+            final OutboxMySQLGateway outbox,
+            final List<OutboxSink> sinks,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${app.outbox.relay.batch-size:500}") final int batchSize,
+            @Value("${app.outbox.relay.interval:1s}") final Duration interval) {
+        return new OutboxRelay(outbox, sinks, transactionManager, meterRegistry, batchSize, interval);
+    }
+}
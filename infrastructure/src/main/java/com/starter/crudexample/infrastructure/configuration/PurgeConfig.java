@@ -0,0 +1,30 @@
+package com.starter.crudexample.infrastructure.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.starter.crudexample.infrastructure.purge.TombstoneMySQLGateway;
+import com.starter.crudexample.infrastructure.purge.TombstonePurger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PurgeConfig {
+
+    // Pode rodar em várias instâncias: o DELETE confere deleted_at e lotes repetidos só apagam menos
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.purge.enabled", havingValue = "true", matchIfMissing = true)
+    public TombstonePurger tombstonePurger(
+            final TombstoneMySQLGateway tombstones,
+            final MeterRegistry meterRegistry,
+            @Value("${app.purge.batch-size:200}") final int batchSize,
+            @Value("${app.purge.pause:500ms}") final Duration pause,
+            @Value("${app.purge.interval:5m}") final Duration interval,
+            @Value("${app.purge.retention:7d}") final Duration retention) {
+        return new TombstonePurger(tombstones, meterRegistry, batchSize, pause, interval, retention);
+    }
+}
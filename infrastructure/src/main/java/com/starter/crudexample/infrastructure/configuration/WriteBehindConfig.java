@@ -0,0 +1,33 @@
+package com.starter.crudexample.infrastructure.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.infrastructure.item.WriteBehindItemGateway;
+
+@Configuration
+public class WriteBehindConfig {
+
+    public static final String WRITE_BEHIND_ITEM_GATEWAY = "writeBehindItemGateway";
+
+    // O journal é local: cada instância reaplica e grava só o que ela mesma aceitou. Destruído antes
+    // do ItemGateway e do DataSource, dos quais depende: a fila ainda é gravada. Fora da injeção por
+    // tipo para não competir com o ItemGateway do MySQL; só quem pede pelo nome recebe
+    @Bean(name = WRITE_BEHIND_ITEM_GATEWAY, initMethod = "start", destroyMethod = "close", defaultCandidate = false)
+    @ConditionalOnProperty(name = "app.items.write-behind.enabled", havingValue = "true")
+    public WriteBehindItemGateway writeBehindItemGateway(
+            final ItemGateway itemGateway,
+            @Value("${app.items.write-behind.journal:./data/items.journal}") final Path journal,
+            @Value("${app.items.write-behind.capacity:10000}") final int capacity,
+            @Value("${app.items.write-behind.offer-timeout:50ms}") final Duration offerTimeout,
+            @Value("${app.items.write-behind.retry-backoff:200ms}") final Duration retryBackoff,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") final int batchSize) {
+        return new WriteBehindItemGateway(itemGateway, journal, capacity, batchSize, offerTimeout, retryBackoff);
+    }
+}
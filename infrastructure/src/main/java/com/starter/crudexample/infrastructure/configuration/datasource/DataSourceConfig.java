@@ -0,0 +1,70 @@
+package com.starter.crudexample.infrastructure.configuration.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    // Mesmo pool que o Spring Boot criaria a partir de spring.datasource.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final var dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // As réplicas usam as mesmas credenciais da primária; sem réplicas tudo vai para a primária
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(
+            final HikariDataSource primaryDataSource,
+            final DataSourceProperties properties,
+            @Value("${app.datasource.replica-urls:}") final List<String> replicaUrls,
+            @Value("${app.datasource.read-your-writes:5s}") final Duration readYourWrites) {
+        final var urls = replicaUrls.stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+
+        final var replicas = IntStream.range(0, urls.size())
+                .mapToObj(i -> {
+                    final var replica = properties.initializeDataSourceBuilder()
+                            .type(HikariDataSource.class)
+                            .url(urls.get(i))
+                            .build();
+                    replica.setPoolName("replica-" + i);
+                    replica.setReadOnly(true);
+                    return replica;
+                })
+                .toList();
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWrites, DataSourceConfig::currentClient);
+    }
+
+    // Leitura das próprias escritas vale por usuário autenticado
+    private static String currentClient() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
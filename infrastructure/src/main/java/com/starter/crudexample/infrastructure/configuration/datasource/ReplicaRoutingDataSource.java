@@ -0,0 +1,128 @@
+package com.starter.crudexample.infrastructure.configuration.datasource;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Envia as execuções read-only (casos de uso de consulta, ver {@code UnitOfWork}) para as réplicas,
+ * em rodízio, e todo o resto para a primária. Depois de uma escrita, o mesmo cliente volta a ler da
+ * primária durante {@code readYourWrites}, para não enxergar uma réplica ainda atrasada.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    // A decisão é tomada antes de o TransactionManager pedir a conexão: o flag read-only da
+    // transação só é publicado depois que ela já foi obtida
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    private final List<? extends DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+    private final Supplier<String> client;
+
+    public ReplicaRoutingDataSource(
+            final DataSource primary,
+            final List<? extends DataSource> replicas,
+            final Duration readYourWrites,
+            final Supplier<String> client) {
+        this.replicas = List.copyOf(replicas);
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWrites)
+                .build();
+        this.client = Objects.requireNonNull(client);
+
+        final var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, Objects.requireNonNull(primary));
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public <T> T readOnly(final Execution<T> anExecution) throws Throwable {
+        final var previous = READ_ONLY.get();
+        READ_ONLY.set(Boolean.TRUE);
+        try {
+            return anExecution.run();
+        } finally {
+            if (previous == null) {
+                READ_ONLY.remove();
+            } else {
+                READ_ONLY.set(previous);
+            }
+        }
+    }
+
+    // Primária mesmo dentro de uma execução read-only; quem chama abre a própria transação,
+    // já que a conexão da transação corrente pode ser de uma réplica
+    public <T> T primary(final Supplier<T> aQuery) {
+        final var previous = READ_ONLY.get();
+        READ_ONLY.set(Boolean.FALSE);
+        try {
+            return aQuery.get();
+        } finally {
+            if (previous == null) {
+                READ_ONLY.remove();
+            } else {
+                READ_ONLY.set(previous);
+            }
+        }
+    }
+
+    // Chamado depois do commit de uma escrita
+    public void wrote() {
+        final var aClient = this.client.get();
+        if (aClient != null) {
+            this.recentWriters.put(aClient, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (this.replicas.isEmpty() || !Boolean.TRUE.equals(READ_ONLY.get())) {
+            return PRIMARY;
+        }
+
+        final var aClient = this.client.get();
+        if (aClient != null && this.recentWriters.getIfPresent(aClient) != null) {
+            return PRIMARY;
+        }
+
+        return Math.floorMod(this.next.getAndIncrement(), this.replicas.size());
+    }
+
+    // A primária é um bean próprio e é fechada pelo Spring; as réplicas só existem aqui
+    @Override
+    public void close() {
+        for (final var replica : this.replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (final Exception e) {
+                    logger.warn("Could not close replica data source", e);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Execution<T> {
+        T run() throws Throwable;
+    }
+}
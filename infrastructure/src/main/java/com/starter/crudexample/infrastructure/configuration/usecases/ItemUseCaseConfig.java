@@ -1,53 +1,152 @@
 package com.starter.crudexample.infrastructure.configuration.usecases;
 
+import java.time.Duration;
 import java.util.Objects;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.starter.crudexample.application.item.create.CreateItemUseCase;
 import com.starter.crudexample.application.item.create.DefaultCreateItemUseCase;
+import com.starter.crudexample.application.item.create.bulk.BulkCreateItemsUseCase;
+import com.starter.crudexample.application.item.create.bulk.DefaultBulkCreateItemsUseCase;
+import com.starter.crudexample.application.item.create.imports.DefaultImportItemsUseCase;
+import com.starter.crudexample.application.item.create.imports.ImportItemsUseCase;
 import com.starter.crudexample.application.item.delete.DefaultDeleteItemUseCase;
 import com.starter.crudexample.application.item.delete.DeleteItemUseCase;
+import com.starter.crudexample.application.item.rebuild.DefaultRebuildItemListingsUseCase;
+import com.starter.crudexample.application.item.rebuild.RebuildItemListingsUseCase;
+import com.starter.crudexample.application.item.retrieve.export.DefaultExportItemsUseCase;
+import com.starter.crudexample.application.item.retrieve.export.ExportItemsUseCase;
 import com.starter.crudexample.application.item.retrieve.get.DefaultGetItemByIdUseCase;
 import com.starter.crudexample.application.item.retrieve.get.GetItemByIdUseCase;
 import com.starter.crudexample.application.item.retrieve.list.DefaultListItemsUseCase;
 import com.starter.crudexample.application.item.retrieve.list.ListItemsUseCase;
+import com.starter.crudexample.application.item.retrieve.list.archived.DefaultListItemsWithArchiveUseCase;
+import com.starter.crudexample.application.item.retrieve.list.archived.ListItemsWithArchiveUseCase;
+import com.starter.crudexample.application.item.retrieve.revision.DefaultGetItemRevisionUseCase;
+import com.starter.crudexample.application.item.retrieve.revision.GetItemRevisionUseCase;
 import com.starter.crudexample.application.item.update.DefaultUpdateItemUseCase;
 import com.starter.crudexample.application.item.update.UpdateItemUseCase;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
 import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.infrastructure.cache.CacheInvalidationMySQLGateway;
+import com.starter.crudexample.infrastructure.cache.LocalCache;
+import com.starter.crudexample.infrastructure.configuration.WriteBehindConfig;
+import com.starter.crudexample.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import com.starter.crudexample.infrastructure.item.CachedItemGateway;
+import com.starter.crudexample.infrastructure.item.WriteBehindItemGateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class ItemUseCaseConfig {
 
     private final ItemGateway itemGateway;
+    private final CachedItemGateway cachedItemGateway;
+    private final ItemListingGateway itemListingGateway;
+    private final ItemArchiveGateway itemArchiveGateway;
+    private final UnitOfWork unitOfWork;
 
-    public ItemUseCaseConfig(final ItemGateway itemGateway) {
+    public ItemUseCaseConfig(
+            final ItemGateway itemGateway,
+            final ItemListingGateway itemListingGateway,
+            final ItemArchiveGateway itemArchiveGateway,
+            final PlatformTransactionManager transactionManager,
+            final ReplicaRoutingDataSource dataSource,
+            final MeterRegistry meterRegistry,
+            @Value("${app.cache.items.maximum-size:10000}") final long cacheMaximumSize,
+            @Value("${app.cache.items.ttl:5m}") final Duration cacheTtl) {
         this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.itemListingGateway = Objects.requireNonNull(itemListingGateway);
+        this.itemArchiveGateway = Objects.requireNonNull(itemArchiveGateway);
+        this.unitOfWork = new UnitOfWork(transactionManager, dataSource);
+        // GET /items/{id} lê pelo cache; update e delete passam por ele para invalidar a entrada.
+        // O GET roda em ofQuery (réplica), mas os misses são carregados da primária
+        this.cachedItemGateway = new CachedItemGateway(
+                itemGateway,
+                anId -> this.unitOfWork.onPrimary(() -> itemGateway.findById(anId)),
+                cacheMaximumSize,
+                cacheTtl,
+                meterRegistry);
+    }
+
+    @Bean
+    public CreateItemUseCase createItemUseCase(
+            @Qualifier(WriteBehindConfig.WRITE_BEHIND_ITEM_GATEWAY) final ObjectProvider<WriteBehindItemGateway> writeBehindItemGateway) {
+        // Write-behind fica fora do UnitOfWork: a requisição não abre transação nem pega conexão
+        final var writeBehind = writeBehindItemGateway.getIfAvailable();
+        if (writeBehind != null) {
+            return new DefaultCreateItemUseCase(writeBehind);
+        }
+        return unitOfWork.of(new DefaultCreateItemUseCase(itemGateway));
     }
 
     @Bean
-    public CreateItemUseCase createItemUseCase() {
-        return new DefaultCreateItemUseCase(itemGateway);
+    public BulkCreateItemsUseCase bulkCreateItemsUseCase() {
+        return unitOfWork.of(new DefaultBulkCreateItemsUseCase(itemGateway));
     }
 
     @Bean
     public GetItemByIdUseCase getItemByIdUseCase() {
-        return new DefaultGetItemByIdUseCase(itemGateway);
+        return unitOfWork.ofQuery(new DefaultGetItemByIdUseCase(cachedItemGateway, itemArchiveGateway));
+    }
+
+    @Bean
+    public GetItemRevisionUseCase getItemRevisionUseCase() {
+        return unitOfWork.ofQuery(new DefaultGetItemRevisionUseCase(itemGateway, itemArchiveGateway));
     }
 
     @Bean
     public DeleteItemUseCase deleteItemUseCase() {
-        return new DefaultDeleteItemUseCase(itemGateway);
+        return unitOfWork.of(new DefaultDeleteItemUseCase(cachedItemGateway, itemArchiveGateway));
     }
 
     @Bean
     public UpdateItemUseCase updateItemUseCase() {
-        return new DefaultUpdateItemUseCase(itemGateway);
+        return unitOfWork.of(new DefaultUpdateItemUseCase(cachedItemGateway));
     }
 
     @Bean
     public ListItemsUseCase listItemUseCase() {
-        return new DefaultListItemsUseCase(itemGateway);
+        return unitOfWork.ofQuery(new DefaultListItemsUseCase(itemListingGateway));
+    }
+
+    @Bean
+    public ListItemsWithArchiveUseCase listItemsWithArchiveUseCase() {
+        return unitOfWork.ofQuery(new DefaultListItemsWithArchiveUseCase(itemListingGateway, itemArchiveGateway));
+    }
+
+    @Bean
+    public ExportItemsUseCase exportItemsUseCase() {
+        return unitOfWork.ofQuery(new DefaultExportItemsUseCase(itemGateway));
+    }
+
+    // Sem UnitOfWork: cada lote é confirmado pelo createAll, não há uma transação para o arquivo inteiro
+    @Bean
+    public ImportItemsUseCase importItemsUseCase(
+            @Value("${app.import.chunk.min-size:100}") final int minChunkSize,
+            @Value("${app.import.chunk.max-size:5000}") final int maxChunkSize,
+            @Value("${app.import.chunk.target-latency:250ms}") final Duration targetLatency) {
+        return new DefaultImportItemsUseCase(itemGateway, minChunkSize, maxChunkSize, targetLatency);
+    }
+
+    // Sem UnitOfWork: cada partição confirma os próprios lotes em transações curtas
+    @Bean
+    public RebuildItemListingsUseCase rebuildItemListingsUseCase(
+            @Value("${app.items.listing.rebuild.max-partitions:16}") final int maxPartitions) {
+        return new DefaultRebuildItemListingsUseCase(itemListingGateway, maxPartitions);
+    }
+
+    // Entradas alteradas por outras instâncias, lidas de cache_invalidations
+    @Bean
+    public LocalCache itemsLocalCache() {
+        return LocalCache.of(CacheInvalidationMySQLGateway.ITEMS, anId -> cachedItemGateway.invalidate(ItemID.from(anId)));
     }
 }
@@ -0,0 +1,84 @@
+package com.starter.crudexample.infrastructure.configuration.usecases;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.starter.crudexample.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+
+// Cada execute de um UseCase/UnitUseCase roda em exatamente uma transação: findById + update
+// deixam de abrir uma transação por chamada ao repositório. Os casos de uso registrados com
+// ofQuery rodam em transação read-only: o Hibernate não guarda snapshots nem faz
+// flush/dirty checking e a conexão JDBC recebe o hint de somente leitura. Elas também são
+// atendidas pelas réplicas, se houver (ver ReplicaRoutingDataSource).
+public final class UnitOfWork {
+
+    private static final String EXECUTE = "execute";
+
+    private final PlatformTransactionManager transactionManager;
+    private final ReplicaRoutingDataSource dataSource;
+    private final TransactionTemplate primaryQuery;
+
+    public UnitOfWork(final PlatformTransactionManager transactionManager, final ReplicaRoutingDataSource dataSource) {
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.primaryQuery = new TransactionTemplate(transactionManager);
+        this.primaryQuery.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryQuery.setReadOnly(true);
+    }
+
+    public <T> T of(final T aUseCase) {
+        return wrap(aUseCase, false);
+    }
+
+    // Somente leitura declarada por quem registra o caso de uso: não há escrita no primário a
+    // proteger e a leitura pode vir de uma réplica atrasada
+    public <T> T ofQuery(final T aUseCase) {
+        return wrap(aUseCase, true);
+    }
+
+    // Leitura em transação própria na primária, mesmo chamada de dentro de um ofQuery: para o que
+    // vai ser guardado e servido por mais tempo do que o atraso de uma réplica
+    public <T> T onPrimary(final Supplier<T> aQuery) {
+        return this.dataSource.primary(() -> this.primaryQuery.execute(status -> aQuery.get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T wrap(final T aUseCase, final boolean query) {
+        final var attribute = new RuleBasedTransactionAttribute();
+        attribute.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        attribute.setReadOnly(query);
+
+        final var source = new NameMatchTransactionAttributeSource();
+        source.addTransactionalMethod(EXECUTE, attribute);
+
+        // Os casos de uso são classes abstratas seladas: o proxy estende a implementação Default*
+        final var factory = new ProxyFactory(aUseCase);
+        factory.setProxyTargetClass(true);
+        // Por fora da transação: a rota precisa estar definida antes de a conexão ser obtida
+        factory.addAdvice(route(query));
+        factory.addAdvice(new TransactionInterceptor(this.transactionManager, source));
+
+        return (T) factory.getProxy(aUseCase.getClass().getClassLoader());
+    }
+
+    private MethodInterceptor route(final boolean query) {
+        if (query) {
+            return invocation -> this.dataSource.readOnly(invocation::proceed);
+        }
+
+        return invocation -> {
+            final var result = invocation.proceed();
+            this.dataSource.wrote();
+            return result;
+        };
+    }
+}
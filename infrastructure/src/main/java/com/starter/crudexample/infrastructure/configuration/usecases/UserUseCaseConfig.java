@@ -8,49 +8,65 @@ import com.starter.crudexample.application.user.retrieve.get.DefaultGetUserByIdU
 import com.starter.crudexample.application.user.retrieve.get.GetUserByIdUseCase;
 import com.starter.crudexample.application.user.retrieve.list.DefaultListUsersUseCase;
 import com.starter.crudexample.application.user.retrieve.list.ListUsersUseCase;
+import com.starter.crudexample.application.user.retrieve.revision.DefaultGetUserRevisionUseCase;
+import com.starter.crudexample.application.user.retrieve.revision.GetUserRevisionUseCase;
 import com.starter.crudexample.application.user.update.DefaultUpdateUserUseCase;
 import com.starter.crudexample.application.user.update.UpdateUserUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.starter.crudexample.application.user.create.CreateUserUseCase;
 import com.starter.crudexample.application.user.create.DefaultCreateUserUseCase;
 import com.starter.crudexample.domain.user.PasswordHasher;
 import com.starter.crudexample.domain.user.UserGateway;
+import com.starter.crudexample.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
 
 @Configuration
 public class UserUseCaseConfig {
 
     private final UserGateway userGateway;
     private final PasswordHasher passwordHasher;
+    private final UnitOfWork unitOfWork;
 
-    public UserUseCaseConfig(final UserGateway userGateway, final PasswordHasher passwordHasher) {
+    public UserUseCaseConfig(
+        final UserGateway userGateway,
+        final PasswordHasher passwordHasher,
+        final PlatformTransactionManager transactionManager,
+        final ReplicaRoutingDataSource dataSource
+    ) {
         this.userGateway = Objects.requireNonNull(userGateway);
         this.passwordHasher = Objects.requireNonNull(passwordHasher);
+        this.unitOfWork = new UnitOfWork(transactionManager, dataSource);
     }
 
     @Bean
     public CreateUserUseCase createUserUseCase() {
-        return new DefaultCreateUserUseCase(userGateway, passwordHasher);
+        return unitOfWork.of(new DefaultCreateUserUseCase(userGateway, passwordHasher));
     }
 
     @Bean
     public GetUserByIdUseCase getUserByIdUseCase() {
-        return new DefaultGetUserByIdUseCase(userGateway);
+        return unitOfWork.ofQuery(new DefaultGetUserByIdUseCase(userGateway));
+    }
+
+    @Bean
+    public GetUserRevisionUseCase getUserRevisionUseCase() {
+        return unitOfWork.ofQuery(new DefaultGetUserRevisionUseCase(userGateway));
     }
 
     @Bean
     public UpdateUserUseCase updateUserUseCase() {
-        return new DefaultUpdateUserUseCase(userGateway, passwordHasher);
+        return unitOfWork.of(new DefaultUpdateUserUseCase(userGateway, passwordHasher));
     }
 
     @Bean
     public DeleteUserUseCase deleteUserUseCase() {
-        return new DefaultDeleteUserUseCase(userGateway);
+        return unitOfWork.of(new DefaultDeleteUserUseCase(userGateway));
     }
 
     @Bean
     public ListUsersUseCase listUsersUseCase() {
-        return new DefaultListUsersUseCase(userGateway);
+        return unitOfWork.ofQuery(new DefaultListUsersUseCase(userGateway));
     }
 }
@@ -0,0 +1,254 @@
+package com.starter.crudexample.infrastructure.event;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+import com.starter.crudexample.domain.event.DomainEventPublisher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link DomainEventPublisher} assíncrono: cada {@link DomainEventSubscriber} tem um buffer circular
+ * limitado e uma thread que o esvazia em lotes de até {@code batchSize}. Publicar só enfileira, então
+ * a latência da requisição não inclui o trabalho dos assinantes; um assinante lento atrasa apenas a
+ * própria fila. Com o buffer cheio vale a {@link OverflowPolicy} configurada.
+ */
+public class AsyncDomainEventBus implements DomainEventPublisher, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncDomainEventBus.class);
+    private static final long POLL_MILLIS = 100;
+
+    private final List<Subscription> subscriptions;
+    private volatile boolean running;
+
+    public AsyncDomainEventBus(
+            final List<DomainEventSubscriber> subscribers,
+            final MeterRegistry meterRegistry,
+            final int capacity,
+            final int batchSize,
+            final OverflowPolicy overflowPolicy,
+            final Path spillDirectory) {
+        Objects.requireNonNull(overflowPolicy);
+        this.subscriptions = subscribers.stream()
+                .map(subscriber -> new Subscription(
+                        subscriber, meterRegistry, capacity, batchSize, overflowPolicy, spillDirectory))
+                .toList();
+    }
+
+    public void start() {
+        this.running = true;
+        this.subscriptions.forEach(Subscription::start);
+    }
+
+    // Depois do commit: assinantes não veem eventos de uma escrita desfeita. Fora de transação, na hora
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final DomainEvent anEvent) {
+        publishEvent(anEvent);
+    }
+
+    @Override
+    public void publishEvent(final DomainEvent anEvent) {
+        final var anEnvelope = new Envelope(anEvent, Instant.now());
+        for (final var subscription : this.subscriptions) {
+            if (subscription.subscriber.accepts(anEvent)) {
+                subscription.offer(anEnvelope);
+            }
+        }
+    }
+
+    // Para de esperar novos eventos e entrega o que já está nas filas antes de sair
+    @Override
+    public void close() throws InterruptedException {
+        this.running = false;
+        for (final var subscription : this.subscriptions) {
+            subscription.close();
+        }
+    }
+
+    record Envelope(DomainEvent event, Instant publishedAt) implements Serializable {
+    }
+
+    private final class Subscription {
+
+        private final DomainEventSubscriber subscriber;
+        private final BlockingQueue<Envelope> buffer;
+        private final int batchSize;
+        private final OverflowPolicy overflowPolicy;
+        private final SpillFile spill;
+        private final Counter delivered;
+        private final Counter dropped;
+        private final Counter spilled;
+        private final Counter failures;
+        private final Timer lag;
+        private Thread consumer;
+
+        private Subscription(
+                final DomainEventSubscriber subscriber,
+                final MeterRegistry meterRegistry,
+                final int capacity,
+                final int batchSize,
+                final OverflowPolicy overflowPolicy,
+                final Path spillDirectory) {
+            this.subscriber = subscriber;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+            this.batchSize = batchSize;
+            this.overflowPolicy = overflowPolicy;
+            this.spill = overflowPolicy == OverflowPolicy.SPILL
+                    ? SpillFile.open(spillDirectory.resolve(subscriber.name() + ".spill"))
+                    : null;
+
+            final var tag = subscriber.name();
+            this.delivered = meterRegistry.counter("events.bus.delivered", "subscriber", tag);
+            this.dropped = meterRegistry.counter("events.bus.dropped", "subscriber", tag);
+            this.spilled = meterRegistry.counter("events.bus.spilled", "subscriber", tag);
+            this.failures = meterRegistry.counter("events.bus.failures", "subscriber", tag);
+            // Da publicação até o fim do handle: cresce quando o assinante não acompanha
+            this.lag = Timer.builder("events.bus.lag")
+                    .tag("subscriber", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            Gauge.builder("events.bus.pending", this, Subscription::pending)
+                    .tag("subscriber", tag)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            this.consumer = Thread.ofPlatform().name("events-" + this.subscriber.name()).start(this::consume);
+        }
+
+        private void offer(final Envelope anEnvelope) {
+            switch (this.overflowPolicy) {
+                case BLOCK -> {
+                    try {
+                        this.buffer.put(anEnvelope);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        this.dropped.increment();
+                    }
+                }
+                case DROP -> {
+                    if (!this.buffer.offer(anEnvelope)) {
+                        this.dropped.increment();
+                    }
+                }
+                // Enquanto houver transbordo, tudo vai para o disco: a fila sempre tem os eventos mais antigos
+                case SPILL -> {
+                    synchronized (this.spill) {
+                        if (this.spill.isEmpty() && this.buffer.offer(anEnvelope)) {
+                            return;
+                        }
+                        this.spill.append(anEnvelope);
+                        this.spilled.increment();
+                    }
+                }
+            }
+        }
+
+        // Só espera no buffer quando ele e o transbordo estão vazios: durante o transbordo o buffer
+        // fica vazio e esperar nele antes de cada leitura do disco limitaria a vazão
+        private void consume() {
+            final var batch = new ArrayList<Envelope>(this.batchSize);
+
+            while (running || hasPending()) {
+                try {
+                    var first = this.spill != null ? pollOrReadSpill(batch) : null;
+                    if (first == null && batch.isEmpty() && (this.spill == null || this.spill.isEmpty())) {
+                        first = this.buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    }
+
+                    if (first != null) {
+                        batch.add(first);
+                        this.buffer.drainTo(batch, this.batchSize - 1);
+                    }
+
+                    if (!batch.isEmpty()) {
+                        deliver(batch);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        // Sob o mesmo lock do offer: todo evento no buffer é mais antigo que os do transbordo, então o
+        // transbordo só é lido com o buffer vazio, sem que um offer entre entre as duas verificações
+        private Envelope pollOrReadSpill(final List<Envelope> aBatch) {
+            synchronized (this.spill) {
+                final var first = this.buffer.poll();
+                if (first == null && !this.spill.isEmpty()) {
+                    readSpill(aBatch);
+                }
+                return first;
+            }
+        }
+
+        // Um registro ilegível é pulado e contado como falha; a thread continua consumindo
+        private void readSpill(final List<Envelope> aBatch) {
+            try {
+                aBatch.addAll(this.spill.poll(this.batchSize));
+            } catch (final SpillFile.UnreadableRecordsException e) {
+                this.failures.increment(e.records());
+                LOGGER.warn("Skipping {} unreadable spilled events of {}", e.records(), this.subscriber.name(), e);
+            } catch (final RuntimeException e) {
+                this.failures.increment();
+                LOGGER.warn("Could not read the spill file of {}", this.subscriber.name(), e);
+            }
+        }
+
+        // Um lote que falha é descartado: o assinante é best-effort, a entrega durável é do outbox
+        private void deliver(final List<Envelope> aBatch) {
+            try {
+                this.subscriber.handle(aBatch.stream().map(Envelope::event).toList());
+                this.delivered.increment(aBatch.size());
+
+                final var now = Instant.now();
+                aBatch.forEach(anEnvelope -> this.lag.record(Duration.between(anEnvelope.publishedAt(), now)));
+            } catch (final RuntimeException e) {
+                this.failures.increment(aBatch.size());
+                LOGGER.warn("Subscriber {} failed to handle {} events", this.subscriber.name(), aBatch.size(), e);
+            }
+        }
+
+        private boolean hasPending() {
+            return !this.buffer.isEmpty() || (this.spill != null && !this.spill.isEmpty());
+        }
+
+        private double pending() {
+            return this.buffer.size() + (this.spill != null ? this.spill.size() : 0);
+        }
+
+        private void close() throws InterruptedException {
+            if (this.consumer != null) {
+                this.consumer.join();
+            }
+
+            if (this.spill != null) {
+                try {
+                    this.spill.close();
+                } catch (final IOException e) {
+                    LOGGER.warn("Could not close the spill file of {}", this.subscriber.name(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.starter.crudexample.infrastructure.event;
+
+import java.util.List;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+
+/**
+ * Assinante do {@link AsyncDomainEventBus}: recebe os eventos em lotes, na ordem de publicação,
+ * em uma thread própria e depois do commit da transação que os gerou.
+ */
+public interface DomainEventSubscriber {
+
+    // Nomeia a thread, as métricas e o arquivo de transbordo
+    String name();
+
+    default boolean accepts(final DomainEvent anEvent) {
+        return true;
+    }
+
+    void handle(List<DomainEvent> events);
+}
@@ -0,0 +1,8 @@
+package com.starter.crudexample.infrastructure.event;
+
+// O que fazer quando o buffer de um assinante está cheio
+public enum OverflowPolicy {
+    BLOCK,
+    DROP,
+    SPILL
+}
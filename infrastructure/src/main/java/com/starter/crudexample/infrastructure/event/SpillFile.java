@@ -0,0 +1,229 @@
+package com.starter.crudexample.infrastructure.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.starter.crudexample.infrastructure.event.AsyncDomainEventBus.Envelope;
+
+/**
+ * Transbordo em disco de um assinante ({@link OverflowPolicy#SPILL}): registros de tamanho prefixado
+ * lidos na ordem em que foram gravados. O arquivo é zerado quando a leitura alcança o fim; o que
+ * sobrar de uma execução anterior é entregue depois da reinicialização. Sem fsync: o transbordo
+ * segura uma rajada, a entrega durável é papel do outbox. Um registro que não pode ser lido é
+ * pulado; com o cabeçalho corrompido não há como achar o próximo e o resto do arquivo é descartado.
+ */
+final class SpillFile implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillFile.class);
+    private static final int HEADER = Integer.BYTES;
+
+    private final FileChannel channel;
+    private long readPosition;
+    private long writePosition;
+    private long pending;
+
+    private SpillFile(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    static SpillFile open(final Path aPath) {
+        try {
+            if (aPath.getParent() != null) {
+                Files.createDirectories(aPath.getParent());
+            }
+
+            final var spill = new SpillFile(FileChannel.open(aPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            spill.recover(aPath);
+            return spill;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return this.pending == 0;
+    }
+
+    synchronized long size() {
+        return this.pending;
+    }
+
+    synchronized void append(final Envelope anEnvelope) {
+        final var bytes = serialize(anEnvelope);
+        final var buffer = ByteBuffer.allocate(HEADER + bytes.length).putInt(bytes.length).put(bytes).flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                this.writePosition += this.channel.write(buffer, this.writePosition);
+            }
+            this.pending++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Os registros lidos antes de um ilegível são devolvidos primeiro; a chamada seguinte pula o
+    // ilegível (ou descarta o resto, com o cabeçalho corrompido) e lança UnreadableRecordsException
+    // com quantos registros foram perdidos
+    synchronized List<Envelope> poll(final int max) {
+        final var envelopes = new ArrayList<Envelope>(Math.min(max, (int) Math.min(this.pending, Integer.MAX_VALUE)));
+
+        while (envelopes.size() < max && this.pending > 0) {
+            final byte[] bytes;
+            try {
+                bytes = read(this.readPosition);
+            } catch (final IOException e) {
+                if (!envelopes.isEmpty()) {
+                    return envelopes;
+                }
+                final var lost = this.pending;
+                discard(e);
+                throw new UnreadableRecordsException(lost, e);
+            }
+
+            final Envelope anEnvelope;
+            try {
+                anEnvelope = deserialize(bytes);
+            } catch (final IOException | RuntimeException e) {
+                if (!envelopes.isEmpty()) {
+                    return envelopes;
+                }
+                skip(bytes.length);
+                throw new UnreadableRecordsException(1, e);
+            }
+
+            skip(bytes.length);
+            envelopes.add(anEnvelope);
+        }
+        return envelopes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.channel.close();
+    }
+
+    // Conta os registros completos; um registro cortado no fim é uma escrita interrompida e é descartado
+    private void recover(final Path aPath) throws IOException {
+        final var size = this.channel.size();
+        long position = 0;
+
+        while (position + HEADER <= size) {
+            final var length = readLength(position);
+            if (length < 0 || position + HEADER + length > size) {
+                break;
+            }
+            position += HEADER + length;
+            this.pending++;
+        }
+
+        if (position < size) {
+            LOGGER.warn("Discarding {} bytes of an incomplete record in {}", size - position, aPath);
+            this.channel.truncate(position);
+        }
+        this.writePosition = position;
+    }
+
+    private int readLength(final long position) throws IOException {
+        final var header = ByteBuffer.allocate(HEADER);
+        while (header.hasRemaining()) {
+            if (this.channel.read(header, position + header.position()) < 0) {
+                return -1;
+            }
+        }
+        return header.flip().getInt();
+    }
+
+    private byte[] read(final long position) throws IOException {
+        final var length = readLength(position);
+        if (length < 0 || position + HEADER + length > this.writePosition) {
+            throw new IOException("Corrupted record header at %d".formatted(position));
+        }
+
+        final var body = ByteBuffer.allocate(length);
+        while (body.hasRemaining()) {
+            if (this.channel.read(body, position + HEADER + body.position()) < 0) {
+                throw new EOFException("Truncated record at %d".formatted(position));
+            }
+        }
+        return body.array();
+    }
+
+    private void skip(final int length) {
+        this.readPosition += HEADER + length;
+        this.pending--;
+
+        if (this.pending == 0) {
+            try {
+                truncate();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void discard(final IOException aCause) {
+        this.pending = 0;
+        try {
+            truncate();
+        } catch (final IOException e) {
+            aCause.addSuppressed(e);
+        }
+    }
+
+    private void truncate() throws IOException {
+        this.readPosition = 0;
+        this.writePosition = 0;
+        this.channel.truncate(0);
+    }
+
+    private static byte[] serialize(final Envelope anEnvelope) {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var output = new ObjectOutputStream(bytes)) {
+            output.writeObject(anEnvelope);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Envelope deserialize(final byte[] bytes) throws IOException {
+        try (final var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Envelope) input.readObject();
+        } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // Registros perdidos: o que não pôde ser lido, ou o resto do arquivo depois de um cabeçalho corrompido
+    static final class UnreadableRecordsException extends RuntimeException {
+
+        private final long records;
+
+        private UnreadableRecordsException(final long records, final Throwable cause) {
+            super("Could not read %d spilled records".formatted(records), cause);
+            this.records = records;
+        }
+
+        long records() {
+            return records;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache read-through de {@link ItemGateway#findById}: limitado por tamanho e TTL
+ * (W-TinyLFU do Caffeine) e com carga por chave, de modo que vários misses
+ * simultâneos do mesmo id resultam em uma única consulta ao banco. Os misses são carregados por
+ * {@code loader}, que deve ler da primária: uma cópia vinda de uma réplica atrasada ficaria no cache
+ * até o TTL. Alterações feitas por outras instâncias chegam por {@link #invalidate}.
+ */
+public class CachedItemGateway implements ItemGateway {
+
+    private static final String CACHE_NAME = "items";
+
+    private final ItemGateway itemGateway;
+    private final Function<ItemID, Optional<Item>> loader;
+    private final Cache<ItemID, Item> cache;
+
+    public CachedItemGateway(
+            final ItemGateway itemGateway,
+            final Function<ItemID, Optional<Item>> loader,
+            final long maximumSize,
+            final Duration ttl,
+            final MeterRegistry meterRegistry) {
+        this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.loader = Objects.requireNonNull(loader);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    @Override
+    public Item create(final Item anItem) {
+        return this.itemGateway.create(anItem);
+    }
+
+    @Override
+    public List<Item> createAll(final List<Item> anItems) {
+        return this.itemGateway.createAll(anItems);
+    }
+
+    @Override
+    public void deleteById(final ItemID anId) {
+        this.itemGateway.deleteById(anId);
+        evict(anId);
+    }
+
+    // Em transações de escrita a leitura vai direto ao banco: quem altera o item parte do estado atual
+    @Override
+    public Optional<Item> findById(final ItemID anId) {
+        if (isReadWriteTransaction()) {
+            return this.itemGateway.findById(anId);
+        }
+
+        // Ausências não são cacheadas: o loader devolve null
+        return Optional.ofNullable(this.cache.get(anId, id -> this.loader.apply(id).orElse(null)))
+                .map(Item::with);
+    }
+
+    @Override
+    public Optional<Long> findVersion(final ItemID anId) {
+        return this.itemGateway.findVersion(anId);
+    }
+
+    @Override
+    public Item update(final Item anItem) {
+        final var updated = this.itemGateway.update(anItem);
+        evict(anItem.getId());
+        return updated;
+    }
+
+    @Override
+    public Pagination<Item> findAll(final SearchQuery aQuery) {
+        return this.itemGateway.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<ItemPreview> findAllPreviews(final SearchQuery aQuery) {
+        return this.itemGateway.findAllPreviews(aQuery);
+    }
+
+    @Override
+    public void exportAll(final String terms, final Consumer<ItemPreview> aConsumer) {
+        this.itemGateway.exportAll(terms, aConsumer);
+    }
+
+    @Override
+    public List<ItemID> existsByIds(final Iterable<ItemID> ids) {
+        return this.itemGateway.existsByIds(ids);
+    }
+
+    // Alterações feitas em outras instâncias, vindas do CacheInvalidationPoller
+    public void invalidate(final ItemID anId) {
+        this.cache.invalidate(anId);
+    }
+
+    // Invalida já e de novo ao fim da transação: uma leitura concorrente feita antes
+    // do commit poderia recolocar no cache a versão antiga
+    private void evict(final ItemID anId) {
+        this.cache.invalidate(anId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    cache.invalidate(anId);
+                }
+            });
+        }
+    }
+
+    private static boolean isReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,184 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.hibernate.LockOptions;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemArchiveGateway;
+import com.starter.crudexample.domain.item.ItemDeleted;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.infrastructure.cache.CacheInvalidationMySQLGateway;
+import com.starter.crudexample.infrastructure.item.persistence.ItemArchiveJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemArchiveRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
+import com.starter.crudexample.infrastructure.utils.JpaQueryUtils;
+import com.starter.crudexample.infrastructure.utils.SortCatalog;
+import com.starter.crudexample.infrastructure.utils.SpecificationUtils;
+import com.starter.crudexample.infrastructure.utils.SqlUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+
+/**
+ * Tabela {@code items_archive}: itens sem alteração há mais que a idade máxima saem de {@code items}
+ * (e de {@code item_listings}) para cá, então a tabela quente e seus índices ficam pequenos. O
+ * arquivamento não publica eventos: para o domínio o item continua existindo, só não é mais editável.
+ * A exclusão apaga a linha e publica {@link ItemDeleted}, como a do {@link ItemMySQLGateway}.
+ */
+@Component
+public class ItemArchiveMySQLGateway implements ItemArchiveGateway {
+
+    private static final String LOCK_TIMEOUT = "jakarta.persistence.lock.timeout";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ID = "id";
+    private static final String PRICE = "price";
+    private static final String CREATED_AT = "createdAt";
+    private static final String NAME_KEY = "nameKey";
+    private static final List<String> PREVIEW_COLUMNS = List.of(ID, NAME, DESCRIPTION, PRICE, CREATED_AT);
+    // Índices (name_key, id), (price, id) e (created_at, id): ver V12__create_items_archive_table.sql
+    // e V13__add_items_archive_name_key.sql. O nome ordena por name_key, como em item_listings
+    private static final SortCatalog SORTS = SortCatalog.of(NAME, PRICE, CREATED_AT);
+    private static final Map<String, String> SORT_KEYS = Map.of(NAME, NAME_KEY);
+
+    private final ItemArchiveRepository itemArchiveRepository;
+    private final EntityManager entityManager;
+    private final CacheInvalidationMySQLGateway cacheInvalidations;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ItemArchiveMySQLGateway(
+            final ItemArchiveRepository itemArchiveRepository,
+            final EntityManager entityManager,
+            final CacheInvalidationMySQLGateway cacheInvalidations,
+            final ApplicationEventPublisher eventPublisher) {
+        this.itemArchiveRepository = Objects.requireNonNull(itemArchiveRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.cacheInvalidations = Objects.requireNonNull(cacheInvalidations);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+    }
+
+    @Override
+    public Optional<Item> findById(final ItemID anId) {
+        return this.itemArchiveRepository.findById(anId.getValue())
+                .map(ItemArchiveJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Optional<Long> findVersion(final ItemID anId) {
+        return this.itemArchiveRepository.findVersionById(anId.getValue());
+    }
+
+    // Sem lápide: o arquivo não é lido pelo replay do write-behind nem pelo purger
+    @Override
+    @Transactional
+    public void deleteById(final ItemID anId) {
+        if (this.itemArchiveRepository.deleteArchivedById(anId.getValue()) > 0) {
+            this.eventPublisher.publishEvent(ItemDeleted.of(anId));
+        }
+    }
+
+    // Consulta rara: LIKE no nome, sem índice full-text na tabela fria
+    @Override
+    public Pagination<ItemPreview> findAll(final SearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            throw DomainException.with(new Error("Archived items do not support cursor pagination"));
+        }
+
+        final var sort = Sort.by(SORTS.sort(aQuery.sort(), aQuery.direction())
+                .map(order -> order.withProperty(SORT_KEYS.getOrDefault(order.getProperty(), order.getProperty())))
+                .toList());
+        final var where = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .flatMap(terms -> SqlUtils.tokens(terms).stream()
+                        .map(token -> SpecificationUtils.<ItemArchiveJpaEntity>like(NAME, token))
+                        .reduce(Specification::and))
+                .orElse(null);
+
+        final var rows = JpaQueryUtils.select(
+                this.entityManager,
+                ItemArchiveJpaEntity.class,
+                PREVIEW_COLUMNS,
+                where,
+                sort,
+                aQuery.offset(),
+                aQuery.perPage() + 1);
+
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var content = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                switch (aQuery.count()) {
+                    case EXACT, ESTIMATED -> this.itemArchiveRepository.count(where);
+                    case NONE -> Pagination.UNKNOWN_TOTAL;
+                },
+                content.stream().map(ItemArchiveMySQLGateway::toPreview).toList(),
+                hasNext,
+                null);
+    }
+
+    // Um lote por transação: os itens mais antigos pelo índice (deleted_at, updated_at), com
+    // SKIP LOCKED para que arquivadores em outras instâncias e escritas em andamento não esperem.
+    // Lápides ficam para o TombstonePurger. Devolve quantos itens foram movidos
+    @Transactional
+    public int archive(final Instant updatedBefore, final int limit) {
+        final var items = this.entityManager
+                .createQuery("select i from Item i where i.updatedAt < :before order by i.updatedAt", ItemJpaEntity.class)
+                .setParameter("before", updatedBefore)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .setMaxResults(limit)
+                .getResultList();
+
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        final var archivedAt = InstantUtils.now();
+        items.forEach(anItem -> this.entityManager.persist(ItemArchiveJpaEntity.from(anItem, archivedAt)));
+
+        final var ids = items.stream().map(ItemJpaEntity::getId).toList();
+        this.entityManager
+                .createQuery("delete from ItemListing l where l.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        final var moved = this.entityManager
+                .createQuery("delete from Item i where i.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        // Outras instâncias podem ter o item em cache e aceitar uma edição sobre ele
+        this.cacheInvalidations.invalidate(CacheInvalidationMySQLGateway.ITEMS, ids);
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+        return moved;
+    }
+
+    private static ItemPreview toPreview(final Tuple aTuple) {
+        return new ItemPreview(
+                aTuple.get(ID, String.class),
+                aTuple.get(NAME, String.class),
+                aTuple.get(DESCRIPTION, String.class),
+                aTuple.get(PRICE, Double.class),
+                aTuple.get(CREATED_AT, Instant.class));
+    }
+}
@@ -0,0 +1,105 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.starter.crudexample.domain.utils.InstantUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Move para {@code items_archive} os itens sem alteração há mais que {@code maxAge}, um lote de
+ * {@code chunkSize} por transação. Entre lotes a thread espera {@code pause}; sem nada para mover,
+ * espera {@code interval}.
+ */
+public class ItemArchiver implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemArchiver.class);
+
+    private final ItemArchiveMySQLGateway archive;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration interval;
+    private final Duration maxAge;
+    private final Counter moved;
+    private final Timer chunks;
+    private final Counter failures;
+    private volatile Thread archiver;
+    private volatile boolean running;
+
+    public ItemArchiver(
+            final ItemArchiveMySQLGateway archive,
+            final MeterRegistry meterRegistry,
+            final int chunkSize,
+            final Duration pause,
+            final Duration interval,
+            final Duration maxAge) {
+        this.archive = Objects.requireNonNull(archive);
+        this.chunkSize = chunkSize;
+        this.pause = Objects.requireNonNull(pause);
+        this.interval = Objects.requireNonNull(interval);
+        this.maxAge = Objects.requireNonNull(maxAge);
+        this.moved = meterRegistry.counter("archive.moved", "table", "items");
+        // Duração de cada lote: é o tempo em que os itens do lote ficam travados
+        this.chunks = Timer.builder("archive.chunk")
+                .tag("table", "items")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.failures = meterRegistry.counter("archive.failures", "table", "items");
+    }
+
+    public void start() {
+        this.running = true;
+        this.archiver = Thread.ofPlatform().name("item-archiver").start(this::run);
+    }
+
+    // Um lote; devolve quantos itens foram movidos
+    public int archiveOnce() {
+        final var updatedBefore = InstantUtils.now().minus(this.maxAge);
+        final int count = this.chunks.record(() -> this.archive.archive(updatedBefore, this.chunkSize));
+        this.moved.increment(count);
+        return count;
+    }
+
+    private void run() {
+        while (this.running) {
+            try {
+                await(archiveOnce() > 0 ? this.pause : this.interval);
+            } catch (final RuntimeException e) {
+                this.failures.increment();
+                LOGGER.warn("Could not archive items, retrying in {}", this.interval, e);
+                await(this.interval);
+            }
+        }
+    }
+
+    // O intervalo pode ser longo: close() acorda a thread em vez de esperar ele terminar
+    private synchronized void await(final Duration aDuration) {
+        try {
+            if (this.running) {
+                wait(aDuration.toMillis());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.running = false;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (this) {
+            this.running = false;
+            notifyAll();
+        }
+
+        final var anArchiver = this.archiver;
+        if (anArchiver != null) {
+            anArchiver.join();
+        }
+    }
+}
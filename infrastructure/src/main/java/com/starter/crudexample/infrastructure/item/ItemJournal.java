@@ -0,0 +1,333 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemCreated;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.infrastructure.configuration.Json;
+
+/**
+ * Journal local do {@link WriteBehindItemGateway}: cada item aceito é gravado (com fsync) antes
+ * de a requisição ser respondida. O arquivo é zerado quando não resta nada pendente de commit e,
+ * sob carga contínua, compactado quando o trecho inicial já confirmado passa de
+ * {@code compactBytes}: só as linhas a partir da primeira pendente são copiadas para um novo arquivo.
+ * Itens já gravados no banco podem continuar no arquivo; a reaplicação descarta os ids existentes.
+ * O fsync é em grupo: um único force cobre todas as linhas escritas até ali, e as requisições que
+ * chegam durante ele esperam o próximo em vez de forçar uma a uma. Lotes que não puderam ser
+ * gravados vão para {@code <journal>.dead} e deixam de contar como pendentes.
+ */
+final class ItemJournal implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemJournal.class);
+
+    private static final String DEAD_LETTER_SUFFIX = ".dead";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final long DEFAULT_COMPACT_BYTES = 64L * 1024 * 1024;
+
+    private final Path path;
+    private final long compactBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = this.lock.newCondition();
+    // Offsets lógicos (bytes já escritos desde a abertura): não mudam quando o arquivo é compactado.
+    // A fila do gateway não segue necessariamente a ordem do arquivo, então cada item guarda o seu
+    private final Map<ItemID, Long> pending = new HashMap<>();
+    private final TreeSet<Long> pendingOffsets = new TreeSet<>();
+    private FileChannel channel;
+    // Offset lógico do primeiro byte do arquivo atual
+    private long base;
+    private long appended;
+    private long durable;
+    private boolean syncing;
+
+    private ItemJournal(final Path path, final FileChannel channel, final long compactBytes) {
+        this.path = path;
+        this.channel = channel;
+        this.compactBytes = compactBytes;
+    }
+
+    static ItemJournal open(final Path aPath) {
+        return open(aPath, DEFAULT_COMPACT_BYTES);
+    }
+
+    static ItemJournal open(final Path aPath, final long compactBytes) {
+        try {
+            if (aPath.getParent() != null) {
+                Files.createDirectories(aPath.getParent());
+            }
+            return new ItemJournal(aPath, openChannel(aPath), compactBytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Lê o arquivo linha a linha e entrega lotes de até batchSize itens, sem carregá-lo inteiro.
+    // Uma linha incompleta no fim é uma escrita que não chegou a ser confirmada: é ignorada
+    int replay(final int batchSize, final Consumer<List<Item>> aConsumer) {
+        this.lock.lock();
+        try (final BufferedReader reader = Files.newBufferedReader(this.path, StandardCharsets.UTF_8)) {
+            final var batch = new ArrayList<Item>(batchSize);
+            int count = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(Json.readValue(line, Entry.class).toItem());
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Skipping unreadable journal entry in {}", this.path);
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    count += batch.size();
+                    aConsumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                count += batch.size();
+                aConsumer.accept(List.copyOf(batch));
+            }
+            return count;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Volta só depois que a linha está em disco
+    void append(final Item anItem) {
+        final var bytes = line(anItem);
+        final var buffer = ByteBuffer.wrap(bytes);
+        final long ticket;
+
+        this.lock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+            final var offset = this.appended;
+            this.pending.put(anItem.getId(), offset);
+            this.pendingOffsets.add(offset);
+            ticket = this.appended += bytes.length;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+
+        sync(ticket);
+    }
+
+    void committed(final List<Item> anItems) {
+        this.lock.lock();
+        try {
+            anItems.forEach(anItem -> {
+                final var offset = this.pending.remove(anItem.getId());
+                if (offset != null) {
+                    this.pendingOffsets.remove(offset);
+                }
+            });
+
+            if (this.pending.isEmpty()) {
+                truncate();
+            } else if (this.pendingOffsets.first() - this.base >= this.compactBytes) {
+                compact();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Tamanho do arquivo atual, em bytes
+    long size() {
+        this.lock.lock();
+        try {
+            return this.channel.size();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Guarda o lote em <journal>.dead para reprocessamento manual e o tira dos pendentes
+    void deadLetter(final List<Item> anItems) {
+        final var out = new ByteArrayOutputStream();
+        anItems.forEach(anItem -> out.writeBytes(line(anItem)));
+
+        try {
+            Files.write(deadLetterPath(), out.toByteArray(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        committed(anItems);
+    }
+
+    Path deadLetterPath() {
+        return this.path.resolveSibling(this.path.getFileName() + DEAD_LETTER_SUFFIX);
+    }
+
+    void truncate() {
+        this.lock.lock();
+        try {
+            this.base = this.appended;
+            this.channel.truncate(0);
+            this.channel.position(0);
+            this.channel.force(true);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Copia as linhas a partir da primeira pendente para <journal>.compact, força e troca pelo
+    // journal com um rename atômico: uma queda no meio deixa o arquivo antigo, que só tem linhas a mais.
+    // Espera o fsync em andamento, que usa o canal antigo fora do lock
+    private void compact() {
+        while (this.syncing) {
+            this.synced.awaitUninterruptibly();
+        }
+        if (this.pendingOffsets.isEmpty()) {
+            return;
+        }
+
+        final var from = this.pendingOffsets.first() - this.base;
+        final var compacted = this.path.resolveSibling(this.path.getFileName() + COMPACT_SUFFIX);
+        try {
+            try (final var target = FileChannel.open(compacted,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final var size = this.channel.size();
+                for (long position = from; position < size; ) {
+                    position += this.channel.transferTo(position, size - position, target);
+                }
+                target.force(true);
+            }
+
+            Files.move(compacted, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            this.channel.close();
+            this.channel = openChannel(this.path);
+            this.base += from;
+            // Tudo o que foi copiado já está em disco no arquivo novo
+            this.durable = this.appended;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileChannel openChannel(final Path aPath) throws IOException {
+        final var channel = FileChannel.open(aPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            this.channel.close();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Quem encontra o fsync livre força tudo o que já foi escrito, inclusive as linhas dos outros;
+    // o force roda fora do lock, então novas linhas continuam sendo escritas enquanto isso
+    private void sync(final long aTicket) {
+        final long target;
+        final FileChannel aChannel;
+
+        this.lock.lock();
+        try {
+            while (this.syncing && this.durable < aTicket) {
+                this.synced.awaitUninterruptibly();
+            }
+            if (this.durable >= aTicket) {
+                return;
+            }
+            this.syncing = true;
+            target = this.appended;
+            aChannel = this.channel;
+        } finally {
+            this.lock.unlock();
+        }
+
+        var forced = false;
+        try {
+            aChannel.force(false);
+            forced = true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.lock();
+            try {
+                if (forced) {
+                    this.durable = Math.max(this.durable, target);
+                }
+                this.syncing = false;
+                this.synced.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private static byte[] line(final Item anItem) {
+        return (Json.writeValueAsString(Entry.from(anItem)) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    record Entry(
+            String id,
+            String name,
+            String description,
+            Double price,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        static Entry from(final Item anItem) {
+            return new Entry(
+                    anItem.getId().getValue(),
+                    anItem.getName(),
+                    anItem.getDescription(),
+                    anItem.getPrice(),
+                    anItem.getCreatedAt(),
+                    anItem.getUpdatedAt());
+        }
+
+        // Reaplicado como criação: a listagem recebe o ItemCreated que a escrita original não chegou a publicar
+        Item toItem() {
+            final var anItem = Item.rehydrate(ItemID.from(id), name, description, price, createdAt, updatedAt, null, 0L);
+            anItem.registerEvent(ItemCreated.from(anItem));
+            return anItem;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.ItemCreated;
+import com.starter.crudexample.domain.item.ItemDeleted;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.item.ItemUpdated;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingRepository;
+import com.starter.crudexample.infrastructure.utils.CountCache;
+import com.starter.crudexample.infrastructure.utils.CursorUtils;
+import com.starter.crudexample.infrastructure.utils.JpaQueryUtils;
+import com.starter.crudexample.infrastructure.utils.SortCatalog;
+import com.starter.crudexample.infrastructure.utils.SpecificationUtils;
+import com.starter.crudexample.infrastructure.utils.SqlUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Modelo de leitura da listagem de itens ({@code item_listings}). É mantido na mesma transação
+ * da escrita pelos eventos do {@code Item} e pode ser reconstruído a partir de {@code items}.
+ */
+@Component
+public class ItemListingMySQLGateway implements ItemListingGateway {
+
+    private static final int ESTIMATED_COUNT_ENTRIES = 1_000;
+    // innodb_ft_min_token_size: tokens menores não entram no índice FULLTEXT
+    private static final int FULL_TEXT_MIN_TOKEN = 3;
+    private static final String RELEVANCE = "relevance";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ID = "id";
+    private static final String PRICE = "price";
+    private static final String CREATED_AT = "createdAt";
+    private static final String NAME_KEY = "nameKey";
+    private static final String SEARCH_TOKENS = "searchTokens";
+    private static final List<String> PREVIEW_COLUMNS = List.of(ID, NAME, DESCRIPTION, PRICE, CREATED_AT);
+    // Índices (name_key, id), (price, id) e (created_at, id): ver V8__create_item_listings_table.sql
+    private static final SortCatalog SORTS = SortCatalog.of(NAME, PRICE, CREATED_AT);
+    private static final Map<String, String> SORT_KEYS = Map.of(NAME, NAME_KEY);
+
+    private final ItemListingRepository itemListingRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CountCache estimatedCounts;
+    private final boolean fullText;
+    private final int batchSize;
+
+    public ItemListingMySQLGateway(
+            final ItemListingRepository itemListingRepository,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            @Value("${app.pagination.estimated-count-ttl:30s}") final Duration estimatedCountTtl,
+            @Value("${app.search.full-text:false}") final boolean fullText,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") final int batchSize) {
+        this.itemListingRepository = Objects.requireNonNull(itemListingRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.estimatedCounts = new CountCache(estimatedCountTtl, ESTIMATED_COUNT_ENTRIES);
+        this.fullText = fullText;
+        this.batchSize = batchSize;
+    }
+
+    // Publicados pelo ItemMySQLGateway dentro da transação da escrita: item e listagem são
+    // confirmados (ou desfeitos) juntos
+    @EventListener
+    public void on(final ItemCreated anEvent) {
+        this.entityManager.persist(ItemListingJpaEntity.newEntity(anEvent.preview()));
+    }
+
+    @EventListener
+    public void on(final ItemUpdated anEvent) {
+        this.entityManager.merge(ItemListingJpaEntity.from(anEvent.preview()));
+    }
+
+    @EventListener
+    public void on(final ItemDeleted anEvent) {
+        this.itemListingRepository.deleteById(anEvent.id());
+    }
+
+    @Override
+    public Pagination<ItemPreview> findAll(final SearchQuery aQuery) {
+        final var byRelevance = isRelevance(aQuery);
+        if (byRelevance && aQuery.hasCursor()) {
+            throw DomainException.with(new Error("Sort 'relevance' does not support cursor pagination"));
+        }
+
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+
+        final var relevance = terms
+                .flatMap(this::fullTextExpression)
+                .filter(expression -> byRelevance);
+
+        // Sem busca full-text não há score: relevance cai para a ordenação por nome
+        final var sortKey = byRelevance ? NAME_KEY : sortKey(SORTS.field(aQuery.sort()));
+        final var sort = byRelevance
+                ? relevance.map(expression -> Sort.unsorted()).orElseGet(() -> CursorUtils.sort(NAME_KEY, "asc"))
+                : Sort.by(SORTS.sort(aQuery.sort(), aQuery.direction())
+                        .map(order -> order.withProperty(sortKey(order.getProperty())))
+                        .toList());
+
+        final var criteria = terms
+                .map(this::assembleSpecification)
+                .map(spec -> relevance
+                        .map(expression -> spec.and(SpecificationUtils.<ItemListingJpaEntity>orderByMatch(expression, NAME, DESCRIPTION, ID)))
+                        .orElse(spec))
+                .orElse(null);
+
+        final var where = aQuery.hasCursor()
+                ? CursorUtils.<ItemListingJpaEntity>after(aQuery.after(), sortKey, aQuery.direction()).and(criteria)
+                : criteria;
+
+        final var columns = new LinkedHashSet<>(PREVIEW_COLUMNS);
+        columns.add(sortKey);
+
+        final var rows = JpaQueryUtils.select(
+                this.entityManager,
+                ItemListingJpaEntity.class,
+                columns,
+                where,
+                sort,
+                aQuery.hasCursor() ? 0 : aQuery.offset(),
+                aQuery.perPage() + 1);
+
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var content = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+        final var nextCursor = hasNext && !byRelevance ? CursorUtils.next(content.get(content.size() - 1), sortKey, aQuery.direction()) : null;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                countOf(aQuery, criteria),
+                content.stream().map(ItemListingMySQLGateway::toPreview).toList(),
+                hasNext,
+                nextCursor);
+    }
+
+    // Faixas de id contíguas, uma por partição, cada uma em sua thread virtual; a tabela continua
+    // servindo leituras durante o processo
+    @Override
+    public long rebuild(final int partitions) {
+        final var bounds = partitionBounds(partitions);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var futures = IntStream.range(0, bounds.size() - 1)
+                    .mapToObj(i -> executor.submit(() -> replay(bounds.get(i), bounds.get(i + 1))))
+                    .toList();
+
+            long rebuilt = 0;
+            for (final var future : futures) {
+                rebuilt += join(future);
+            }
+            return rebuilt;
+        }
+    }
+
+    // Ids são UUIDv7: a faixa entre o menor e o maior é dividida em partes iguais (proporcionais
+    // ao tempo de criação). A primeira e a última ficam abertas para alcançar linhas órfãs da listagem
+    private List<String> partitionBounds(final int partitions) {
+        final var range = this.entityManager
+                .createQuery("select min(i.id), max(i.id) from Item i", Object[].class)
+                .getSingleResult();
+
+        final var bounds = new ArrayList<String>(partitions + 1);
+        bounds.add(null);
+
+        if (range[0] != null) {
+            final var lower = new BigInteger((String) range[0], 16);
+            final var span = new BigInteger((String) range[1], 16).subtract(lower).add(BigInteger.ONE);
+
+            for (int i = 1; i < partitions; i++) {
+                final var bound = lower.add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(partitions)));
+                bounds.add("%032x".formatted(bound));
+            }
+        }
+
+        bounds.add(null);
+        return bounds;
+    }
+
+    // Keyset em lotes, cada um em sua própria transação: o lote apaga a faixa que cobre na listagem
+    // e regrava o que está em items, então itens excluídos desde a última projeção também somem
+    private long replay(final String from, final String to) {
+        var range = new IdRange(from, true, to);
+        long replayed = 0;
+
+        while (true) {
+            final var aRange = range;
+            final var ids = this.transactionTemplate.execute(status -> replay(aRange));
+            replayed += ids.size();
+
+            if (ids.size() < this.batchSize) {
+                return replayed;
+            }
+
+            range = new IdRange(ids.get(ids.size() - 1), false, to);
+        }
+    }
+
+    // FOR SHARE nas linhas de items lidas: uma escrita concorrente no lote espera o commit dele (ou
+    // é esperada por ele), então a listagem regravada não volta para uma versão anterior. Escritas
+    // travam items antes de item_listings, na mesma ordem daqui, e não formam ciclo com o rebuild
+    private List<String> replay(final IdRange aRange) {
+        final var rows = JpaQueryUtils.select(
+                this.entityManager,
+                ItemJpaEntity.class,
+                PREVIEW_COLUMNS,
+                aRange.specification(),
+                Sort.by(ID),
+                0,
+                this.batchSize,
+                LockModeType.PESSIMISTIC_READ);
+
+        // Lote incompleto é o último da partição: a remoção vai até o fim da faixa
+        final var covered = rows.size() < this.batchSize
+                ? aRange
+                : aRange.upTo(rows.get(rows.size() - 1).get(ID, String.class));
+
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var delete = cb.createCriteriaDelete(ItemListingJpaEntity.class);
+        final var root = delete.from(ItemListingJpaEntity.class);
+        delete.where(covered.predicate(root.get(ID), cb));
+        this.entityManager.createQuery(delete).executeUpdate();
+
+        for (final var row : rows) {
+            this.entityManager.persist(ItemListingJpaEntity.newEntity(toPreview(row)));
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        return rows.stream().map(row -> row.get(ID, String.class)).toList();
+    }
+
+    private static long join(final Future<Long> aFuture) {
+        try {
+            return aFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding item listings", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to rebuild item listings", ex.getCause());
+        }
+    }
+
+    private long countOf(final SearchQuery aQuery, final Specification<ItemListingJpaEntity> where) {
+        return switch (aQuery.count()) {
+            case EXACT -> this.itemListingRepository.count(where);
+            case ESTIMATED -> this.estimatedCounts.get(
+                    CountCache.keyOf(aQuery.terms()),
+                    () -> this.itemListingRepository.count(where));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private static String sortKey(final String aField) {
+        return SORT_KEYS.getOrDefault(aField, aField);
+    }
+
+    private static ItemPreview toPreview(final Tuple aTuple) {
+        return new ItemPreview(
+                aTuple.get(ID, String.class),
+                aTuple.get(NAME, String.class),
+                aTuple.get(DESCRIPTION, String.class),
+                aTuple.get(PRICE, Double.class),
+                aTuple.get(CREATED_AT, Instant.class));
+    }
+
+    private boolean isRelevance(final SearchQuery aQuery) {
+        return RELEVANCE.equalsIgnoreCase(aQuery.sort());
+    }
+
+    // Mesma semântica do ItemMySQLGateway, mas o LIKE vai nos tokens já normalizados
+    private Specification<ItemListingJpaEntity> assembleSpecification(final String terms) {
+        final var tokens = SqlUtils.tokens(terms);
+
+        final var likes = tokens.stream()
+                .filter(token -> !this.fullText || !isIndexable(token))
+                .map(token -> SpecificationUtils.<ItemListingJpaEntity>contains(SEARCH_TOKENS, token));
+
+        final var match = this.fullTextExpression(terms)
+                .map(expression -> SpecificationUtils.<ItemListingJpaEntity>match(expression, NAME, DESCRIPTION))
+                .stream();
+
+        return Stream.concat(match, likes)
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    private Optional<String> fullTextExpression(final String terms) {
+        if (!this.fullText) {
+            return Optional.empty();
+        }
+
+        final var indexable = SqlUtils.tokens(terms).stream()
+                .filter(this::isIndexable)
+                .map(SqlUtils::fullTextToken)
+                .toList();
+
+        return indexable.isEmpty() ? Optional.empty() : Optional.of(SqlUtils.fullText(indexable));
+    }
+
+    private boolean isIndexable(final String token) {
+        return SqlUtils.fullTextToken(token).length() >= FULL_TEXT_MIN_TOKEN;
+    }
+
+    // Faixa de ids: limite inferior aberto ou fechado, superior sempre exclusivo; null = sem limite
+    private record IdRange(String lower, boolean lowerInclusive, String upper, boolean upperInclusive) {
+
+        IdRange(final String lower, final boolean lowerInclusive, final String upper) {
+            this(lower, lowerInclusive, upper, false);
+        }
+
+        IdRange upTo(final String anId) {
+            return new IdRange(lower, lowerInclusive, anId, true);
+        }
+
+        <T> Specification<T> specification() {
+            return (root, query, cb) -> predicate(root.get(ID), cb);
+        }
+
+        Predicate predicate(final Path<String> id, final CriteriaBuilder cb) {
+            final var predicates = new ArrayList<Predicate>(2);
+            if (lower != null) {
+                predicates.add(lowerInclusive ? cb.greaterThanOrEqualTo(id, lower) : cb.greaterThan(id, lower));
+            }
+            if (upper != null) {
+                predicates.add(upperInclusive ? cb.lessThanOrEqualTo(id, upper) : cb.lessThan(id, upper));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        }
+    }
+}
@@ -1,41 +1,131 @@
 package com.starter.crudexample.infrastructure.item;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.starter.crudexample.domain.event.DomainEventPublisher;
+import com.starter.crudexample.domain.exceptions.DomainException;
 import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemDeleted;
 import com.starter.crudexample.domain.item.ItemGateway;
 import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.CountMode;
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.domain.validation.Error;
 import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
 import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
+import com.starter.crudexample.infrastructure.utils.CountCache;
+import com.starter.crudexample.infrastructure.utils.CursorUtils;
+import com.starter.crudexample.infrastructure.utils.JpaQueryUtils;
+import com.starter.crudexample.infrastructure.utils.SortCatalog;
 import com.starter.crudexample.infrastructure.utils.SpecificationUtils;
+import com.starter.crudexample.infrastructure.utils.SqlUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 
 @Component
 public class ItemMySQLGateway implements ItemGateway {
 
+    private static final int ESTIMATED_COUNT_ENTRIES = 1_000;
+    // innodb_ft_min_token_size: tokens menores não entram no índice FULLTEXT
+    private static final int FULL_TEXT_MIN_TOKEN = 3;
+    private static final String RELEVANCE = "relevance";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ID = "id";
+    private static final String PRICE = "price";
+    private static final String CREATED_AT = "createdAt";
+    private static final List<String> PREVIEW_COLUMNS = List.of(ID, NAME, DESCRIPTION, PRICE, CREATED_AT);
+    private static final BinaryIdConverter ID_CONVERTER = new BinaryIdConverter();
+    // Índices (deleted_at, name, id), (deleted_at, price, id) e (deleted_at, created_at, id): ver V11__index_soft_deleted_rows.sql
+    private static final SortCatalog SORTS = SortCatalog.of(NAME, PRICE, CREATED_AT);
+
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
+    private final DomainEventPublisher eventPublisher;
+    private final CountCache estimatedCounts;
+    private final boolean fullText;
+    private final int batchSize;
+    private final int exportFetchSize;
 
-    public ItemMySQLGateway(final ItemRepository itemRepository) {
+    public ItemMySQLGateway(
+            final ItemRepository itemRepository,
+            final EntityManager entityManager,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${app.pagination.estimated-count-ttl:30s}") final Duration estimatedCountTtl,
+            @Value("${app.search.full-text:false}") final boolean fullText,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") final int batchSize,
+            @Value("${app.export.fetch-size:1000}") final int exportFetchSize) {
         this.itemRepository = Objects.requireNonNull(itemRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        // Ouvintes síncronos (ItemListingMySQLGateway, OutboxMySQLGateway) rodam na mesma transação da escrita
+        this.eventPublisher = Objects.requireNonNull(eventPublisher)::publishEvent;
+        this.estimatedCounts = new CountCache(estimatedCountTtl, ESTIMATED_COUNT_ENTRIES);
+        this.fullText = fullText;
+        this.batchSize = batchSize;
+        this.exportFetchSize = exportFetchSize;
     }
 
+    // Transacional mesmo sem UnitOfWork (ex.: fallback do write-behind): os ouvintes dos eventos
+    // (listagem, outbox) gravam na mesma transação do item
     @Override
+    @Transactional
     public Item create(Item anItem) {
-        return save(anItem);
+        final var created = this.itemRepository.save(ItemJpaEntity.newEntity(anItem)).toAggregate();
+        anItem.publishDomainEvents(this.eventPublisher);
+        return created;
+    }
+
+    // persist + flush/clear a cada lote: o Hibernate agrupa os INSERTs em batches JDBC
+    // (hibernate.jdbc.batch_size / order_inserts) sem acumular entidades no contexto
+    @Override
+    @Transactional
+    public List<Item> createAll(final List<Item> anItems) {
+        for (int i = 0; i < anItems.size(); i++) {
+            this.entityManager.persist(ItemJpaEntity.newEntity(anItems.get(i)));
+            anItems.get(i).publishDomainEvents(this.eventPublisher);
+
+            if ((i + 1) % this.batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        return List.copyOf(anItems);
     }
 
+    // Soft delete: só publica o evento se o UPDATE de fato marcou o item
     @Override
+    @Transactional
     public void deleteById(ItemID anId) {
-        this.itemRepository.deleteById(anId.getValue());
+        if (this.itemRepository.softDeleteById(anId.getValue(), InstantUtils.now()) > 0) {
+            this.eventPublisher.publishEvent(ItemDeleted.of(anId));
+        }
     }
 
     @Override
@@ -45,47 +135,255 @@ public class ItemMySQLGateway implements ItemGateway {
     }
 
     @Override
+    public Optional<Long> findVersion(final ItemID anId) {
+        return this.itemRepository.findVersionById(anId.getValue());
+    }
+
+    @Override
+    @Transactional
     public Item update(final Item anItem) {
         return save(anItem);
     }
 
     @Override
     public Pagination<Item> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
+        final var criteria = criteriaOf(aQuery);
+        final var where = criteria.where();
+        final var sort = criteria.sort();
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        if (aQuery.hasCursor()) {
+            return findAfter(aQuery, where, sort);
+        }
+
+        if (aQuery.count() != CountMode.EXACT) {
+            return findSlice(aQuery, where, sort);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
 
         final var pageResult = this.itemRepository.findAll(where, page);
+        final var nextCursor = pageResult.hasNext()
+                ? nextCursor(aQuery, pageResult.getContent().get(pageResult.getNumberOfElements() - 1))
+                : null;
 
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(ItemJpaEntity::toAggregate).toList());
+                pageResult.map(ItemJpaEntity::toAggregate).toList(),
+                pageResult.hasNext(),
+                nextCursor);
+    }
+
+    @Override
+    public Pagination<ItemPreview> findAllPreviews(final SearchQuery aQuery) {
+        final var criteria = criteriaOf(aQuery);
+
+        final var where = aQuery.hasCursor()
+                ? CursorUtils.<ItemJpaEntity>after(aQuery.after(), aQuery.sort(), aQuery.direction()).and(criteria.where())
+                : criteria.where();
+
+        final var rows = JpaQueryUtils.select(
+                this.entityManager,
+                ItemJpaEntity.class,
+                previewColumns(aQuery),
+                where,
+                criteria.sort(),
+                aQuery.hasCursor() ? 0 : aQuery.offset(),
+                aQuery.perPage() + 1);
+
+        return toPagination(aQuery, criteria.where(), rows, ItemMySQLGateway::toPreview);
+    }
+
+    // Percorre o resultado inteiro em ordem de id sem paginar: cada linha é entregue ao
+    // consumidor e descartada, então a memória não cresce com o tamanho do catálogo
+    @Override
+    public void exportAll(final String terms, final Consumer<ItemPreview> aConsumer) {
+        final var where = Optional.ofNullable(terms)
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        try (final var rows = JpaQueryUtils.stream(
+                this.entityManager,
+                ItemJpaEntity.class,
+                PREVIEW_COLUMNS,
+                where,
+                Sort.by(ID),
+                this.exportFetchSize)) {
+            rows.map(ItemMySQLGateway::toPreview).forEach(aConsumer);
+        }
     }
 
     @Override
     public List<ItemID> existsByIds(final Iterable<ItemID> ItemIDS) {
         final var ids = StreamSupport.stream(ItemIDS.spliterator(), false)
-                .map(ItemID::getValue)
+                .map(anId -> ID_CONVERTER.convertToDatabaseColumn(anId.getValue()))
                 .toList();
 
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
         return this.itemRepository.existsByIds(ids).stream()
-                .map(ItemID::from)
+                .map(anId -> ItemID.from(ID_CONVERTER.convertToEntityAttribute(anId)))
                 .toList();
     }
 
+    // Flush imediato: o agregado devolvido já traz a versão incrementada pelo UPDATE (ETag da resposta)
     private Item save(final Item anItem) {
-        return this.itemRepository.save(ItemJpaEntity.from(anItem)).toAggregate();
+        final var saved = this.itemRepository.saveAndFlush(ItemJpaEntity.from(anItem)).toAggregate();
+        anItem.publishDomainEvents(this.eventPublisher);
+        return saved;
+    }
+
+    private Criteria criteriaOf(final SearchQuery aQuery) {
+        final var byRelevance = isRelevance(aQuery);
+        if (byRelevance && aQuery.hasCursor()) {
+            throw DomainException.with(new Error("Sort 'relevance' does not support cursor pagination"));
+        }
+
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+
+        final var relevance = terms
+                .flatMap(this::fullTextExpression)
+                .filter(expression -> byRelevance);
+
+        // Sem busca full-text não há score: relevance cai para a ordenação por nome
+        final var sort = byRelevance
+                ? relevance.map(expression -> Sort.unsorted()).orElseGet(() -> CursorUtils.sort(NAME, "asc"))
+                : SORTS.sort(aQuery.sort(), aQuery.direction());
+
+        final var where = terms
+                .map(this::assembleSpecification)
+                .map(spec -> relevance
+                        .map(expression -> spec.and(SpecificationUtils.<ItemJpaEntity>orderByMatch(expression, NAME, DESCRIPTION, ID)))
+                        .orElse(spec))
+                .orElse(null);
+
+        return new Criteria(where, sort);
+    }
+
+    // Keyset: busca perPage + 1 linhas a partir do cursor para saber se existe uma próxima página
+    private Pagination<Item> findAfter(
+            final SearchQuery aQuery,
+            final Specification<ItemJpaEntity> where,
+            final Sort sort) {
+        final var seek = CursorUtils.<ItemJpaEntity>after(aQuery.after(), aQuery.sort(), aQuery.direction());
+
+        final var rows = this.itemRepository.findBy(
+                seek.and(where),
+                query -> query.sortBy(sort).limit(aQuery.perPage() + 1).all());
+
+        return toPagination(aQuery, where, rows, ItemJpaEntity::toAggregate);
+    }
+
+    // Offset sem COUNT(*): perPage + 1 linhas dizem se existe uma próxima página
+    private Pagination<Item> findSlice(
+            final SearchQuery aQuery,
+            final Specification<ItemJpaEntity> where,
+            final Sort sort) {
+        final var rows = JpaQueryUtils.slice(
+                this.entityManager,
+                ItemJpaEntity.class,
+                where,
+                sort,
+                aQuery.offset(),
+                aQuery.perPage() + 1);
+
+        return toPagination(aQuery, where, rows, ItemJpaEntity::toAggregate);
+    }
+
+    private <R, T> Pagination<T> toPagination(
+            final SearchQuery aQuery,
+            final Specification<ItemJpaEntity> where,
+            final List<R> rows,
+            final Function<R, T> mapper) {
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var content = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+        final var nextCursor = hasNext ? nextCursor(aQuery, content.get(content.size() - 1)) : null;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                countOf(aQuery, where),
+                content.stream().map(mapper).toList(),
+                hasNext,
+                nextCursor);
+    }
+
+    private long countOf(final SearchQuery aQuery, final Specification<ItemJpaEntity> where) {
+        return switch (aQuery.count()) {
+            case EXACT -> this.itemRepository.count(where);
+            case ESTIMATED -> this.estimatedCounts.get(
+                    CountCache.keyOf(aQuery.terms()),
+                    () -> this.itemRepository.count(where));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private String nextCursor(final SearchQuery aQuery, final Object last) {
+        return isRelevance(aQuery) ? null : CursorUtils.next(last, aQuery.sort(), aQuery.direction());
     }
 
+    // A coluna de ordenação entra na projeção para que o cursor possa ser montado
+    private Set<String> previewColumns(final SearchQuery aQuery) {
+        final var columns = new LinkedHashSet<>(PREVIEW_COLUMNS);
+        if (!isRelevance(aQuery)) {
+            columns.add(aQuery.sort());
+        }
+        return columns;
+    }
+
+    private static ItemPreview toPreview(final Tuple aTuple) {
+        return new ItemPreview(
+                aTuple.get(ID, String.class),
+                aTuple.get(NAME, String.class),
+                aTuple.get(DESCRIPTION, String.class),
+                aTuple.get(PRICE, Double.class),
+                aTuple.get(CREATED_AT, Instant.class));
+    }
+
+    private boolean isRelevance(final SearchQuery aQuery) {
+        return RELEVANCE.equalsIgnoreCase(aQuery.sort());
+    }
+
+    // Todos os tokens são obrigatórios (AND): os indexáveis vão para o MATCH ... AGAINST,
+    // os curtos demais para o índice (ou todos, sem full-text) viram LIKE no nome
     private Specification<ItemJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        final var tokens = SqlUtils.tokens(terms);
+
+        final var likes = tokens.stream()
+                .filter(token -> !this.fullText || !isIndexable(token))
+                .map(token -> SpecificationUtils.<ItemJpaEntity>like(NAME, token));
+
+        final var match = this.fullTextExpression(terms)
+                .map(expression -> SpecificationUtils.<ItemJpaEntity>match(expression, NAME, DESCRIPTION))
+                .stream();
+
+        return Stream.concat(match, likes)
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    private Optional<String> fullTextExpression(final String terms) {
+        if (!this.fullText) {
+            return Optional.empty();
+        }
+
+        final var indexable = SqlUtils.tokens(terms).stream()
+                .filter(this::isIndexable)
+                .map(SqlUtils::fullTextToken)
+                .toList();
+
+        return indexable.isEmpty() ? Optional.empty() : Optional.of(SqlUtils.fullText(indexable));
+    }
+
+    private boolean isIndexable(final String token) {
+        return SqlUtils.fullTextToken(token).length() >= FULL_TEXT_MIN_TOKEN;
+    }
+
+    private record Criteria(Specification<ItemJpaEntity> where, Sort sort) {
     }
 }
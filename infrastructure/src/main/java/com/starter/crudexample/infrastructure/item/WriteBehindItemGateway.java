@@ -0,0 +1,241 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+
+/**
+ * Modo assíncrono de {@link ItemGateway#create}: o item vai para o journal local (fsync) e para
+ * uma fila limitada, e uma única thread grava a fila em lotes com {@link ItemGateway#createAll},
+ * um commit por lote em vez de um por requisição. Um lote que falha é repetido com backoff e, se
+ * continuar falhando, vai para o dead letter do journal. Os demais métodos só delegam.
+ */
+public class WriteBehindItemGateway implements ItemGateway, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindItemGateway.class);
+    private static final long POLL_MILLIS = 100;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ItemGateway itemGateway;
+    private final ItemJournal journal;
+    private final BlockingQueue<Item> queue;
+    // Uma vaga é reservada antes do journal: só entra no journal o que com certeza cabe na fila
+    private final Semaphore slots;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration retryBackoff;
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public WriteBehindItemGateway(
+            final ItemGateway itemGateway,
+            final Path journalPath,
+            final int capacity,
+            final int batchSize,
+            final Duration offerTimeout,
+            final Duration retryBackoff) {
+        this.itemGateway = Objects.requireNonNull(itemGateway);
+        this.journal = ItemJournal.open(journalPath);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.slots = new Semaphore(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = Objects.requireNonNull(offerTimeout);
+        this.retryBackoff = Objects.requireNonNull(retryBackoff);
+    }
+
+    // Reaplica o journal de uma execução anterior antes de aceitar novos itens
+    public void start() {
+        replay();
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("items-write-behind").start(this::drain);
+    }
+
+    // Com a fila cheia por mais de offerTimeout a requisição grava sozinha, sem passar pelo journal:
+    // a fila segura a rajada mas não cresce sem limite, e um erro aqui não deixa nada para reaplicar
+    @Override
+    public Item create(final Item anItem) {
+        if (!this.running || !reserveSlot()) {
+            return this.itemGateway.create(anItem);
+        }
+
+        try {
+            this.journal.append(anItem);
+        } catch (final RuntimeException e) {
+            this.slots.release();
+            throw e;
+        }
+
+        this.queue.add(anItem);
+        return anItem;
+    }
+
+    @Override
+    public List<Item> createAll(final List<Item> anItems) {
+        return this.itemGateway.createAll(anItems);
+    }
+
+    @Override
+    public void deleteById(final ItemID anId) {
+        this.itemGateway.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Item> findById(final ItemID anId) {
+        return this.itemGateway.findById(anId);
+    }
+
+    @Override
+    public Optional<Long> findVersion(final ItemID anId) {
+        return this.itemGateway.findVersion(anId);
+    }
+
+    @Override
+    public Item update(final Item anItem) {
+        return this.itemGateway.update(anItem);
+    }
+
+    @Override
+    public Pagination<Item> findAll(final SearchQuery aQuery) {
+        return this.itemGateway.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<ItemPreview> findAllPreviews(final SearchQuery aQuery) {
+        return this.itemGateway.findAllPreviews(aQuery);
+    }
+
+    @Override
+    public void exportAll(final String terms, final Consumer<ItemPreview> aConsumer) {
+        this.itemGateway.exportAll(terms, aConsumer);
+    }
+
+    @Override
+    public List<ItemID> existsByIds(final Iterable<ItemID> ids) {
+        return this.itemGateway.existsByIds(ids);
+    }
+
+    // Para de aceitar, espera a thread esvaziar a fila e fecha o journal
+    @Override
+    public void close() throws IOException {
+        this.running = false;
+
+        final var aWriter = this.writer;
+        if (aWriter != null) {
+            try {
+                aWriter.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        this.journal.close();
+    }
+
+    private boolean reserveSlot() {
+        try {
+            return this.slots.tryAcquire(this.offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        final var batch = new ArrayList<Item>(this.batchSize);
+
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                final var first = this.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                this.queue.drainTo(batch, this.batchSize - 1);
+                this.slots.release(batch.size());
+                write(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Enquanto repete, a fila enche e as requisições passam a gravar de forma síncrona
+    private void write(final List<Item> aBatch) throws InterruptedException {
+        var backoff = this.retryBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                this.itemGateway.createAll(aBatch);
+                this.journal.committed(aBatch);
+                return;
+            } catch (final RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    LOGGER.error("Could not write {} queued items after {} attempts; moving them to {}",
+                            aBatch.size(), attempt, this.journal.deadLetterPath(), e);
+                    deadLetter(aBatch);
+                    return;
+                }
+                LOGGER.warn("Could not write {} queued items, retrying in {}", aBatch.size(), backoff, e);
+                Thread.sleep(backoff.toMillis());
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    // Sem o dead letter o lote continua no journal e é reaplicado na próxima inicialização
+    private void deadLetter(final List<Item> aBatch) {
+        try {
+            this.journal.deadLetter(aBatch);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Could not dead-letter {} queued items; they stay in the journal until the next start", aBatch.size(), e);
+        }
+    }
+
+    // Itens aceitos antes de uma queda: grava os que ainda não estão no banco e zera o journal.
+    // O arquivo é lido em lotes, sem carregar tudo em memória
+    private void replay() {
+        final var replayed = new AtomicInteger();
+        final var journaled = this.journal.replay(this.batchSize, batch -> {
+            final var existing = new HashSet<>(this.itemGateway.existsByIds(batch.stream().map(Item::getId).toList()));
+            final var missing = batch.stream()
+                    .filter(anItem -> !existing.contains(anItem.getId()))
+                    .toList();
+
+            if (!missing.isEmpty()) {
+                this.itemGateway.createAll(missing);
+                replayed.addAndGet(missing.size());
+            }
+        });
+
+        if (journaled == 0) {
+            return;
+        }
+
+        LOGGER.info("Replayed {} of {} journaled items", replayed.get(), journaled);
+        this.journal.truncate();
+    }
+}
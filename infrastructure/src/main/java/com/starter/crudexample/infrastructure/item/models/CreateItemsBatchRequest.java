@@ -0,0 +1,10 @@
+package com.starter.crudexample.infrastructure.item.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateItemsBatchRequest(
+        @JsonProperty("items") List<CreateItemRequest> items
+) {
+}
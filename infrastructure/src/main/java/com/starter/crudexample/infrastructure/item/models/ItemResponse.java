@@ -8,7 +8,8 @@ public record ItemResponse (
         @JsonProperty("description") String description,
         @JsonProperty("price") Double price,
         @JsonProperty("created_at") String createdAt,
-        @JsonProperty("updated_at") String updatedAt
+        @JsonProperty("updated_at") String updatedAt,
+        @JsonProperty("version") long version
 ) {
 }
 
@@ -3,7 +3,8 @@ package com.starter.crudexample.infrastructure.item.models;
 public record UpdateItemRequest(
     String name,
     String description,
-    Double price
+    Double price,
+    Long version
 ) {
 
 }
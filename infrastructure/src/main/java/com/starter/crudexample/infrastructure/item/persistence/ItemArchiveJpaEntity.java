@@ -0,0 +1,138 @@
+package com.starter.crudexample.infrastructure.item.persistence;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+// Cópia de um item frio, com as mesmas colunas de items: somente leitura depois de arquivado
+@Entity(name = "ItemArchive")
+@Table(name = "items_archive")
+public class ItemArchiveJpaEntity implements Persistable<String> {
+
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", length = 4000)
+    private String description;
+
+    @Column(name = "price", nullable = false, columnDefinition = "DECIMAL(19,2)")
+    private Double price;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "archived_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant archivedAt;
+
+    // Mesma chave de ordenação de item_listings, para que as duas fontes saiam na mesma ordem
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
+    @Transient
+    private boolean isNew;
+
+    public ItemArchiveJpaEntity() {
+    }
+
+    public static ItemArchiveJpaEntity from(final ItemJpaEntity anItem, final Instant archivedAt) {
+        final var anEntity = new ItemArchiveJpaEntity();
+        anEntity.id = anItem.getId();
+        anEntity.name = anItem.getName();
+        anEntity.description = anItem.getDescription();
+        anEntity.price = anItem.getPrice();
+        anEntity.createdAt = anItem.getCreatedAt();
+        anEntity.updatedAt = anItem.getUpdatedAt();
+        anEntity.version = anItem.getVersion();
+        anEntity.archivedAt = archivedAt;
+        anEntity.nameKey = ItemListingJpaEntity.nameKey(anItem.getName());
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    public Item toAggregate() {
+        return Item.rehydrate(
+                ItemID.from(getId()),
+                getName(),
+                getDescription(),
+                getPrice(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                null,
+                getVersion()
+        );
+    }
+
+    // Só é inserido pelo arquivamento, nunca atualizado; lido do banco deixa de ser novo para que
+    // o delete do Spring Data não o ignore
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+}
@@ -0,0 +1,20 @@
+package com.starter.crudexample.infrastructure.item.persistence;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ItemArchiveRepository extends JpaRepository<ItemArchiveJpaEntity, String>, JpaSpecificationExecutor<ItemArchiveJpaEntity> {
+
+    @Query(value = "select c.version from ItemArchive c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    // Um DELETE, sem o SELECT do deleteById: 0 se o item não está no arquivo
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from ItemArchive c where c.id = :id")
+    int deleteArchivedById(@Param("id") String id);
+}
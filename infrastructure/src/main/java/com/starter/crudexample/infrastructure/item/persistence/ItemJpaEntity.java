@@ -2,20 +2,33 @@ package com.starter.crudexample.infrastructure.item.persistence;
 
 import com.starter.crudexample.domain.item.Item;
 import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
+
+// Soft delete: toda consulta do Hibernate (find, JPQL, Criteria) ignora linhas removidas;
+// o TombstonePurger apaga as lápides depois da retenção
 @Entity(name = "Item")
 @Table(name = "items")
-public class ItemJpaEntity {
+@SQLRestriction("deleted_at IS NULL")
+public class ItemJpaEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", nullable = false, columnDefinition = "CHAR(36)")
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -36,6 +49,15 @@ public class ItemJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // UPDATE ... WHERE version = ?: escrita concorrente falha em vez de sobrescrever
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // Ids são gerados pela aplicação: sem isso o save faria merge (SELECT + INSERT)
+    @Transient
+    private boolean isNew;
+
     public ItemJpaEntity() {
     }
 
@@ -46,7 +68,8 @@ public class ItemJpaEntity {
             final Double price,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
@@ -55,6 +78,7 @@ public class ItemJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static ItemJpaEntity from(final Item aItem){
@@ -65,22 +89,43 @@ public class ItemJpaEntity {
                 aItem.getPrice(),
                 aItem.getCreatedAt(),
                 aItem.getUpdatedAt(),
-                aItem.getDeletedAt()
+                aItem.getDeletedAt(),
+                aItem.getVersion()
         );
     }
 
+    // Usado na criação: o save vira um persist, emitindo apenas o INSERT
+    public static ItemJpaEntity newEntity(final Item aItem) {
+        final var anEntity = from(aItem);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public Item toAggregate(){
-        return Item.with(
+        return Item.rehydrate(
                 ItemID.from(getId()),
                 getName(),
                 getDescription(),
                 getPrice(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     // Getters and Setters
+    @Override
     public String getId() {
         return id;
     }
@@ -123,6 +168,12 @@ public class ItemJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+    public long getVersion() {
+        return version;
+    }
+    public void setVersion(long version) {
+        this.version = version;
+    }
 
 
 }
@@ -0,0 +1,140 @@
+package com.starter.crudexample.infrastructure.item.persistence;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Persistable;
+
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
+import com.starter.crudexample.infrastructure.utils.SqlUtils;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+// Modelo de leitura da listagem: uma linha por item com as colunas exibidas e as chaves de
+// ordenação e busca já calculadas na escrita, sem UPPER() por linha na consulta
+@Entity(name = "ItemListing")
+@Table(name = "item_listings")
+public class ItemListingJpaEntity implements Persistable<String> {
+
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", length = 4000)
+    private String description;
+
+    @Column(name = "price", nullable = false, columnDefinition = "DECIMAL(19,2)")
+    private Double price;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    // Nome normalizado: ordenação independente de caixa e da collation da coluna
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
+    // Tokens distintos do nome, em maiúsculas e separados por um espaço
+    @Column(name = "search_tokens", nullable = false)
+    private String searchTokens;
+
+    @Transient
+    private boolean isNew;
+
+    public ItemListingJpaEntity() {
+    }
+
+    private ItemListingJpaEntity(
+            final String id,
+            final String name,
+            final String description,
+            final Double price,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.createdAt = createdAt;
+        this.nameKey = nameKey(name);
+        this.searchTokens = searchTokens(name);
+    }
+
+    public static ItemListingJpaEntity from(final ItemPreview aPreview) {
+        return new ItemListingJpaEntity(
+                aPreview.id(),
+                aPreview.name(),
+                aPreview.description(),
+                aPreview.price(),
+                aPreview.createdAt()
+        );
+    }
+
+    public static ItemListingJpaEntity newEntity(final ItemPreview aPreview) {
+        final var anEntity = from(aPreview);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    public static String nameKey(final String aName) {
+        return ItemPreview.nameKey(aName);
+    }
+
+    public static String searchTokens(final String aName) {
+        return SqlUtils.tokens(aName).stream()
+                .map(SqlUtils::upper)
+                .distinct()
+                .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    public String getSearchTokens() {
+        return searchTokens;
+    }
+}
@@ -0,0 +1,7 @@
+package com.starter.crudexample.infrastructure.item.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface ItemListingRepository extends JpaRepository<ItemListingJpaEntity, String>, JpaSpecificationExecutor<ItemListingJpaEntity> {
+}
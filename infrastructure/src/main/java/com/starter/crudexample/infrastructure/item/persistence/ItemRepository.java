@@ -1,17 +1,31 @@
 package com.starter.crudexample.infrastructure.item.persistence;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ItemRepository  extends JpaRepository<ItemJpaEntity, String> {
+public interface ItemRepository  extends JpaRepository<ItemJpaEntity, String>, JpaSpecificationExecutor<ItemJpaEntity> {
     Page<ItemJpaEntity> findAll(Specification<ItemJpaEntity> specification, Pageable page);
 
-    @Query(value = "select c.id from Item c where c.id in :ids")
-    List<String> existsByIds(@Param("ids") List<String> ids);
+    // Nativo para enxergar as lápides, que o @SQLRestriction esconde: um id removido continua ocupando a PK
+    @Query(value = "select id from items where id in (:ids)", nativeQuery = true)
+    List<byte[]> existsByIds(@Param("ids") List<byte[]> ids);
+
+    @Query(value = "select c.version from Item c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    // Um UPDATE condicional, sem o SELECT do deleteById: 0 se o item não existe ou já foi removido.
+    // Limpa o contexto para que um find na mesma transação não devolva a entidade já carregada
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Item c set c.deletedAt = :now, c.updatedAt = :now, c.version = c.version + 1 where c.id = :id and c.deletedAt is null")
+    int softDeleteById(@Param("id") String id, @Param("now") Instant now);
 }
@@ -0,0 +1,94 @@
+package com.starter.crudexample.infrastructure.item.presenter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.infrastructure.item.models.ItemListResponse;
+
+/**
+ * Escreve cada item exportado direto no {@link Writer} da resposta, sem montar a lista.
+ */
+public final class ItemExportWriter implements Consumer<ItemListOutput> {
+
+    private static final String CSV_HEADER = "id,name,description,price,created_at";
+
+    private final ItemFileFormat format;
+    private final ObjectWriter json;
+    private final Writer out;
+
+    private ItemExportWriter(final ItemFileFormat format, final ObjectMapper mapper, final Writer out) {
+        this.format = Objects.requireNonNull(format);
+        // Sem fechar nem dar flush no Writer a cada linha: quem controla o buffer é a resposta
+        this.json = mapper.writerFor(ItemListResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.out = Objects.requireNonNull(out);
+    }
+
+    public static ItemExportWriter of(final ItemFileFormat format, final ObjectMapper mapper, final Writer out) {
+        final var writer = new ItemExportWriter(format, mapper, out);
+        if (format == ItemFileFormat.CSV) {
+            writer.line(CSV_HEADER);
+        }
+        return writer;
+    }
+
+    @Override
+    public void accept(final ItemListOutput anItem) {
+        final var response = ItemPresenter.present(anItem);
+
+        try {
+            switch (this.format) {
+                case NDJSON -> {
+                    this.json.writeValue(this.out, response);
+                    this.out.write('\n');
+                }
+                case CSV -> {
+                    csv(response.id());
+                    this.out.write(',');
+                    csv(response.name());
+                    this.out.write(',');
+                    csv(response.description());
+                    this.out.write(',');
+                    this.out.write(String.valueOf(response.price()));
+                    this.out.write(',');
+                    csv(response.createdAt());
+                    this.out.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void line(final String aLine) {
+        try {
+            this.out.write(aLine);
+            this.out.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void csv(final String aValue) throws IOException {
+        if (aValue == null) {
+            return;
+        }
+
+        if (aValue.indexOf(',') < 0 && aValue.indexOf('"') < 0 && aValue.indexOf('\n') < 0 && aValue.indexOf('\r') < 0) {
+            this.out.write(aValue);
+            return;
+        }
+
+        this.out.write('"');
+        this.out.write(aValue.replace("\"", "\"\""));
+        this.out.write('"');
+    }
+}
@@ -0,0 +1,39 @@
+package com.starter.crudexample.infrastructure.item.presenter;
+
+import java.util.Arrays;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.validation.Error;
+
+/**
+ * Formatos aceitos em GET /items/export e POST /items/import: ambos são lidos e escritos linha a linha.
+ */
+public enum ItemFileFormat {
+    // um ItemListResponse em JSON por linha
+    NDJSON("application/x-ndjson", "ndjson"),
+    // cabeçalho + uma linha por item, campos entre aspas quando preciso (RFC 4180)
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ItemFileFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String filename() {
+        return "items." + extension;
+    }
+
+    public static ItemFileFormat of(final String aValue) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(aValue))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'format' must be one of ndjson or csv")));
+    }
+}
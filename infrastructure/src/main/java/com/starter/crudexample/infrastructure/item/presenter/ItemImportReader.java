@@ -0,0 +1,243 @@
+package com.starter.crudexample.infrastructure.item.presenter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.infrastructure.item.models.CreateItemRequest;
+
+/**
+ * Lê o corpo de POST /items/import sob demanda, um registro por vez. Linhas em branco são
+ * ignoradas e registros que não puderam ser lidos são entregues como null, inclusive os que
+ * passam de MAX_RECORD_LENGTH caracteres.
+ */
+public final class ItemImportReader implements Iterator<CreateItemCommand> {
+
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+
+    // Bem acima de um registro válido; limita quanto uma aspa não fechada (ou uma linha sem fim) consome
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    // Registro CSV descartado: comparado por identidade
+    private static final List<String> MALFORMED = new ArrayList<>(0);
+
+    private final ItemFileFormat format;
+    private final ObjectReader json;
+    private final BufferedReader in;
+    private final List<String> header;
+
+    private CreateItemCommand next;
+    private boolean fetched;
+    private boolean done;
+
+    private ItemImportReader(
+            final ItemFileFormat format,
+            final ObjectMapper mapper,
+            final BufferedReader in,
+            final List<String> header) {
+        this.format = Objects.requireNonNull(format);
+        this.json = mapper.readerFor(CreateItemRequest.class);
+        this.in = Objects.requireNonNull(in);
+        this.header = header;
+    }
+
+    // No CSV o cabeçalho é lido e validado aqui, antes de a resposta começar
+    public static ItemImportReader of(final ItemFileFormat format, final ObjectMapper mapper, final BufferedReader in) {
+        if (format == ItemFileFormat.NDJSON) {
+            return new ItemImportReader(format, mapper, in, null);
+        }
+
+        final var record = readRecord(in);
+        final var header = (record == null || record == MALFORMED ? List.<String>of() : record).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        if (!header.containsAll(List.of(NAME, DESCRIPTION, PRICE))) {
+            throw DomainException.with(new Error("CSV header must contain name, description and price"));
+        }
+
+        return new ItemImportReader(format, mapper, in, header);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.fetched) {
+            fetch();
+        }
+        return !this.done;
+    }
+
+    @Override
+    public CreateItemCommand next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.fetched = false;
+        return this.next;
+    }
+
+    private void fetch() {
+        this.fetched = true;
+        try {
+            switch (this.format) {
+                case NDJSON -> fetchJson();
+                case CSV -> fetchCsv();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void fetchJson() throws IOException {
+        String line;
+        do {
+            line = readLine(this.in, MAX_RECORD_LENGTH);
+        } while (line != null && line.isBlank());
+
+        if (line == null) {
+            this.done = true;
+            return;
+        }
+
+        if (line.length() > MAX_RECORD_LENGTH) {
+            this.next = null;
+            return;
+        }
+
+        try {
+            final CreateItemRequest aRequest = this.json.readValue(line);
+            this.next = aRequest == null ? null : CreateItemCommand.with(aRequest.name(), aRequest.description(), aRequest.price());
+        } catch (final JsonProcessingException e) {
+            this.next = null;
+        }
+    }
+
+    private void fetchCsv() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord(this.in);
+        } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields == null) {
+            this.done = true;
+            return;
+        }
+
+        if (fields == MALFORMED || fields.size() != this.header.size()) {
+            this.next = null;
+            return;
+        }
+
+        try {
+            final var price = field(fields, PRICE);
+            this.next = CreateItemCommand.with(
+                    field(fields, NAME),
+                    field(fields, DESCRIPTION),
+                    price.isBlank() ? null : Double.valueOf(price.trim()));
+        } catch (final NumberFormatException e) {
+            this.next = null;
+        }
+    }
+
+    private String field(final List<String> fields, final String aColumn) {
+        return fields.get(this.header.indexOf(aColumn));
+    }
+
+    // RFC 4180: campos entre aspas podem conter vírgulas, aspas duplicadas e quebras de linha.
+    // Um registro maior que MAX_RECORD_LENGTH ou com aspas não fechadas até o fim do arquivo volta como
+    // MALFORMED; a leitura segue na próxima linha física, então só esse trecho é perdido
+    private static List<String> readRecord(final BufferedReader in) {
+        try {
+            var line = readLine(in, MAX_RECORD_LENGTH);
+            if (line == null) {
+                return null;
+            }
+
+            final var fields = new ArrayList<String>();
+            final var field = new StringBuilder();
+            var length = line.length();
+            var quoted = false;
+            var i = 0;
+
+            while (true) {
+                if (length > MAX_RECORD_LENGTH) {
+                    return MALFORMED;
+                }
+
+                if (i == line.length()) {
+                    if (!quoted) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+
+                    line = readLine(in, MAX_RECORD_LENGTH - length);
+                    if (line == null) {
+                        return MALFORMED;
+                    }
+                    field.append('\n');
+                    length += line.length() + 1;
+                    i = 0;
+                    continue;
+                }
+
+                final var c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Como BufferedReader.readLine, mas guarda no máximo aLimit + 1 caracteres: o resto da linha é
+    // descartado e o tamanho acima de aLimit indica que ela foi cortada
+    private static String readLine(final BufferedReader in, final int aLimit) throws IOException {
+        final var line = new StringBuilder();
+        var c = in.read();
+        if (c < 0) {
+            return null;
+        }
+
+        while (c >= 0 && c != '\n') {
+            if (line.length() <= aLimit) {
+                line.append((char) c);
+            }
+            c = in.read();
+        }
+
+        final var last = line.length() - 1;
+        if (last >= 0 && last < aLimit && line.charAt(last) == '\r') {
+            line.setLength(last);
+        }
+        return line.toString();
+    }
+}
@@ -14,7 +14,8 @@ public interface ItemPresenter {
             aitem.description(),
             aitem.price(),
             aitem.createdAt().toString(),
-            aitem.updatedAt().toString()
+            aitem.updatedAt().toString(),
+            aitem.version()
         );
     }
 
@@ -0,0 +1,21 @@
+package com.starter.crudexample.infrastructure.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Sink padrão: só registra os eventos em DEBUG até existir um destino real
+@Component
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void deliver(final List<OutboxMessage> messages) {
+        if (LOGGER.isDebugEnabled()) {
+            messages.forEach(message -> LOGGER.debug("{} {} {}", message.type(), message.id(), message.payload()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.starter.crudexample.infrastructure.outbox;
+
+import java.time.Instant;
+
+import com.starter.crudexample.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+
+// payload é o evento em JSON (snake_case); type é o nome simples da classe, ex.: ItemCreated
+public record OutboxMessage(
+        String id,
+        String type,
+        String payload,
+        Instant occurredOn,
+        Instant createdAt
+) {
+
+    public static OutboxMessage from(final OutboxEventJpaEntity anEntity) {
+        return new OutboxMessage(
+                anEntity.getId(),
+                anEntity.getEventType(),
+                anEntity.getPayload(),
+                anEntity.getOccurredOn(),
+                anEntity.getCreatedAt());
+    }
+}
@@ -0,0 +1,79 @@
+package com.starter.crudexample.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.hibernate.LockOptions;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+import com.starter.crudexample.domain.utils.IdUtils;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.infrastructure.configuration.Json;
+import com.starter.crudexample.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+/**
+ * Tabela {@code outbox_events}: todo {@link DomainEvent} publicado pelos gateways é gravado na
+ * mesma transação da escrita que o originou, e o {@link OutboxRelay} o entrega depois. Sem escrita
+ * dupla: o evento existe se, e somente se, a alteração foi confirmada.
+ */
+@Component
+public class OutboxMySQLGateway {
+
+    private static final String LOCK_TIMEOUT = "jakarta.persistence.lock.timeout";
+
+    private final EntityManager entityManager;
+
+    public OutboxMySQLGateway(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    // MANDATORY: publicar fora de uma transação falha em vez de gravar o evento sozinho
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(final DomainEvent anEvent) {
+        this.entityManager.persist(new OutboxEventJpaEntity(
+                IdUtils.uuid(),
+                anEvent.getClass().getSimpleName(),
+                Json.writeValueAsString(anEvent),
+                anEvent.occurredOn(),
+                InstantUtils.now()));
+    }
+
+    // SELECT ... FOR UPDATE SKIP LOCKED: relays concorrentes pegam lotes disjuntos sem esperar
+    // um pelo outro; as linhas ficam travadas até o fim da transação de quem as pegou
+    public List<OutboxMessage> claim(final int batchSize) {
+        return this.entityManager
+                .createQuery("select e from OutboxEvent e order by e.id", OutboxEventJpaEntity.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .setMaxResults(batchSize)
+                .getResultStream()
+                .map(OutboxMessage::from)
+                .toList();
+    }
+
+    public void delete(final List<String> ids) {
+        this.entityManager
+                .createQuery("delete from OutboxEvent e where e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    // Primeiro pela PK: não percorre a tabela para medir o atraso
+    public Optional<Instant> oldestCreatedAt() {
+        return this.entityManager
+                .createQuery("select e.createdAt from OutboxEvent e order by e.id", Instant.class)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+}
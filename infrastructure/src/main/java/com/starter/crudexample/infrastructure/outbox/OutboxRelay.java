@@ -0,0 +1,126 @@
+package com.starter.crudexample.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Lê o outbox em lotes e entrega cada lote a todos os {@link OutboxSink}s. Claim, entrega e remoção
+ * acontecem na mesma transação: se um sink falhar, o lote volta para a tabela e é tentado de novo.
+ * Lote cheio é seguido imediatamente pelo próximo; caso contrário a thread espera o intervalo.
+ */
+public class OutboxRelay implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMySQLGateway outbox;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration interval;
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private volatile Thread relay;
+    private volatile boolean running;
+
+    public OutboxRelay(
+            final OutboxMySQLGateway outbox,
+            final List<OutboxSink> sinks,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            final int batchSize,
+            final Duration interval) {
+        this.outbox = Objects.requireNonNull(outbox);
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.batchSize = batchSize;
+        this.interval = Objects.requireNonNull(interval);
+
+        this.delivered = meterRegistry.counter("outbox.delivered");
+        this.failures = meterRegistry.counter("outbox.failures");
+        // Do commit da escrita até a entrega: o atraso de ponta a ponta de cada evento
+        this.lag = Timer.builder("outbox.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        // Idade do evento mais antigo ainda na tabela, medida a cada ciclo: cresce se o relay não acompanha
+        Gauge.builder("outbox.oldest.age", this.oldestAgeMillis, age -> age.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        this.running = true;
+        this.relay = Thread.ofPlatform().name("outbox-relay").start(this::run);
+    }
+
+    // Entrega um lote; devolve quantos eventos foram entregues
+    public int relayOnce() {
+        final var relayed = this.transactionTemplate.execute(status -> {
+            final var messages = this.outbox.claim(this.batchSize);
+            if (messages.isEmpty()) {
+                return 0;
+            }
+
+            this.sinks.forEach(sink -> sink.deliver(messages));
+            this.outbox.delete(messages.stream().map(OutboxMessage::id).toList());
+
+            final var now = Instant.now();
+            messages.forEach(message -> this.lag.record(Duration.between(message.createdAt(), now)));
+            return messages.size();
+        });
+
+        this.delivered.increment(relayed);
+        this.oldestAgeMillis.set(this.outbox.oldestCreatedAt()
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, Instant.now()).toMillis()))
+                .orElse(0L));
+        return relayed;
+    }
+
+    private void run() {
+        while (this.running) {
+            try {
+                if (relayOnce() < this.batchSize) {
+                    Thread.sleep(this.interval);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final RuntimeException e) {
+                this.failures.increment();
+                LOGGER.warn("Outbox batch not delivered, it will be retried", e);
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(this.interval);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.running = false;
+        }
+    }
+
+    // Sem interrupt: um lote em andamento termina (ou volta para a tabela) antes de a thread sair
+    @Override
+    public void close() throws InterruptedException {
+        this.running = false;
+        final var aRelay = this.relay;
+        if (aRelay != null) {
+            aRelay.join();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.starter.crudexample.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox (fila, índice de busca, cache...). Todo bean deste tipo recebe
+ * cada lote. A entrega é at-least-once: se qualquer sink falhar, o lote inteiro volta a ser
+ * entregue a todos, então a implementação deve ser idempotente pelo {@link OutboxMessage#id()}.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxMessage> messages);
+}
@@ -0,0 +1,81 @@
+package com.starter.crudexample.infrastructure.outbox.persistence;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Ids UUIDv7 gerados na aplicação: ordenados pelo tempo e, ao contrário de AUTO_INCREMENT,
+// sem desligar o batch de INSERTs do Hibernate
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity implements Persistable<String> {
+
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "event_type", nullable = false, length = 128)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_on", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredOn;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    public OutboxEventJpaEntity(
+            final String id,
+            final String eventType,
+            final String payload,
+            final Instant occurredOn,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredOn = occurredOn;
+        this.createdAt = createdAt;
+    }
+
+    // Só é inserido e depois removido pelo relay, nunca atualizado
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredOn() {
+        return occurredOn;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
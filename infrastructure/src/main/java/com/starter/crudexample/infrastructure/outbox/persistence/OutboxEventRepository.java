@@ -0,0 +1,6 @@
+package com.starter.crudexample.infrastructure.outbox.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+}
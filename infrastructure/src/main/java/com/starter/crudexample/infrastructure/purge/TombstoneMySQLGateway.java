@@ -0,0 +1,49 @@
+package com.starter.crudexample.infrastructure.purge;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Remoção física das linhas marcadas com {@code deleted_at}. SQL nativo de propósito: as entidades
+ * têm {@code @SQLRestriction("deleted_at IS NULL")} e não enxergam as lápides.
+ */
+@Component
+public class TombstoneMySQLGateway {
+
+    private final EntityManager entityManager;
+
+    public TombstoneMySQLGateway(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    // Um lote por transação: escolhe as lápides mais antigas pelo índice (deleted_at, ...) e apaga pela PK,
+    // então o DELETE trava só as linhas do lote
+    @Transactional
+    public int purge(final TombstoneTable aTable, final Instant deletedBefore, final int limit) {
+        final var ids = this.entityManager
+                .createNativeQuery(
+                        "SELECT id FROM %s WHERE deleted_at < :before ORDER BY deleted_at".formatted(aTable.table()))
+                .setParameter("before", deletedBefore)
+                .setMaxResults(limit)
+                .getResultList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        aTable.deleteChildren().ifPresent(sql -> this.entityManager
+                .createNativeQuery(sql)
+                .setParameter("ids", ids)
+                .executeUpdate());
+
+        return this.entityManager
+                .createNativeQuery("DELETE FROM %s WHERE id IN (:ids) AND deleted_at IS NOT NULL".formatted(aTable.table()))
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
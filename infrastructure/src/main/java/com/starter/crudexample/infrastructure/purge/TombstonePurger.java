@@ -0,0 +1,116 @@
+package com.starter.crudexample.infrastructure.purge;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.starter.crudexample.domain.utils.InstantUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Apaga fisicamente as lápides com mais de {@code retention}, um lote pequeno por tabela de cada vez.
+ * Entre lotes a thread espera {@code pause}, o que limita a taxa de DELETEs; sem nada para apagar,
+ * espera {@code interval}.
+ */
+public class TombstonePurger implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TombstonePurger.class);
+
+    private final TombstoneMySQLGateway tombstones;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration interval;
+    private final Duration retention;
+    private final Map<TombstoneTable, Counter> purged = new EnumMap<>(TombstoneTable.class);
+    private final Map<TombstoneTable, Timer> batches = new EnumMap<>(TombstoneTable.class);
+    private final Counter failures;
+    private volatile Thread purger;
+    private volatile boolean running;
+
+    public TombstonePurger(
+            final TombstoneMySQLGateway tombstones,
+            final MeterRegistry meterRegistry,
+            final int batchSize,
+            final Duration pause,
+            final Duration interval,
+            final Duration retention) {
+        this.tombstones = Objects.requireNonNull(tombstones);
+        this.batchSize = batchSize;
+        this.pause = Objects.requireNonNull(pause);
+        this.interval = Objects.requireNonNull(interval);
+        this.retention = Objects.requireNonNull(retention);
+
+        for (final var table : TombstoneTable.values()) {
+            this.purged.put(table, meterRegistry.counter("purge.deleted", "table", table.table()));
+            // Duração de cada lote: é o tempo em que as linhas do lote ficam travadas
+            this.batches.put(table, Timer.builder("purge.batch")
+                    .tag("table", table.table())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+        this.failures = meterRegistry.counter("purge.failures");
+    }
+
+    public void start() {
+        this.running = true;
+        this.purger = Thread.ofPlatform().name("tombstone-purger").start(this::run);
+    }
+
+    // Um lote de cada tabela; devolve quantas linhas foram apagadas
+    public int purgeOnce() {
+        final var deletedBefore = InstantUtils.now().minus(this.retention);
+
+        int total = 0;
+        for (final var table : TombstoneTable.values()) {
+            final int deleted = this.batches.get(table)
+                    .record(() -> this.tombstones.purge(table, deletedBefore, this.batchSize));
+            this.purged.get(table).increment(deleted);
+            total += deleted;
+        }
+        return total;
+    }
+
+    private void run() {
+        while (this.running) {
+            try {
+                await(purgeOnce() > 0 ? this.pause : this.interval);
+            } catch (final RuntimeException e) {
+                this.failures.increment();
+                LOGGER.warn("Could not purge tombstones, retrying in {}", this.interval, e);
+                await(this.interval);
+            }
+        }
+    }
+
+    // O intervalo pode ser longo: close() acorda a thread em vez de esperar ele terminar
+    private synchronized void await(final Duration aDuration) {
+        try {
+            if (this.running) {
+                wait(aDuration.toMillis());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.running = false;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (this) {
+            this.running = false;
+            notifyAll();
+        }
+
+        final var aPurger = this.purger;
+        if (aPurger != null) {
+            aPurger.join();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.starter.crudexample.infrastructure.purge;
+
+import java.util.Optional;
+
+// Tabelas com soft delete e, quando houver, a tabela filha apagada junto (o FK de user_roles tem
+// ON DELETE CASCADE no MySQL, mas o schema gerado pelo Hibernate nos testes não)
+public enum TombstoneTable {
+    ITEMS("items", null, null),
+    USERS("users", "user_roles", "user_id");
+
+    private final String table;
+    private final String childTable;
+    private final String childColumn;
+
+    TombstoneTable(final String table, final String childTable, final String childColumn) {
+        this.table = table;
+        this.childTable = childTable;
+        this.childColumn = childColumn;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    Optional<String> deleteChildren() {
+        return Optional.ofNullable(childTable)
+                .map(child -> "DELETE FROM %s WHERE %s IN (:ids)".formatted(child, childColumn));
+    }
+}
@@ -78,10 +78,17 @@ public class SecurityConfig {
                 ).permitAll()
                 // Permitir acesso ao H2 Console (apenas desenvolvimento)
                 .requestMatchers("/h2-console/**").permitAll()
+                // Reconstrução do modelo de leitura da listagem - apenas ADMIN
+                .requestMatchers("/items/listings/**").hasRole("ADMIN")
                 // Proteger endpoints de Items - ambas roles USER e ADMIN podem fazer todas operações
                 .requestMatchers("/items/**").hasAnyRole("USER", "ADMIN")
+                // Lote de operações de Items - mesmas regras de /items
+                .requestMatchers("/batch").hasAnyRole("USER", "ADMIN")
                 // Proteger endpoints de Users - apenas ADMIN
                 .requestMatchers("/users/**").hasRole("ADMIN")
+                // Health público; métricas (hit ratio do cache etc.) apenas ADMIN
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // Qualquer outra requisição precisa de autenticação
                 .anyRequest().authenticated()
             );
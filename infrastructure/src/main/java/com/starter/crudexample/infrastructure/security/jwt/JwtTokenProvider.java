@@ -1,32 +1,42 @@
 package com.starter.crudexample.infrastructure.security.jwt;
 
-import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import com.starter.crudexample.domain.user.Role;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 
 @Component
 public class JwtTokenProvider {
 
-    private final Key jwtSecret;
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtTokenProvider.class);
+    private static final String ROLES = "roles";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final SecretKey jwtSecret;
     private final long jwtExpirationMs;
+    // Imutável e thread-safe: montado uma vez, não a cada requisição
+    private final JwtParser parser;
+    // Só tokens assinados por nós chegam aqui, então as chaves são as poucas combinações de papéis
+    private final Map<List<String>, Authorities> authorities = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(
         @Value("${app.jwt.secret:mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongToMeetTheRequirements}") String secret,
@@ -34,6 +44,9 @@ public class JwtTokenProvider {
     ) {
         this.jwtSecret = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpirationMs = expirationMs;
+        this.parser = Jwts.parser()
+            .verifyWith(jwtSecret)
+            .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -50,56 +63,41 @@ public class JwtTokenProvider {
             .setSubject(userPrincipal.getId())
             .claim("username", userPrincipal.getUsername())
             .claim("email", userPrincipal.getEmail())
-            .claim("roles", roles)
+            .claim(ROLES, roles)
             .setIssuedAt(now)
             .setExpiration(expiryDate)
             .signWith(jwtSecret)
             .compact();
     }
 
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith((SecretKey) jwtSecret)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        return claims.getSubject();
+    // Uma verificação de assinatura e uma leitura do JSON por token; vazio se o token não é válido
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            final var claims = parser.parseSignedClaims(token).getPayload();
+            final var anAuthorities = authoritiesOf(claims.get(ROLES, List.class));
+            return Optional.of(new VerifiedToken(claims.getSubject(), anAuthorities.roles(), anAuthorities.granted()));
+        } catch (JwtException | IllegalArgumentException ex) {
+            LOGGER.debug("JWT validation failed: {}", ex.getMessage());
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("unchecked")
-    public List<Role> getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith((SecretKey) jwtSecret)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        List<String> roleStrings = (List<String>) claims.get("roles");
-        return roleStrings.stream()
-            .map(role -> Role.valueOf(role.replace("ROLE_", "")))
-            .collect(Collectors.toList());
+    private Authorities authoritiesOf(final List<?> roleStrings) {
+        final var key = roleStrings == null ? List.<String>of() : List.copyOf((List<String>) roleStrings);
+        return authorities.computeIfAbsent(key, JwtTokenProvider::toAuthorities);
     }
 
-    public boolean validateToken(String authToken) {
-        final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(JwtTokenProvider.class);
-        try {
-            Jwts.parser()
-            .verifyWith((SecretKey) jwtSecret)
-            .build()
-            .parseSignedClaims(authToken);
-            return true;
-        } catch (SignatureException ex) {
-            logger.debug("JWT validation failed: {}", ex.getMessage());
-        } catch (MalformedJwtException ex) {
-            logger.debug("JWT validation failed: {}", ex.getMessage());
-        } catch (ExpiredJwtException ex) {
-            logger.debug("JWT validation failed: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            logger.debug("JWT validation failed: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            logger.debug("JWT validation failed: {}", ex.getMessage());
-        }
-        return false;
+    private static Authorities toAuthorities(final List<String> roleStrings) {
+        final var roles = roleStrings.stream()
+            .map(role -> Role.valueOf(role.replace(ROLE_PREFIX, "")))
+            .toList();
+        final var granted = roles.stream()
+            .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role.name()))
+            .toList();
+        return new Authorities(roles, granted);
+    }
+
+    private record Authorities(List<Role> roles, List<GrantedAuthority> granted) {
     }
 }
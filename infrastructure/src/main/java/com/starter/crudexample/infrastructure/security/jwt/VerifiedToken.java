@@ -0,0 +1,16 @@
+package com.starter.crudexample.infrastructure.security.jwt;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import com.starter.crudexample.domain.user.Role;
+
+// Resultado de uma única verificação do token: assinatura, expiração e claims lidos de uma vez.
+// authorities é compartilhada entre todos os tokens com os mesmos papéis
+public record VerifiedToken(
+        String userId,
+        List<Role> roles,
+        List<GrantedAuthority> authorities
+) {
+}
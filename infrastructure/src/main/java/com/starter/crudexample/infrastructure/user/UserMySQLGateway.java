@@ -1,38 +1,98 @@
 package com.starter.crudexample.infrastructure.user;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.starter.crudexample.domain.event.DomainEventPublisher;
+import com.starter.crudexample.domain.pagination.CountMode;
 import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.user.Role;
 import com.starter.crudexample.domain.user.User;
+import com.starter.crudexample.domain.user.UserCreated;
+import com.starter.crudexample.domain.user.UserDeleted;
 import com.starter.crudexample.domain.user.UserGateway;
 import com.starter.crudexample.domain.user.UserID;
+import com.starter.crudexample.domain.user.UserPreview;
+import com.starter.crudexample.domain.user.UserUpdated;
+import com.starter.crudexample.domain.utils.InstantUtils;
 import com.starter.crudexample.infrastructure.user.persistence.UserJpaEntity;
 import com.starter.crudexample.infrastructure.user.persistence.UserRepository;
+import com.starter.crudexample.infrastructure.user.persistence.UserRoleRow;
+import com.starter.crudexample.infrastructure.utils.CountCache;
+import com.starter.crudexample.infrastructure.utils.CursorUtils;
+import com.starter.crudexample.infrastructure.utils.JpaQueryUtils;
+import com.starter.crudexample.infrastructure.utils.SortCatalog;
 import com.starter.crudexample.infrastructure.utils.SpecificationUtils;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
 @Component
 public class UserMySQLGateway implements UserGateway {
 
+    private static final int ESTIMATED_COUNT_ENTRIES = 1_000;
+    private static final String ID = "id";
+    private static final String USERNAME = "username";
+    private static final String EMAIL = "email";
+    private static final String ACTIVE = "active";
+    private static final String CREATED_AT = "createdAt";
+    private static final List<String> PREVIEW_COLUMNS = List.of(ID, USERNAME, EMAIL, ACTIVE, CREATED_AT);
+    // username usa a chave única uk_users_username; created_at o índice (deleted_at, created_at, id) da V11
+    private static final SortCatalog SORTS = SortCatalog.of(USERNAME, CREATED_AT);
+
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final DomainEventPublisher eventPublisher;
+    private final CountCache estimatedCounts;
 
-    public UserMySQLGateway(final UserRepository userRepository) {
+    public UserMySQLGateway(
+        final UserRepository userRepository,
+        final EntityManager entityManager,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${app.pagination.estimated-count-ttl:30s}") final Duration estimatedCountTtl
+    ) {
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        // Ouvinte síncrono (OutboxMySQLGateway) grava o evento na mesma transação do usuário
+        this.eventPublisher = Objects.requireNonNull(eventPublisher)::publishEvent;
+        this.estimatedCounts = new CountCache(estimatedCountTtl, ESTIMATED_COUNT_ENTRIES);
     }
 
+    // User não tem métodos de alteração que registrem eventos: o gateway publica o ciclo de vida
     @Override
-    public User create(User aUser) { return save(aUser); }
+    @Transactional
+    public User create(User aUser) {
+        final var created = this.userRepository.save(UserJpaEntity.newEntity(aUser)).toAggregate();
+        this.eventPublisher.publishEvent(UserCreated.from(created));
+        aUser.publishDomainEvents(this.eventPublisher);
+        return created;
+    }
 
+    // Soft delete: só publica o evento se o UPDATE de fato marcou o usuário
     @Override
-    public void deleteById(UserID anId) { this.userRepository.deleteById(anId.getValue()); }
+    @Transactional
+    public void deleteById(UserID anId) {
+        if (this.userRepository.softDeleteById(anId.getValue(), InstantUtils.now()) > 0) {
+            this.eventPublisher.publishEvent(UserDeleted.of(anId));
+        }
+    }
 
     @Override
     public Optional<User> findById(UserID anId) {
@@ -40,31 +100,86 @@ public class UserMySQLGateway implements UserGateway {
     }
 
     @Override
-    public User update(User aUser) { return save(aUser); }
+    public Optional<Long> findVersion(final UserID anId) {
+        return this.userRepository.findVersionById(anId.getValue());
+    }
+
+    @Override
+    @Transactional
+    public User update(User aUser) {
+        final var updated = save(aUser);
+        this.eventPublisher.publishEvent(UserUpdated.from(updated));
+        aUser.publishDomainEvents(this.eventPublisher);
+        return updated;
+    }
 
     @Override
     public Pagination<User> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(
-            aQuery.page(),
-            aQuery.perPage(),
-            Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var sort = SORTS.sort(aQuery.sort(), aQuery.direction());
 
         final var where = Optional.ofNullable(aQuery.terms())
             .filter(str -> !str.isBlank())
             .map(this::assembleSpecification)
             .orElse(null);
 
+        if (aQuery.hasCursor()) {
+            return findAfter(aQuery, where, sort);
+        }
+
+        if (aQuery.count() != CountMode.EXACT) {
+            return findSlice(aQuery, where, sort);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+
         final var pageResult = this.userRepository.findAll(where, page);
+        final var nextCursor = pageResult.hasNext()
+            ? CursorUtils.next(pageResult.getContent().get(pageResult.getNumberOfElements() - 1), aQuery.sort(), aQuery.direction())
+            : null;
 
         return new Pagination<>(
             pageResult.getNumber(),
             pageResult.getSize(),
             pageResult.getTotalElements(),
-            pageResult.map(UserJpaEntity::toAggregate).toList()
+            pageResult.map(UserJpaEntity::toAggregate).toList(),
+            pageResult.hasNext(),
+            nextCursor
         );
     }
 
+    // Projeção das colunas da listagem; os papéis vêm em uma segunda consulta para a página inteira
+    @Override
+    public Pagination<UserPreview> findAllPreviews(final SearchQuery aQuery) {
+        final var sort = SORTS.sort(aQuery.sort(), aQuery.direction());
+
+        final var base = Optional.ofNullable(aQuery.terms())
+            .filter(str -> !str.isBlank())
+            .map(this::assembleSpecification)
+            .orElse(null);
+
+        final var where = aQuery.hasCursor()
+            ? CursorUtils.<UserJpaEntity>after(aQuery.after(), aQuery.sort(), aQuery.direction()).and(base)
+            : base;
+
+        final var columns = new LinkedHashSet<>(PREVIEW_COLUMNS);
+        columns.add(aQuery.sort());
+
+        final var rows = JpaQueryUtils.select(
+            this.entityManager,
+            UserJpaEntity.class,
+            columns,
+            where,
+            sort,
+            aQuery.hasCursor() ? 0 : aQuery.offset(),
+            aQuery.perPage() + 1
+        );
+
+        final var page = toPagination(aQuery, base, rows, Function.identity());
+        final var roles = rolesOf(page.items());
+
+        return page.map(row -> toPreview(row, roles.getOrDefault(row.get(ID, String.class), List.of())));
+    }
+
     @Override
     public List<UserID> existsByIds(Iterable<UserID> ids) {
         final var idList = StreamSupport.stream(ids.spliterator(), false)
@@ -78,7 +193,7 @@ public class UserMySQLGateway implements UserGateway {
 
     @Override
     public boolean existsByEmail(String email) {
-        return this.userRepository.existsByEmail(email);
+        return this.userRepository.countByEmailIncludingDeleted(email) > 0;
     }
 
     @Override
@@ -86,8 +201,101 @@ public class UserMySQLGateway implements UserGateway {
         return this.userRepository.findByUsername(username).map(UserJpaEntity::toAggregate);
     }
 
+    // Flush imediato: o agregado devolvido já traz a versão incrementada pelo UPDATE (ETag da resposta)
     private User save(final User aUser) {
-        return this.userRepository.save(UserJpaEntity.from(aUser)).toAggregate();
+        return this.userRepository.saveAndFlush(UserJpaEntity.from(aUser)).toAggregate();
+    }
+
+    // Keyset: busca perPage + 1 linhas a partir do cursor para saber se existe uma próxima página
+    private Pagination<User> findAfter(
+        final SearchQuery aQuery,
+        final Specification<UserJpaEntity> where,
+        final Sort sort
+    ) {
+        final var seek = CursorUtils.<UserJpaEntity>after(aQuery.after(), aQuery.sort(), aQuery.direction());
+
+        final var rows = this.userRepository.findBy(
+            seek.and(where),
+            query -> query.sortBy(sort).limit(aQuery.perPage() + 1).all()
+        );
+
+        return toPagination(aQuery, where, rows, UserJpaEntity::toAggregate);
+    }
+
+    // Offset sem COUNT(*): perPage + 1 linhas dizem se existe uma próxima página
+    private Pagination<User> findSlice(
+        final SearchQuery aQuery,
+        final Specification<UserJpaEntity> where,
+        final Sort sort
+    ) {
+        final var rows = JpaQueryUtils.slice(
+            this.entityManager,
+            UserJpaEntity.class,
+            where,
+            sort,
+            aQuery.offset(),
+            aQuery.perPage() + 1
+        );
+
+        return toPagination(aQuery, where, rows, UserJpaEntity::toAggregate);
+    }
+
+    private <R, T> Pagination<T> toPagination(
+        final SearchQuery aQuery,
+        final Specification<UserJpaEntity> where,
+        final List<R> rows,
+        final Function<R, T> mapper
+    ) {
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var content = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+        final var nextCursor = hasNext ? CursorUtils.next(content.get(content.size() - 1), aQuery.sort(), aQuery.direction()) : null;
+
+        return new Pagination<>(
+            aQuery.page(),
+            aQuery.perPage(),
+            countOf(aQuery, where),
+            content.stream().map(mapper).toList(),
+            hasNext,
+            nextCursor
+        );
+    }
+
+    private long countOf(final SearchQuery aQuery, final Specification<UserJpaEntity> where) {
+        return switch (aQuery.count()) {
+            case EXACT -> this.userRepository.count(where);
+            case ESTIMATED -> this.estimatedCounts.get(
+                CountCache.keyOf(aQuery.terms()),
+                () -> this.userRepository.count(where)
+            );
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private Map<String, List<Role>> rolesOf(final List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = rows.stream()
+            .map(row -> row.get(ID, String.class))
+            .toList();
+
+        return this.userRepository.findRolesByUserIds(ids).stream()
+            .collect(Collectors.groupingBy(
+                UserRoleRow::userId,
+                Collectors.mapping(UserRoleRow::role, Collectors.toList())
+            ));
+    }
+
+    private static UserPreview toPreview(final Tuple aTuple, final List<Role> roles) {
+        return new UserPreview(
+            aTuple.get(ID, String.class),
+            aTuple.get(USERNAME, String.class),
+            aTuple.get(EMAIL, String.class),
+            roles,
+            aTuple.get(ACTIVE, Boolean.class),
+            aTuple.get(CREATED_AT, Instant.class)
+        );
     }
 
     private Specification<UserJpaEntity> assembleSpecification(final String terms) {
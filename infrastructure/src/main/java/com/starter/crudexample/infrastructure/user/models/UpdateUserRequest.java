@@ -10,6 +10,7 @@ public record UpdateUserRequest(
     @JsonProperty("email") String email,
     @JsonProperty("password") String password,
     @JsonProperty("roles") List<Role> roles,
-    @JsonProperty("active") Boolean active
+    @JsonProperty("active") Boolean active,
+    @JsonProperty("version") Long version
 ) {
 }
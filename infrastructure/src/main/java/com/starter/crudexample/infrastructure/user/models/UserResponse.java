@@ -15,7 +15,8 @@ public record UserResponse(
     @JsonProperty("active") boolean active,
     @JsonProperty("created_at") Instant createdAt,
     @JsonProperty("updated_at") Instant updatedAt,
-    @JsonProperty("deleted_at") Instant deletedAt
+    @JsonProperty("deleted_at") Instant deletedAt,
+    @JsonProperty("version") long version
 ) {
     public static UserResponse from(final GetUserByIdOutput output) {
         return new UserResponse(
@@ -26,7 +27,8 @@ public record UserResponse(
             output.active(),
             output.createdAt(),
             output.updatedAt(),
-            output.deletedAt()
+            output.deletedAt(),
+            output.version()
         );
     }
 }
@@ -4,12 +4,17 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
+
 import com.starter.crudexample.domain.user.Role;
 import com.starter.crudexample.domain.user.User;
 import com.starter.crudexample.domain.user.UserID;
+import com.starter.crudexample.infrastructure.utils.BinaryIdConverter;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -17,14 +22,22 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
+// Soft delete: toda consulta do Hibernate (find, JPQL, Criteria) ignora linhas removidas;
+// o TombstonePurger apaga as lápides depois da retenção
 @Entity(name = "User")
 @Table(name = "users")
-public class UserJpaEntity {
+@SQLRestriction("deleted_at IS NULL")
+public class UserJpaEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", nullable = false, columnDefinition = "CHAR(36)")
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "username", nullable = false)
@@ -37,7 +50,7 @@ public class UserJpaEntity {
     private String password;
 
     @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id", columnDefinition = "CHAR(36)"))
+    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id", columnDefinition = "BINARY(16)"))
     @Column(name = "role", nullable = false)
     @Enumerated(EnumType.STRING)
     private List<Role> roles;
@@ -54,6 +67,15 @@ public class UserJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // UPDATE ... WHERE version = ?: escrita concorrente falha em vez de sobrescrever
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // Ids são gerados pela aplicação: sem isso o save faria merge (SELECT + INSERT)
+    @Transient
+    private boolean isNew;
+
     public UserJpaEntity() {}
 
     private UserJpaEntity(
@@ -65,7 +87,8 @@ public class UserJpaEntity {
         final boolean active,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final long version
     ) {
         this.id = id;
         this.username = username;
@@ -76,6 +99,7 @@ public class UserJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static UserJpaEntity from(final User aUser) {
@@ -88,12 +112,20 @@ public class UserJpaEntity {
             aUser.isActive(),
             aUser.getCreatedAt(),
             aUser.getUpdatedAt(),
-            aUser.getDeletedAt()
+            aUser.getDeletedAt(),
+            aUser.getVersion()
         );
     }
 
+    // Usado na criação: o save vira um persist, emitindo apenas os INSERTs
+    public static UserJpaEntity newEntity(final User aUser) {
+        final var anEntity = from(aUser);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public User toAggregate() {
-        return User.with(
+        return User.rehydrate(
             UserID.from(getId()),
             getUsername(),
             getEmail(),
@@ -102,11 +134,20 @@ public class UserJpaEntity {
             isActive(),
             getCreatedAt(),
             getUpdatedAt(),
-            getDeletedAt()
+            getDeletedAt(),
+            getVersion()
         );
     }
 
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     // Getters and Setters
+    @Override
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
     public String getUsername() { return username; }
@@ -125,4 +166,6 @@ public class UserJpaEntity {
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
     public Instant getDeletedAt() { return deletedAt; }
     public void setDeletedAt(Instant deletedAt) { this.deletedAt = deletedAt; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
@@ -1,21 +1,39 @@
 package com.starter.crudexample.infrastructure.user.persistence;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<UserJpaEntity, String> {
+public interface UserRepository extends JpaRepository<UserJpaEntity, String>, JpaSpecificationExecutor<UserJpaEntity> {
     Page<UserJpaEntity> findAll(Specification<UserJpaEntity> specification, Pageable page);
 
     @Query("select u.id from User u where u.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
 
-    boolean existsByEmail(String email);
+    @Query("select new com.starter.crudexample.infrastructure.user.persistence.UserRoleRow(u.id, r) from User u join u.roles r where u.id in :ids")
+    List<UserRoleRow> findRolesByUserIds(@Param("ids") List<String> ids);
 
-    java.util.Optional<UserJpaEntity> findByUsername(String username);
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    // Nativa: inclui lápides, o e-mail continua na chave única uk_users_email até o purge
+    @Query(value = "select count(*) from users where email = :email", nativeQuery = true)
+    long countByEmailIncludingDeleted(@Param("email") String email);
+
+    Optional<UserJpaEntity> findByUsername(String username);
+
+    // Um UPDATE condicional, sem o SELECT do deleteById: os papéis ficam até o purge.
+    // Limpa o contexto para que um find na mesma transação não devolva a entidade já carregada
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.deletedAt = :now, u.updatedAt = :now, u.version = u.version + 1 where u.id = :id and u.deletedAt is null")
+    int softDeleteById(@Param("id") String id, @Param("now") Instant now);
 }
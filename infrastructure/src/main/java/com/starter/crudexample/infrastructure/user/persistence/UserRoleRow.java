@@ -0,0 +1,6 @@
+package com.starter.crudexample.infrastructure.user.persistence;
+
+import com.starter.crudexample.domain.user.Role;
+
+public record UserRoleRow(String userId, Role role) {
+}
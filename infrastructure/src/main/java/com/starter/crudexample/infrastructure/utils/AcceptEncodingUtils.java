@@ -0,0 +1,60 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import java.util.Locale;
+
+public final class AcceptEncodingUtils {
+
+    private static final String ANY = "*";
+    private static final String IDENTITY = "identity";
+    private static final String QUALITY = "q=";
+
+    private AcceptEncodingUtils() {
+    }
+
+    // Accept-Encoding com pesos (RFC 9110): a codificação precisa ter q > 0, explícito ou via "*",
+    // e não pode perder para identity. Sem cabeçalho a resposta sai sem compressão
+    public static boolean prefers(final String acceptEncoding, final String aCoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        final var coding = quality(acceptEncoding, aCoding);
+        final var any = quality(acceptEncoding, ANY);
+        final var identity = quality(acceptEncoding, IDENTITY);
+
+        final var codingQuality = coding >= 0 ? coding : Math.max(any, 0);
+        // identity fora da lista continua aceitável, mas só vence quem também está fora dela
+        final var identityQuality = identity >= 0 ? identity : 0;
+
+        return codingQuality > 0 && codingQuality >= identityQuality;
+    }
+
+    // Peso da codificação na lista, ou -1 quando ela não aparece
+    private static double quality(final String acceptEncoding, final String aCoding) {
+        for (final var entry : acceptEncoding.split(",")) {
+            final var parts = entry.split(";");
+            if (!parts[0].trim().toLowerCase(Locale.ROOT).equals(aCoding)) {
+                continue;
+            }
+
+            for (int i = 1; i < parts.length; i++) {
+                final var param = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith(QUALITY)) {
+                    return parse(param.substring(QUALITY.length()));
+                }
+            }
+            return 1;
+        }
+        return -1;
+    }
+
+    // Peso malformado conta como 0: na dúvida, a codificação não é aceita
+    private static double parse(final String aQuality) {
+        try {
+            final var value = Double.parseDouble(aQuality.trim());
+            return value >= 0 && value <= 1 ? value : 0;
+        } catch (final NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
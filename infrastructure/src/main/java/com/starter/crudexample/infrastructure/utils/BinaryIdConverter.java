@@ -0,0 +1,64 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Ids em hex (32 chars, ou 36 com hífens) <-> BINARY(16): metade do tamanho de CHAR(36)
+// na PK e em todo índice secundário que a carrega
+@Converter
+public class BinaryIdConverter implements AttributeConverter<String, byte[]> {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int BYTES = 16;
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+
+        final var bytes = new byte[BYTES];
+        int index = 0;
+        int high = -1;
+
+        for (int i = 0; i < anId.length(); i++) {
+            final var c = anId.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+
+            final var digit = Character.digit(c, 16);
+            if (digit < 0 || index == BYTES) {
+                return notAnId(anId);
+            }
+
+            if (high < 0) {
+                high = digit;
+            } else {
+                bytes[index++] = (byte) ((high << 4) | digit);
+                high = -1;
+            }
+        }
+
+        return index == BYTES && high < 0 ? bytes : notAnId(anId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+
+        final var chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    // ItemID/UserID já recusam o que não é UUID: chegar aqui é erro de programação, não um id inexistente
+    private static byte[] notAnId(final String anId) {
+        throw new IllegalArgumentException("Not a UUID: %s".formatted(anId));
+    }
+}
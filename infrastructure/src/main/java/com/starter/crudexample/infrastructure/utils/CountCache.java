@@ -0,0 +1,80 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Contagens aproximadas para {@code CountMode.ESTIMATED}: a primeira consulta
+ * de cada chave conta de forma síncrona; depois do TTL o valor antigo continua
+ * sendo servido enquanto uma thread virtual recalcula em segundo plano.
+ * <p>
+ * A chave identifica o filtro da listagem, não a página: hoje o único filtro é o termo de busca
+ * ({@link #keyOf(String)}); página, ordenação e cursor não mudam o total. Um filtro novo precisa
+ * entrar na chave, senão o total de um filtro é servido para outro.
+ */
+public final class CountCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CountCache.class);
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CountCache(final Duration ttl, final int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    public static String keyOf(final String terms) {
+        return SqlUtils.upper(terms == null ? "" : terms.trim());
+    }
+
+    public long get(final String aKey, final LongSupplier counter) {
+        final var entry = entries.get(aKey);
+
+        if (entry == null) {
+            final var value = counter.getAsLong();
+            store(aKey, value);
+            return value;
+        }
+
+        if (entry.isExpired(ttl) && entry.refreshing().compareAndSet(false, true)) {
+            Thread.ofVirtual().name("count-refresh").start(() -> refresh(aKey, entry, counter));
+        }
+
+        return entry.value();
+    }
+
+    private void refresh(final String aKey, final Entry entry, final LongSupplier counter) {
+        try {
+            store(aKey, counter.getAsLong());
+        } catch (final RuntimeException ex) {
+            LOGGER.warn("Failed to refresh estimated count for '{}'", aKey, ex);
+            entry.refreshing().set(false);
+        }
+    }
+
+    private void store(final String aKey, final long value) {
+        if (entries.size() >= maxEntries && !entries.containsKey(aKey)) {
+            entries.values().removeIf(it -> it.isExpired(ttl));
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(aKey, new Entry(value, Instant.now(), new AtomicBoolean()));
+    }
+
+    private record Entry(long value, Instant loadedAt, AtomicBoolean refreshing) {
+
+        boolean isExpired(final Duration ttl) {
+            return loadedAt.plus(ttl).isBefore(Instant.now());
+        }
+    }
+}
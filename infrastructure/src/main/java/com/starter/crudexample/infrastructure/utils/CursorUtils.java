@@ -0,0 +1,86 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import java.time.Instant;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.pagination.Cursor;
+import com.starter.crudexample.domain.validation.Error;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Path;
+
+public final class CursorUtils {
+
+    private static final String ID = "id";
+
+    private CursorUtils() {
+    }
+
+    // Ordenação estável: o id desempata linhas com a mesma chave, tanto no offset quanto no keyset
+    public static Sort sort(final String prop, final String direction) {
+        final var aDirection = Sort.Direction.fromString(direction);
+        final var aSort = Sort.by(aDirection, prop);
+        return ID.equals(prop) ? aSort : aSort.and(Sort.by(aDirection, ID));
+    }
+
+    // Seek predicate: (prop, id) > (key, lastId) na direção pedida
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> Specification<T> after(final String token, final String prop, final String direction) {
+        final var aCursor = Cursor.decode(token).requireFor(prop, direction);
+        final var ascending = Sort.Direction.fromString(direction).isAscending();
+
+        return (root, query, cb) -> {
+            final Path<Comparable> idPath = root.get(ID);
+            final Comparable id = convert(idPath.getJavaType(), aCursor.id());
+
+            if (ID.equals(prop)) {
+                return ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            }
+
+            final Path<Comparable> keyPath = root.get(prop);
+            final Comparable key = convert(keyPath.getJavaType(), aCursor.key());
+
+            return ascending
+                    ? cb.or(cb.greaterThan(keyPath, key), cb.and(cb.equal(keyPath, key), cb.greaterThan(idPath, id)))
+                    : cb.or(cb.lessThan(keyPath, key), cb.and(cb.equal(keyPath, key), cb.lessThan(idPath, id)));
+        };
+    }
+
+    // Aceita tanto entidades quanto projeções (Tuple com aliases iguais aos nomes dos atributos)
+    public static String next(final Object aRow, final String prop, final String direction) {
+        if (aRow instanceof Tuple aTuple) {
+            return Cursor.of(prop, direction, text(aTuple.get(prop)), text(aTuple.get(ID))).encode();
+        }
+
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(aRow);
+        return Cursor.of(
+                prop,
+                direction,
+                text(accessor.getPropertyValue(prop)),
+                text(accessor.getPropertyValue(ID))).encode();
+    }
+
+    private static String text(final Object aValue) {
+        return aValue == null ? null : aValue.toString();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparable convert(final Class<?> type, final String value) {
+        try {
+            if (String.class.equals(type)) return value;
+            if (Instant.class.equals(type)) return Instant.parse(value);
+            if (Double.class.equals(type) || double.class.equals(type)) return Double.valueOf(value);
+            if (Long.class.equals(type) || long.class.equals(type)) return Long.valueOf(value);
+            if (Integer.class.equals(type) || int.class.equals(type)) return Integer.valueOf(value);
+            if (Boolean.class.equals(type) || boolean.class.equals(type)) return Boolean.valueOf(value);
+            if (type.isEnum()) return Enum.valueOf((Class<Enum>) type, value);
+        } catch (final RuntimeException ex) {
+            throw DomainException.with(new Error("'after' does not match the requested sort"));
+        }
+        throw DomainException.with(new Error("Sort '%s' does not support cursor pagination".formatted(type.getSimpleName())));
+    }
+}
@@ -0,0 +1,78 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.starter.crudexample.domain.utils.RevisionUtils;
+
+public final class ETagUtils {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtils() {
+    }
+
+    public static String of(final String aRevision) {
+        return "\"" + aRevision + "\"";
+    }
+
+    // If-None-Match usa comparação fraca: W/"x" equivale a "x"
+    public static boolean matches(final String ifNoneMatch, final String anETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        return tags(ifNoneMatch).stream()
+                .anyMatch(tag -> ANY.equals(tag) || stripWeak(tag).equals(anETag));
+    }
+
+    // If-Match usa comparação forte: as revisões aceitas (RevisionUtils.ANY para "*"), ou null
+    // quando não há pré-condição. Tags fracas ou malformadas são devolvidas como estão e nunca
+    // casam com uma revisão
+    public static List<String> revisionsOf(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        return tags(ifMatch).stream()
+                .map(tag -> ANY.equals(tag) ? RevisionUtils.ANY : unquote(tag))
+                .toList();
+    }
+
+    // Lista separada por vírgulas; uma vírgula entre aspas faz parte da tag
+    private static List<String> tags(final String aHeader) {
+        final var tags = new ArrayList<String>();
+        var quoted = false;
+        var start = 0;
+        for (var i = 0; i < aHeader.length(); i++) {
+            final var c = aHeader.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                add(tags, aHeader.substring(start, i));
+                start = i + 1;
+            }
+        }
+        add(tags, aHeader.substring(start));
+        return tags;
+    }
+
+    private static void add(final List<String> tags, final String aTag) {
+        final var tag = aTag.trim();
+        if (!tag.isEmpty()) {
+            tags.add(tag);
+        }
+    }
+
+    private static String unquote(final String aTag) {
+        if (aTag.length() > 1 && aTag.startsWith("\"") && aTag.endsWith("\"")) {
+            return aTag.substring(1, aTag.length() - 1);
+        }
+        return aTag;
+    }
+
+    private static String stripWeak(final String aTag) {
+        return aTag.startsWith(WEAK_PREFIX) ? aTag.substring(WEAK_PREFIX.length()) : aTag;
+    }
+}
@@ -0,0 +1,134 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public final class JpaQueryUtils {
+
+    private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+    private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+
+    private JpaQueryUtils() {
+    }
+
+    // Consulta paginada sem o SELECT COUNT(*) que o Page do Spring Data dispara
+    public static <T> List<T> slice(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(type);
+        final var root = query.from(type);
+
+        query.select(root);
+        apply(query, root, cb, where, sort);
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Projeção: só as colunas pedidas, com alias igual ao nome do atributo,
+    // sem entidades gerenciadas no contexto de persistência
+    public static <T> List<Tuple> select(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Collection<String> attributes,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        return select(entityManager, type, attributes, where, sort, offset, limit, LockModeType.NONE);
+    }
+
+    // Mesma projeção com trava nas linhas lidas (PESSIMISTIC_READ vira FOR SHARE no MySQL)
+    public static <T> List<Tuple> select(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Collection<String> attributes,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit,
+            final LockModeType lockMode
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(type);
+
+        query.multiselect(attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList());
+        apply(query, root, cb, where, sort);
+
+        return entityManager.createQuery(query)
+                .setLockMode(lockMode)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Mesma projeção de select, mas percorrida por um cursor forward-only: as linhas chegam
+    // conforme o fetch size e nada é acumulado. O Stream precisa ser fechado por quem o consome
+    public static <T> Stream<Tuple> stream(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Collection<String> attributes,
+            final Specification<T> where,
+            final Sort sort,
+            final int fetchSize
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(type);
+
+        query.multiselect(attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList());
+        apply(query, root, cb, where, sort);
+
+        return entityManager.createQuery(query)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static <T> void apply(
+            final CriteriaQuery<?> query,
+            final Root<T> root,
+            final CriteriaBuilder cb,
+            final Specification<T> where,
+            final Sort sort
+    ) {
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        // Sem Sort, preserva a ordenação que a Specification possa ter aplicado
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+    }
+}
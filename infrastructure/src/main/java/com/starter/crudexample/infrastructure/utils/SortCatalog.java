@@ -0,0 +1,44 @@
+package com.starter.crudexample.infrastructure.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.validation.Error;
+
+// Campos aceitos em ?sort= de um recurso. Cada um tem um índice (campo, id) no banco, então a
+// ordenação percorre o índice em vez de fazer filesort na tabela; o id sempre desempata
+public final class SortCatalog {
+
+    private final Set<String> fields;
+
+    private SortCatalog(final Set<String> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    public static SortCatalog of(final String... fields) {
+        return new SortCatalog(new LinkedHashSet<>(List.of(fields)));
+    }
+
+    public Sort sort(final String aField, final String aDirection) {
+        return CursorUtils.sort(field(aField), direction(aDirection));
+    }
+
+    public String field(final String aField) {
+        if (aField == null || !this.fields.contains(aField)) {
+            throw DomainException.with(new Error("'sort' must be one of %s".formatted(String.join(", ", this.fields))));
+        }
+        return aField;
+    }
+
+    private static String direction(final String aDirection) {
+        if (aDirection == null || Sort.Direction.fromOptionalString(aDirection).isEmpty()) {
+            throw DomainException.with(new Error("'dir' must be one of asc or desc"));
+        }
+        return aDirection;
+    }
+}
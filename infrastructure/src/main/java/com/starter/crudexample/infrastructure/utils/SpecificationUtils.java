@@ -2,6 +2,12 @@ package com.starter.crudexample.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import com.starter.crudexample.infrastructure.configuration.FullTextFunctionContributor;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {
@@ -10,4 +16,45 @@ public final class SpecificationUtils {
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
     }
-}
\ No newline at end of file
+
+    // Coluna já gravada em maiúsculas: compara direto, sem UPPER() em cada linha
+    public static <T> Specification<T> contains(final String prop, final String term) {
+        return (root, query, cb) -> cb.like(root.<String>get(prop), SqlUtils.like(SqlUtils.upper(term)));
+    }
+
+    public static <T> Specification<T> match(final String expression, final String firstProp, final String secondProp) {
+        return (root, query, cb) -> cb.greaterThan(score(root, cb, expression, firstProp, secondProp), 0.0);
+    }
+
+    // Ordena pela relevância do MATCH ... AGAINST, ignorado nas consultas de COUNT
+    public static <T> Specification<T> orderByMatch(
+            final String expression,
+            final String firstProp,
+            final String secondProp,
+            final String tiebreaker
+    ) {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        cb.desc(score(root, cb, expression, firstProp, secondProp)),
+                        cb.asc(root.get(tiebreaker)));
+            }
+            return null;
+        };
+    }
+
+    private static Expression<Double> score(
+            final Root<?> root,
+            final CriteriaBuilder cb,
+            final String expression,
+            final String firstProp,
+            final String secondProp
+    ) {
+        return cb.function(
+                FullTextFunctionContributor.MATCH_AGAINST,
+                Double.class,
+                root.get(firstProp),
+                root.get(secondProp),
+                cb.literal(expression));
+    }
+}
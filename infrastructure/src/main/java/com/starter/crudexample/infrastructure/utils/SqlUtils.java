@@ -1,7 +1,12 @@
 package com.starter.crudexample.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.List;
+
 public final class SqlUtils {
 
+    private static final String FULL_TEXT_OPERATORS = "[+\\-<>()~*\"@]";
+
     private SqlUtils() {
     }
 
@@ -14,4 +19,22 @@ public final class SqlUtils {
         if (term == null) return null;
         return "%" + term + "%";
     }
+
+    public static List<String> tokens(final String terms) {
+        if (terms == null) return List.of();
+        return Arrays.stream(terms.trim().split("\\s+"))
+                .filter(token -> !token.isBlank())
+                .toList();
+    }
+
+    // Boolean mode do MySQL: todos os tokens obrigatórios (+) e por prefixo (*)
+    public static String fullText(final List<String> tokens) {
+        return String.join(" ", tokens.stream()
+                .map(token -> "+" + token + "*")
+                .toList());
+    }
+
+    public static String fullTextToken(final String token) {
+        return token.replaceAll(FULL_TEXT_OPERATORS, "");
+    }
 }
@@ -0,0 +1,11 @@
+-- Change-log de invalidação de cache: update e delete gravam qual entrada mudou, na mesma transação,
+-- e cada instância lê as linhas recentes pelo created_at. Linhas além da retenção são apagadas.
+
+CREATE TABLE cache_invalidations (
+    id BINARY(16) NOT NULL,
+    cache_name VARCHAR(32) NOT NULL,
+    entry_id BINARY(16) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_cache_invalidations_created_at (created_at)
+);
@@ -0,0 +1,16 @@
+-- Soft delete: toda leitura filtra deleted_at IS NULL. Os índices de ordenação ganham deleted_at na
+-- frente (IS NULL é uma igualdade para o índice), então a listagem continua percorrendo o índice na
+-- ordem pedida; o purger usa o mesmo prefixo para achar as lápides mais antigas.
+-- users.username continua servido pela chave única uk_users_username.
+
+DROP INDEX idx_items_name_id ON items;
+DROP INDEX idx_items_price_id ON items;
+DROP INDEX idx_items_created_at_id ON items;
+
+CREATE INDEX idx_items_deleted_at_name_id ON items (deleted_at, name, id);
+CREATE INDEX idx_items_deleted_at_price_id ON items (deleted_at, price, id);
+CREATE INDEX idx_items_deleted_at_created_at_id ON items (deleted_at, created_at, id);
+
+DROP INDEX idx_users_created_at_id ON users;
+
+CREATE INDEX idx_users_deleted_at_created_at_id ON users (deleted_at, created_at, id);
@@ -0,0 +1,21 @@
+-- Itens frios: sem alteração há mais que app.archive.items.max-age, movidos de items pelo ItemArchiver.
+-- Mesmas colunas de items, sem deleted_at (lápides não são arquivadas, o purger as apaga).
+
+CREATE TABLE items_archive (
+    id BINARY(16) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    price DECIMAL(19, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_items_archive_name_id ON items_archive (name, id);
+CREATE INDEX idx_items_archive_price_id ON items_archive (price, id);
+CREATE INDEX idx_items_archive_created_at_id ON items_archive (created_at, id);
+
+-- O arquivador escolhe os itens mais antigos por aqui, sem percorrer a tabela
+CREATE INDEX idx_items_deleted_at_updated_at ON items (deleted_at, updated_at);
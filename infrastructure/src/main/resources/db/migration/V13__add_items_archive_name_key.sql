@@ -0,0 +1,12 @@
+-- A listagem com arquivados junta item_listings e items_archive: as duas precisam ordenar pelo
+-- nome na mesma chave (name_key) e na mesma collation para que a junção não embaralhe as páginas.
+
+ALTER TABLE items_archive ADD COLUMN name_key VARCHAR(255) NOT NULL DEFAULT '';
+
+UPDATE items_archive SET name_key = UPPER(TRIM(name));
+
+ALTER TABLE items_archive ALTER COLUMN name_key DROP DEFAULT;
+
+DROP INDEX idx_items_archive_name_id ON items_archive;
+
+CREATE INDEX idx_items_archive_name_key_id ON items_archive (name_key, id);
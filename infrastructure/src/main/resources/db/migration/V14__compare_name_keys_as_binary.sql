@@ -0,0 +1,8 @@
+-- A listagem com arquivados junta item_listings e items_archive em memória, comparando name_key por
+-- code point. utf8mb4_0900_ai_ci ignora caixa e acentos mas dá peso aos espaços de outro jeito, então
+-- a junção não conseguia reproduzir a ordem das consultas. utf8mb4_0900_bin é NO PAD e compara os
+-- bytes UTF-8 (a ordem dos code points); name_key já vem sem espaços nas pontas e em maiúsculas.
+
+ALTER TABLE item_listings MODIFY name_key VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin NOT NULL;
+
+ALTER TABLE items_archive MODIFY name_key VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin NOT NULL;
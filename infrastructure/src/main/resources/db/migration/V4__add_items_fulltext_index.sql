@@ -0,0 +1 @@
+ALTER TABLE items ADD FULLTEXT INDEX ft_items_name_description (name, description);
@@ -0,0 +1,24 @@
+-- Ids passam de CHAR(36) para BINARY(16). Os ids existentes podem ter hífens (seed) ou não
+-- (gerados pela aplicação): REPLACE + UNHEX cobre os dois formatos.
+
+ALTER TABLE user_roles DROP FOREIGN KEY fk_user_roles_user;
+
+-- users
+ALTER TABLE users ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE users SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE users DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE users CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+-- user_roles
+ALTER TABLE user_roles ADD COLUMN user_id_bin BINARY(16) NULL;
+UPDATE user_roles SET user_id_bin = UNHEX(REPLACE(user_id, '-', ''));
+ALTER TABLE user_roles DROP PRIMARY KEY, DROP COLUMN user_id;
+ALTER TABLE user_roles CHANGE COLUMN user_id_bin user_id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (user_id, role);
+ALTER TABLE user_roles
+    ADD CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+-- items
+ALTER TABLE items ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE items SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE items DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE items CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
@@ -0,0 +1,9 @@
+-- Índices para os campos aceitos em ?sort=, já com o id como desempate: a listagem percorre o
+-- índice na ordem pedida (inclusive no keyset) em vez de ordenar a tabela inteira.
+-- users.username já é servido pela chave única uk_users_username.
+
+CREATE INDEX idx_items_name_id ON items (name, id);
+CREATE INDEX idx_items_price_id ON items (price, id);
+CREATE INDEX idx_items_created_at_id ON items (created_at, id);
+
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
@@ -0,0 +1,23 @@
+-- Modelo de leitura da listagem de itens, mantido pelos eventos ItemCreated/ItemUpdated/ItemDeleted
+-- e reconstruído por POST /items/listings/rebuild. name_key e search_tokens são calculados na escrita.
+
+CREATE TABLE item_listings (
+    id BINARY(16) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    price DECIMAL(19, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    name_key VARCHAR(255) NOT NULL,
+    search_tokens VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_item_listings_name_key_id ON item_listings (name_key, id);
+CREATE INDEX idx_item_listings_price_id ON item_listings (price, id);
+CREATE INDEX idx_item_listings_created_at_id ON item_listings (created_at, id);
+ALTER TABLE item_listings ADD FULLTEXT INDEX ft_item_listings_name_description (name, description);
+
+-- Carga inicial: nome inteiro em maiúsculas casa os mesmos LIKE que os tokens; o rebuild normaliza
+INSERT INTO item_listings (id, name, description, price, created_at, name_key, search_tokens)
+SELECT id, name, description, price, created_at, UPPER(TRIM(name)), UPPER(TRIM(name))
+FROM items;
@@ -0,0 +1,11 @@
+-- Outbox: eventos de domínio gravados na mesma transação da escrita e removidos pelo relay após a
+-- entrega. O id é UUIDv7, então a PK também é a ordem de chegada usada pelo claim.
+
+CREATE TABLE outbox_events (
+    id BINARY(16) NOT NULL,
+    event_type VARCHAR(128) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
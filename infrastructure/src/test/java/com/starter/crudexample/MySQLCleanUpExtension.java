@@ -5,9 +5,17 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemArchiveRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingRepository;
 import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+import com.starter.crudexample.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.starter.crudexample.infrastructure.purge.TombstoneMySQLGateway;
+import com.starter.crudexample.infrastructure.purge.TombstoneTable;
 import com.starter.crudexample.infrastructure.user.persistence.UserRepository;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 
@@ -21,16 +29,26 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         // Para testes E2E, mantém os usuários (necessários para autenticação)
         // Para testes de integração, limpa tudo
         if (isE2ETest(testClass)) {
-            // Limpa apenas Items nos testes E2E
+            // Limpa apenas Items (o arquivo, a listagem projetada, os eventos pendentes e as invalidações) nos testes E2E
             cleanUp(List.of(
-                appContext.getBean(ItemRepository.class)
+                appContext.getBean(ItemRepository.class),
+                appContext.getBean(ItemArchiveRepository.class),
+                appContext.getBean(ItemListingRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(CacheInvalidationRepository.class)
             ));
+            purge(appContext.getBean(TombstoneMySQLGateway.class), List.of(TombstoneTable.ITEMS));
         } else {
             // Limpa tudo nos testes de integração
             cleanUp(List.of(
                 appContext.getBean(ItemRepository.class),
-                appContext.getBean(UserRepository.class)
+                appContext.getBean(ItemArchiveRepository.class),
+                appContext.getBean(ItemListingRepository.class),
+                appContext.getBean(UserRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(CacheInvalidationRepository.class)
             ));
+            purge(appContext.getBean(TombstoneMySQLGateway.class), List.of(TombstoneTable.values()));
         }
     }
 
@@ -43,4 +61,15 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
     private void cleanUp(final Collection<CrudRepository<?, ?>> repositories) {
         repositories.forEach(CrudRepository::deleteAll);
     }
+
+    // deleteAll não enxerga linhas com soft delete: as lápides saem pelo purge
+    private void purge(final TombstoneMySQLGateway tombstones, final Collection<TombstoneTable> tables) {
+        final var before = Instant.now().plus(Duration.ofDays(1));
+        tables.forEach(table -> {
+            int purged;
+            do {
+                purged = tombstones.purge(table, before, 1_000);
+            } while (purged > 0);
+        });
+    }
 }
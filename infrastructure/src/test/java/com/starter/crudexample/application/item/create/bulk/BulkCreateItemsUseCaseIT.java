@@ -0,0 +1,64 @@
+package com.starter.crudexample.application.item.create.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.starter.crudexample.IntegrationTest;
+import com.starter.crudexample.application.item.create.CreateItemCommand;
+import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+
+@IntegrationTest
+public class BulkCreateItemsUseCaseIT {
+    @Autowired
+    private BulkCreateItemsUseCase useCase;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    public void givenManyValidCommands_whenCallsBulkCreate_shouldPersistAll() {
+        // given
+        final var expectedCount = 1_200;
+
+        final var aCommand = BulkCreateItemsCommand.with(IntStream.range(0, expectedCount)
+                .mapToObj(i -> CreateItemCommand.with("Item " + i, "Item description " + i, (double) i))
+                .toList());
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        assertEquals(expectedCount, actualOutput.ids().size());
+        assertEquals(expectedCount, itemRepository.count());
+
+        final var actualItem = itemRepository.findById(actualOutput.ids().get(42)).get();
+        assertEquals("Item 42", actualItem.getName());
+        assertEquals(42.0, actualItem.getPrice());
+    }
+
+    @Test
+    public void givenOneInvalidCommand_whenCallsBulkCreate_shouldPersistNothing() {
+        // given
+        final var aCommand = BulkCreateItemsCommand.with(List.of(
+                CreateItemCommand.with("Notebook", "Item 1 description", 10.0),
+                CreateItemCommand.with("No", "Item 2 description", 20.0)));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(1, actualException.getErrors().size());
+        assertEquals("items[1]: 'name' must be between 3 and 255 characters", actualException.getErrors().get(0).message());
+
+        assertEquals(0, itemRepository.count());
+    }
+}
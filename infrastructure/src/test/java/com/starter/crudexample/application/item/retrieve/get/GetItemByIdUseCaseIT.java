@@ -49,8 +49,8 @@ public class GetItemByIdUseCaseIT {
     @Test
     public void givenAInvalidId_whenCallsGetItemAndDoesNotExists_shouldReturnNotFoundException() {
         // given
-        final var expectedId = ItemID.from("123");
-        final var expectedErrorMessage = "Item with ID 123 was not found";
+        final var expectedId = ItemID.unique();
+        final var expectedErrorMessage = "Item with ID %s was not found".formatted(expectedId.getValue());
         
          // when
         final var actualOutput = Assertions.assertThrows(NotFoundException.class, () -> {
@@ -15,8 +15,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import com.starter.crudexample.IntegrationTest;
 import com.starter.crudexample.domain.item.Item;
 import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemListingGateway;
 import com.starter.crudexample.domain.pagination.SearchQuery;
-import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
 import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
 
 @IntegrationTest
@@ -27,9 +27,12 @@ public class ListItemsUseCaseIT {
     @Autowired
     private ItemRepository itemRepository;
 
-    @MockitoSpyBean
+    @Autowired
     private ItemGateway itemGateway;
 
+    @MockitoSpyBean
+    private ItemListingGateway itemListingGateway;
+
     @Test
     public void givenAValidQuery_whenCallsListItems_shouldReturnAll() {
         // Given
@@ -38,10 +41,8 @@ public class ListItemsUseCaseIT {
                 Item.newItem("Item 2", "Description 2", 20.0),
                 Item.newItem("Item 3", "Description 3", 30.0));
 
-        this.itemRepository.saveAllAndFlush(
-                aItems.stream()
-                        .map(ItemJpaEntity::from)
-                        .toList());
+        // Pelo gateway: os eventos de criação alimentam o modelo de leitura
+        this.itemGateway.createAll(aItems);
 
         Assertions.assertEquals(3, this.itemRepository.count());
 
@@ -75,7 +76,7 @@ public class ListItemsUseCaseIT {
                 expectedItems.size() == actualOutput.items().size()
                         && expectedItems.containsAll(actualOutput.items()));
 
-        verify(itemGateway).findAll(eq(aQuery));
+        verify(itemListingGateway).findAll(eq(aQuery));
     }
 
     @Test
@@ -107,7 +108,7 @@ public class ListItemsUseCaseIT {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertTrue(actualOutput.items().isEmpty());
 
-        verify(itemGateway).findAll(eq(aQuery));
+        verify(itemListingGateway).findAll(eq(aQuery));
     }
 
     @Test
@@ -124,7 +125,7 @@ public class ListItemsUseCaseIT {
         final var expectedErrorMessage = "Gateway error";
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(itemGateway).findAll(any());
+                .when(itemListingGateway).findAll(any());
 
         final var aQuery = new SearchQuery(
                 expectedPage,
@@ -141,6 +142,6 @@ public class ListItemsUseCaseIT {
         // Then
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(itemGateway).findAll(any());
+        verify(itemListingGateway).findAll(any());
     }
 }
\ No newline at end of file
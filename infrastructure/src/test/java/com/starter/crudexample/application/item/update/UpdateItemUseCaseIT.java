@@ -235,12 +235,12 @@ public class UpdateItemUseCaseIT {
     @Test
     public void givenAnInvalidId_whenCallsUpdateItem_shouldThrowsNotFoundException() {
         // given
-        final var expectedId = ItemID.from("123");
+        final var expectedId = ItemID.unique();
         final var expectedName = "Valid Item Name";
         final var expectedDescription = "Valid Item Description";
         final var expectedPrice = 10.0;
 
-        final var expectedErrorMessage = "Item with ID 123 was not found";
+        final var expectedErrorMessage = "Item with ID %s was not found".formatted(expectedId.getValue());
 
         final var aCommand = UpdateItemCommand.with(
                 expectedId.getValue(),
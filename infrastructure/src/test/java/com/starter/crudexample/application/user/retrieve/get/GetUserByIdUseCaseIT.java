@@ -57,8 +57,8 @@ public class GetUserByIdUseCaseIT {
     @Test
     public void givenAInvalidId_whenCallsGetUserAndDoesNotExists_shouldReturnNotFoundException() {
         // given
-        final var expectedId = UserID.from("123");
-        final var expectedErrorMessage = "User with ID 123 was not found";
+        final var expectedId = UserID.unique();
+        final var expectedErrorMessage = "User with ID %s was not found".formatted(expectedId.getValue());
         
          // when
         final var actualOutput = Assertions.assertThrows(NotFoundException.class, () -> {
@@ -86,7 +86,7 @@ public class ListUsersUseCaseIT {
             );
         }
 
-        verify(userGateway).findAll(eq(aQuery));
+        verify(userGateway).findAllPreviews(eq(aQuery));
     }
 
     @Test
@@ -118,7 +118,7 @@ public class ListUsersUseCaseIT {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertTrue(actualOutput.items().isEmpty());
 
-        verify(userGateway).findAll(eq(aQuery));
+        verify(userGateway).findAllPreviews(eq(aQuery));
     }
 
     @Test
@@ -135,7 +135,7 @@ public class ListUsersUseCaseIT {
         final var expectedErrorMessage = "Gateway error";
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(userGateway).findAll(any());
+                .when(userGateway).findAllPreviews(any());
 
         final var aQuery = new SearchQuery(
                 expectedPage,
@@ -152,6 +152,6 @@ public class ListUsersUseCaseIT {
         // Then
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(userGateway).findAll(any());
+        verify(userGateway).findAllPreviews(any());
     }
 }
@@ -225,14 +225,14 @@ public class UpdateUserUseCaseIT {
     @Test
     public void givenAnInvalidId_whenCallsUpdateUser_shouldThrowsNotFoundException() {
         // given
-        final var expectedId = UserID.from("123");
+        final var expectedId = UserID.unique();
         final var expectedUsername = "john";
         final var expectedEmail = "john@example.com";
         final var expectedPassword = "password123";
         final var expectedRoles = List.of(Role.USER);
         final var expectedActive = true;
 
-        final var expectedErrorMessage = "User with ID 123 was not found";
+        final var expectedErrorMessage = "User with ID %s was not found".formatted(expectedId.getValue());
 
         final var aCommand = UpdateUserCommand.with(
                 expectedId.getValue(),
@@ -7,8 +7,11 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.starter.crudexample.E2ETest;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.infrastructure.item.ItemArchiveMySQLGateway;
 import com.starter.crudexample.infrastructure.item.models.CreateItemRequest;
 import com.starter.crudexample.infrastructure.item.models.UpdateItemRequest;
+import com.starter.crudexample.infrastructure.item.persistence.ItemArchiveRepository;
 import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
 
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +38,12 @@ public class ItemE2ETest implements MockDsl {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private ItemArchiveMySQLGateway itemArchiveGateway;
+
+    @Autowired
+    private ItemArchiveRepository itemArchiveRepository;
+
     @Container
     private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0.36")
             .withPassword("123456")
@@ -61,25 +70,25 @@ public class ItemE2ETest implements MockDsl {
             // Inserir usuário ADMIN (senha: admin123)
             jdbcTemplate.execute(
                 "INSERT INTO users (id, username, email, password, active, created_at, updated_at) VALUES " +
-                "('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', 'admin', 'admin@example.com', " +
+                "(UNHEX(REPLACE('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', '-', '')), 'admin', 'admin@example.com', " +
                 "'$2a$10$zbFqVpnvJmEbLIalYsS2P.oHlL4y6QT5MiM8dS9wupteiefFHkxiK', true, NOW(6), NOW(6))"
             );
             
             jdbcTemplate.execute(
                 "INSERT INTO user_roles (user_id, role) VALUES " +
-                "('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', 'ADMIN')"
+                "(UNHEX(REPLACE('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', '-', '')), 'ADMIN')"
             );
             
             // Inserir usuário USER (senha: user123)
             jdbcTemplate.execute(
                 "INSERT INTO users (id, username, email, password, active, created_at, updated_at) VALUES " +
-                "('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', 'user', 'user@example.com', " +
+                "(UNHEX(REPLACE('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', '-', '')), 'user', 'user@example.com', " +
                 "'$2a$10$08y9cvFLywH25z3sy0yx1O1vh8iClNHHoAcA24C4s98/X9jiY9NU.', true, NOW(6), NOW(6))"
             );
             
             jdbcTemplate.execute(
                 "INSERT INTO user_roles (user_id, role) VALUES " +
-                "('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', 'USER')"
+                "(UNHEX(REPLACE('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', '-', '')), 'USER')"
             );
         } catch (Exception e) {
             // Usuários já existem
@@ -234,7 +243,7 @@ public class ItemE2ETest implements MockDsl {
         // When
         final var response = updateItem(
             itemId,
-            new UpdateItemRequest(expectedName, expectedDescription, expectedPrice),
+            new UpdateItemRequest(expectedName, expectedDescription, expectedPrice, null),
             token
         );
 
@@ -273,6 +282,34 @@ public class ItemE2ETest implements MockDsl {
         Assertions.assertEquals(0, itemRepository.count());
     }
 
+    @Test
+    public void asAnAdminIShouldBeAbleToDeleteAnArchivedItem() throws Exception {
+        // Given
+        final var token = login("admin", "admin123");
+
+        final var createResponse = createItem(
+            new CreateItemRequest("Item Arquivado", "Será arquivado e removido", 50.0),
+            token
+        ).andReturn();
+
+        final var itemId = new com.fasterxml.jackson.databind.ObjectMapper()
+            .readTree(createResponse.getResponse().getContentAsString())
+            .get("id").asText();
+
+        itemArchiveGateway.archive(InstantUtils.now().plusSeconds(60), 10);
+        Assertions.assertEquals(0, itemRepository.count());
+        Assertions.assertEquals(1, itemArchiveRepository.count());
+        get("/items/" + itemId, token).andExpect(status().isOk());
+
+        // When
+        final var response = deleteItem(itemId, token);
+
+        // Then
+        response.andExpect(status().isNoContent());
+        Assertions.assertEquals(0, itemArchiveRepository.count());
+        get("/items/" + itemId, token).andExpect(status().isNotFound());
+    }
+
     @Test
     public void asAUserIShouldBeAbleToCreateANewItem() throws Exception {
         // Given
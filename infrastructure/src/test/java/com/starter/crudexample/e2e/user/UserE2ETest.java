@@ -69,24 +69,24 @@ public class UserE2ETest implements MockDsl {
 
         jdbcTemplate.execute(
             "INSERT INTO users (id, username, email, password, active, created_at, updated_at) VALUES " +
-            "('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', 'admin', 'admin@example.com', " +
+            "(UNHEX(REPLACE('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', '-', '')), 'admin', 'admin@example.com', " +
             "'$2a$10$zbFqVpnvJmEbLIalYsS2P.oHlL4y6QT5MiM8dS9wupteiefFHkxiK', true, NOW(6), NOW(6))"
         );
 
         jdbcTemplate.execute(
             "INSERT INTO user_roles (user_id, role) VALUES " +
-            "('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', 'ADMIN')"
+            "(UNHEX(REPLACE('a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d', '-', '')), 'ADMIN')"
         );
 
         jdbcTemplate.execute(
             "INSERT INTO users (id, username, email, password, active, created_at, updated_at) VALUES " +
-            "('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', 'user', 'user@example.com', " +
+            "(UNHEX(REPLACE('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', '-', '')), 'user', 'user@example.com', " +
             "'$2a$10$08y9cvFLywH25z3sy0yx1O1vh8iClNHHoAcA24C4s98/X9jiY9NU.', true, NOW(6), NOW(6))"
         );
 
         jdbcTemplate.execute(
             "INSERT INTO user_roles (user_id, role) VALUES " +
-            "('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', 'USER')"
+            "(UNHEX(REPLACE('b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e', '-', '')), 'USER')"
         );
     }
 
@@ -210,7 +210,8 @@ public class UserE2ETest implements MockDsl {
             "eric.admin@example.com",
             "adminpass123",
             List.of(Role.ADMIN, Role.USER),
-            false
+            false,
+            null
         );
 
         updateUser(userId, updateRequest, token)
@@ -0,0 +1,155 @@
+package com.starter.crudexample.infrastructure.api;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starter.crudexample.ApiTest;
+import com.starter.crudexample.ControllerTest;
+import com.starter.crudexample.application.item.create.CreateItemOutput;
+import com.starter.crudexample.application.item.create.DefaultCreateItemUseCase;
+import com.starter.crudexample.application.item.delete.DefaultDeleteItemUseCase;
+import com.starter.crudexample.application.item.update.DefaultUpdateItemUseCase;
+import com.starter.crudexample.application.item.update.UpdateItemOutput;
+import com.starter.crudexample.domain.exceptions.NotFoundException;
+import com.starter.crudexample.domain.validation.Error;
+import com.starter.crudexample.infrastructure.api.models.BatchOperationRequest;
+import com.starter.crudexample.infrastructure.api.models.BatchRequest;
+
+@ControllerTest(controllers = BatchAPI.class)
+public class BatchAPITest {
+
+        @Autowired
+        private MockMvc mvc;
+
+        @Autowired
+        private ObjectMapper mapper;
+
+        @MockitoBean
+        private DefaultCreateItemUseCase createItemUseCase;
+
+        @MockitoBean
+        private DefaultUpdateItemUseCase updateItemUseCase;
+
+        @MockitoBean
+        private DefaultDeleteItemUseCase deleteItemUseCase;
+
+        @MockitoBean
+        private PlatformTransactionManager transactionManager;
+
+        @BeforeEach
+        void setUp() {
+                when(transactionManager.getTransaction(any()))
+                                .thenReturn(new SimpleTransactionStatus());
+        }
+
+        @Test
+        public void givenMixedOperations_whenCallsBatch_thenShouldCommitAndReturnEachResult() throws Exception {
+                // given
+                final var aRequest = new BatchRequest(List.of(
+                                new BatchOperationRequest("create", null, "Notebook", "Item 1 description", 10.0),
+                                new BatchOperationRequest("update", "456", "Celular", "Item 2 description", 20.0),
+                                new BatchOperationRequest("delete", "789", null, null, null)));
+
+                when(createItemUseCase.execute(any()))
+                                .thenReturn(new CreateItemOutput("123"));
+                when(updateItemUseCase.execute(any()))
+                                .thenReturn(new UpdateItemOutput("456", 1L));
+                doNothing().when(deleteItemUseCase).execute(any());
+
+                // when
+                final var response = this.mvc.perform(post("/batch").with(ApiTest.USER_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aRequest)))
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.committed", equalTo(true)))
+                                .andExpect(jsonPath("$.results", hasSize(3)))
+                                .andExpect(jsonPath("$.results[0].status", equalTo(201)))
+                                .andExpect(jsonPath("$.results[0].id", equalTo("123")))
+                                .andExpect(jsonPath("$.results[1].status", equalTo(200)))
+                                .andExpect(jsonPath("$.results[1].id", equalTo("456")))
+                                .andExpect(jsonPath("$.results[2].status", equalTo(204)))
+                                .andExpect(jsonPath("$.results[2].id", equalTo("789")));
+
+                verify(createItemUseCase, times(1)).execute(argThat(cmd -> Objects.equals("Notebook", cmd.name())));
+                verify(updateItemUseCase, times(1)).execute(argThat(cmd -> Objects.equals("456", cmd.id())
+                                && Objects.equals("Celular", cmd.name())));
+                verify(deleteItemUseCase, times(1)).execute(eq("789"));
+        }
+
+        @Test
+        public void givenAMissingItem_whenCallsBatch_thenShouldStopAndRollback() throws Exception {
+                // given
+                final var aRequest = new BatchRequest(List.of(
+                                new BatchOperationRequest("create", null, "Notebook", "Item 1 description", 10.0),
+                                new BatchOperationRequest("update", "456", "Celular", "Item 2 description", 20.0),
+                                new BatchOperationRequest("delete", "789", null, null, null)));
+
+                when(createItemUseCase.execute(any()))
+                                .thenReturn(new CreateItemOutput("123"));
+                when(updateItemUseCase.execute(any()))
+                                .thenThrow(NotFoundException.with(new Error("Item with ID 456 was not found")));
+
+                // when
+                final var response = this.mvc.perform(post("/batch").with(ApiTest.USER_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aRequest)))
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.committed", equalTo(false)))
+                                .andExpect(jsonPath("$.results", hasSize(2)))
+                                .andExpect(jsonPath("$.results[1].status", equalTo(404)))
+                                .andExpect(jsonPath("$.results[1].errors[0].message", equalTo("Item with ID 456 was not found")));
+
+                verify(transactionManager, times(1)).commit(argThat(TransactionStatus::isRollbackOnly));
+                verify(deleteItemUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenAnUnknownOperation_whenCallsBatch_thenShouldReturnUnprocessableEntity() throws Exception {
+                // given
+                final var aRequest = new BatchRequest(List.of(
+                                new BatchOperationRequest("upsert", "456", "Celular", "Item 2 description", 20.0)));
+
+                // when
+                final var response = this.mvc.perform(post("/batch").with(ApiTest.USER_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aRequest)))
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isUnprocessableEntity())
+                                .andExpect(jsonPath("$.committed", equalTo(false)))
+                                .andExpect(jsonPath("$.results[0].errors[0].message",
+                                                equalTo("'op' must be one of create, update or delete")));
+        }
+}
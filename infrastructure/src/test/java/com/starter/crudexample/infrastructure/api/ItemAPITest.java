@@ -6,27 +6,38 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.zip.GZIPInputStream;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -35,22 +46,42 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.starter.crudexample.ControllerTest;
 import com.starter.crudexample.ApiTest;
+import com.starter.crudexample.application.item.create.CreateItemCommand;
 import com.starter.crudexample.application.item.create.CreateItemOutput;
 import com.starter.crudexample.application.item.create.DefaultCreateItemUseCase;
+import com.starter.crudexample.application.item.create.bulk.BulkCreateItemsOutput;
+import com.starter.crudexample.application.item.create.bulk.DefaultBulkCreateItemsUseCase;
+import com.starter.crudexample.application.item.create.imports.DefaultImportItemsUseCase;
+import com.starter.crudexample.application.item.create.imports.ImportItemsCommand;
+import com.starter.crudexample.application.item.create.imports.ImportItemsError;
+import com.starter.crudexample.application.item.create.imports.ImportItemsOutput;
 import com.starter.crudexample.application.item.delete.DefaultDeleteItemUseCase;
+import com.starter.crudexample.application.item.rebuild.DefaultRebuildItemListingsUseCase;
+import com.starter.crudexample.application.item.rebuild.RebuildItemListingsCommand;
+import com.starter.crudexample.application.item.rebuild.RebuildItemListingsOutput;
+import com.starter.crudexample.application.item.retrieve.export.DefaultExportItemsUseCase;
+import com.starter.crudexample.application.item.retrieve.export.ExportItemsCommand;
 import com.starter.crudexample.application.item.retrieve.get.DefaultGetItemByIdUseCase;
 import com.starter.crudexample.application.item.retrieve.get.ItemOutput;
 import com.starter.crudexample.application.item.retrieve.list.DefaultListItemsUseCase;
 import com.starter.crudexample.application.item.retrieve.list.ItemListOutput;
+import com.starter.crudexample.application.item.retrieve.list.archived.DefaultListItemsWithArchiveUseCase;
+import com.starter.crudexample.application.item.retrieve.revision.DefaultGetItemRevisionUseCase;
+import com.starter.crudexample.application.item.retrieve.revision.ItemRevisionOutput;
 import com.starter.crudexample.application.item.update.DefaultUpdateItemUseCase;
 import com.starter.crudexample.application.item.update.UpdateItemOutput;
+import com.starter.crudexample.domain.exceptions.ConflictException;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
 import com.starter.crudexample.domain.exceptions.NotificationException;
+import com.starter.crudexample.domain.exceptions.PreconditionFailedException;
 import com.starter.crudexample.domain.item.Item;
 import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.pagination.CountMode;
 import com.starter.crudexample.domain.pagination.Pagination;
+import com.starter.crudexample.domain.utils.RevisionUtils;
 import com.starter.crudexample.domain.validation.Error;
 import com.starter.crudexample.infrastructure.item.models.CreateItemRequest;
+import com.starter.crudexample.infrastructure.item.models.CreateItemsBatchRequest;
 import com.starter.crudexample.infrastructure.item.models.UpdateItemRequest;
 
 @ControllerTest(controllers = ItemAPI.class)
@@ -65,9 +96,15 @@ public class ItemAPITest {
         @MockitoBean
         private DefaultCreateItemUseCase createItemUseCase;
 
+        @MockitoBean
+        private DefaultBulkCreateItemsUseCase bulkCreateItemsUseCase;
+
         @MockitoBean
         private DefaultGetItemByIdUseCase getItemByIdUseCase;
 
+        @MockitoBean
+        private DefaultGetItemRevisionUseCase getItemRevisionUseCase;
+
         @MockitoBean
         private DefaultUpdateItemUseCase updateItemUseCase;
 
@@ -77,18 +114,30 @@ public class ItemAPITest {
         @MockitoBean
         private DefaultListItemsUseCase listItemsUseCase;
 
+        @MockitoBean
+        private DefaultListItemsWithArchiveUseCase listItemsWithArchiveUseCase;
+
+        @MockitoBean
+        private DefaultExportItemsUseCase exportItemsUseCase;
+
+        @MockitoBean
+        private DefaultImportItemsUseCase importItemsUseCase;
+
+        @MockitoBean
+        private DefaultRebuildItemListingsUseCase rebuildItemListingsUseCase;
+
         @Test
         public void givenAValidCommand_whenCallsCreateItem_thenShouldReturnItemId() throws Exception {
                 // Given
                 final var expectedName = "Item name";
                 final var expectedDescription = "Item description";
                 final var expectedPrice = 10.0;
-                final var expectedId = ItemID.from("123");
+                final var expectedId = ItemID.unique();
 
                 final var aCommand = new CreateItemRequest(expectedName, expectedDescription, expectedPrice);
 
                 when(createItemUseCase.execute(any()))
-                                .thenReturn(new CreateItemOutput("123"));
+                                .thenReturn(new CreateItemOutput(expectedId.getValue()));
 
                 // When
                 final var response = this.mvc.perform(post("/items").with(ApiTest.ADMIN_JWT)
@@ -141,6 +190,58 @@ public class ItemAPITest {
                                 && Objects.equals(expectedPrice, actualCmd.price())));
         }
 
+        @Test
+        public void givenValidItems_whenCallsCreateBatch_thenShouldReturnIds() throws Exception {
+                // given
+                final var aRequest = new CreateItemsBatchRequest(List.of(
+                                new CreateItemRequest("Notebook", "Item 1 description", 10.0),
+                                new CreateItemRequest("Celular", "Item 2 description", 20.0)));
+
+                when(bulkCreateItemsUseCase.execute(any()))
+                                .thenReturn(new BulkCreateItemsOutput(List.of("123", "456")));
+
+                // when
+                final var response = this.mvc.perform(post("/items/batch").with(ApiTest.ADMIN_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aRequest)))
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.ids", hasSize(2)))
+                                .andExpect(jsonPath("$.ids[0]", equalTo("123")))
+                                .andExpect(jsonPath("$.ids[1]", equalTo("456")));
+
+                verify(bulkCreateItemsUseCase, times(1)).execute(argThat(cmd -> cmd.items().size() == 2
+                                && Objects.equals("Notebook", cmd.items().get(0).name())
+                                && Objects.equals("Celular", cmd.items().get(1).name())
+                                && Objects.equals(20.0, cmd.items().get(1).price())));
+        }
+
+        @Test
+        public void givenAnInvalidRow_whenCallsCreateBatch_thenShouldReturnRowErrors() throws Exception {
+                // given
+                final var expectedMessage = "items[1]: 'name' should not be null";
+
+                final var aRequest = new CreateItemsBatchRequest(List.of(
+                                new CreateItemRequest("Notebook", "Item 1 description", 10.0),
+                                new CreateItemRequest(null, "Item 2 description", 20.0)));
+
+                when(bulkCreateItemsUseCase.execute(any()))
+                                .thenThrow(NotificationException.with(new Error(expectedMessage)));
+
+                // when
+                final var response = this.mvc.perform(post("/items/batch").with(ApiTest.ADMIN_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aRequest)))
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isUnprocessableEntity())
+                                .andExpect(jsonPath("$.errors", hasSize(1)))
+                                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+        }
+
         @Test
         public void givenAValidId_whenCallsGetById_shouldReturnIt() throws Exception {
                 // given
@@ -168,15 +269,82 @@ public class ItemAPITest {
                                 .andExpect(jsonPath("$.description", equalTo(expectedDescription)))
                                 .andExpect(jsonPath("$.price", equalTo(expectedPrice)))
                                 .andExpect(jsonPath("$.created_at", equalTo(aItem.getCreatedAt().toString())))
-                                .andExpect(jsonPath("$.updated_at", equalTo(aItem.getUpdatedAt().toString())));
+                                .andExpect(jsonPath("$.updated_at", equalTo(aItem.getUpdatedAt().toString())))
+                                .andExpect(jsonPath("$.version", equalTo(0)));
 
                 verify(getItemByIdUseCase).execute(eq(expectedId));
         }
 
+        @Test
+        public void givenAValidId_whenCallsGetById_shouldReturnETag() throws Exception {
+                // given
+                final var aItem = Item.newItem("Item name", "Item description", 10.0);
+                final var expectedETag = "\"" + RevisionUtils.of(aItem.getId(), aItem.getVersion()) + "\"";
+
+                when(getItemByIdUseCase.execute(any()))
+                                .thenReturn(ItemOutput.from(aItem));
+
+                // when
+                final var response = this.mvc.perform(get("/items/{id}", aItem.getId().getValue())
+                                .with(ApiTest.USER_JWT)
+                                .accept(MediaType.APPLICATION_JSON));
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(header().string("ETag", expectedETag));
+        }
+
+        @Test
+        public void givenAMatchingIfNoneMatch_whenCallsGetById_shouldReturnNotModifiedWithoutLoadingIt() throws Exception {
+                // given
+                final var aItem = Item.newItem("Item name", "Item description", 10.0);
+                final var expectedId = aItem.getId().getValue();
+                final var expectedRevision = ItemRevisionOutput.from(aItem.getId(), aItem.getVersion());
+                final var expectedETag = "\"" + expectedRevision.revision() + "\"";
+
+                when(getItemRevisionUseCase.execute(any()))
+                                .thenReturn(expectedRevision);
+
+                // when
+                final var response = this.mvc.perform(get("/items/{id}", expectedId)
+                                .with(ApiTest.USER_JWT)
+                                .header("If-None-Match", expectedETag)
+                                .accept(MediaType.APPLICATION_JSON));
+
+                // then
+                response.andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", expectedETag));
+
+                verify(getItemRevisionUseCase).execute(eq(expectedId));
+                verify(getItemByIdUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenAStaleIfNoneMatch_whenCallsGetById_shouldReturnIt() throws Exception {
+                // given
+                final var aItem = Item.newItem("Item name", "Item description", 10.0);
+                final var expectedId = aItem.getId().getValue();
+
+                when(getItemRevisionUseCase.execute(any()))
+                                .thenReturn(ItemRevisionOutput.from(aItem.getId(), aItem.getVersion()));
+                when(getItemByIdUseCase.execute(any()))
+                                .thenReturn(ItemOutput.from(aItem));
+
+                // when
+                final var response = this.mvc.perform(get("/items/{id}", expectedId)
+                                .with(ApiTest.USER_JWT)
+                                .header("If-None-Match", "\"stale\"")
+                                .accept(MediaType.APPLICATION_JSON));
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+        }
+
         @Test
         public void givenAInvalidId_whenCallsGetByIdAndItemDoesntExists_shouldReturnNotFound() throws Exception {
                 // given
-                final var expectedId = ItemID.from("123");
+                final var expectedId = ItemID.unique();
 
                 when(getItemByIdUseCase.execute(any()))
                                 .thenThrow(NotFoundException.with(Item.class, expectedId));
@@ -202,11 +370,13 @@ public class ItemAPITest {
 
                 final var aItem = Item.newItem(expectedName, expectedDescription, expectedPrice);
                 final var expectedId = aItem.getId();
+                final var expectedVersion = 1L;
+                final var expectedETag = "\"" + RevisionUtils.of(expectedId, expectedVersion) + "\"";
 
-                final var aCommand = new UpdateItemRequest(expectedName, expectedDescription, expectedPrice);
+                final var aCommand = new UpdateItemRequest(expectedName, expectedDescription, expectedPrice, null);
 
                 when(updateItemUseCase.execute(any()))
-                                .thenReturn(UpdateItemOutput.from(expectedId));
+                                .thenReturn(new UpdateItemOutput(expectedId.getValue(), expectedVersion));
 
                 // when
                 final var aRequest = put("/items/{id}", expectedId.getValue()).with(ApiTest.ADMIN_JWT)
@@ -219,7 +389,9 @@ public class ItemAPITest {
                 // then
                 response.andExpect(status().isOk())
                                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
-                                .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())));
+                                .andExpect(header().string("ETag", expectedETag))
+                                .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())))
+                                .andExpect(jsonPath("$.version", equalTo((int) expectedVersion)));
 
                 verify(updateItemUseCase)
                                 .execute(argThat(actualCmd -> Objects.equals(expectedId.getValue(), actualCmd.id())
@@ -231,13 +403,13 @@ public class ItemAPITest {
         @Test
         public void givenAnInvalidName_whenCallsUpdateItem_shouldReturnNotification() throws Exception {
                 // given
-                final var expectedId = ItemID.from("123");
+                final var expectedId = ItemID.unique();
                 final String expectedName = null;
                 final var expectedDescription = "Item description";
                 final var expectedPrice = 10.0;
                 final var expectedMessage = "'name' should not be null";
 
-                final var aCommand = new UpdateItemRequest(expectedName, expectedDescription, expectedPrice);
+                final var aCommand = new UpdateItemRequest(expectedName, expectedDescription, expectedPrice, null);
 
                 when(updateItemUseCase.execute(any()))
                                 .thenThrow(NotificationException.with(new Error(expectedMessage)));
@@ -263,10 +435,85 @@ public class ItemAPITest {
                                                 && Objects.equals(expectedPrice, actualCmd.price())));
         }
 
+        @Test
+        public void givenAStaleIfMatch_whenCallsUpdateItem_shouldReturnPreconditionFailed() throws Exception {
+                // given
+                final var expectedId = ItemID.unique();
+                final var expectedRevision = "abc";
+
+                final var aCommand = new UpdateItemRequest("Item name", "Item description", 10.0, null);
+
+                when(updateItemUseCase.execute(any()))
+                                .thenThrow(PreconditionFailedException.with(Item.class, expectedId));
+
+                // when
+                final var aRequest = put("/items/{id}", expectedId.getValue()).with(ApiTest.ADMIN_JWT)
+                                .header("If-Match", "\"" + expectedRevision + "\", W/\"weak\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aCommand));
+
+                final var response = this.mvc.perform(aRequest)
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isPreconditionFailed());
+
+                verify(updateItemUseCase).execute(argThat(actualCmd -> Objects.equals(
+                                List.of(expectedRevision, "W/\"weak\""), actualCmd.revisions())));
+        }
+
+        @Test
+        public void givenAStaleVersion_whenCallsUpdateItem_shouldReturnConflict() throws Exception {
+                // given
+                final var expectedId = ItemID.unique();
+                final var expectedVersion = 1L;
+
+                final var aCommand = new UpdateItemRequest("Item name", "Item description", 10.0, expectedVersion);
+
+                when(updateItemUseCase.execute(any()))
+                                .thenThrow(ConflictException.with(Item.class, expectedId));
+
+                // when
+                final var aRequest = put("/items/{id}", expectedId.getValue()).with(ApiTest.ADMIN_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aCommand));
+
+                final var response = this.mvc.perform(aRequest)
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isConflict());
+
+                verify(updateItemUseCase)
+                                .execute(argThat(actualCmd -> Objects.equals(expectedVersion, actualCmd.version())));
+        }
+
+        @Test
+        public void givenAConcurrentUpdate_whenCallsUpdateItem_shouldReturnConflict() throws Exception {
+                // given
+                final var expectedId = ItemID.unique();
+
+                final var aCommand = new UpdateItemRequest("Item name", "Item description", 10.0, null);
+
+                when(updateItemUseCase.execute(any()))
+                                .thenThrow(new ObjectOptimisticLockingFailureException(Item.class, expectedId.getValue()));
+
+                // when
+                final var aRequest = put("/items/{id}", expectedId.getValue()).with(ApiTest.ADMIN_JWT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(aCommand));
+
+                final var response = this.mvc.perform(aRequest)
+                                .andDo(print());
+
+                // then
+                response.andExpect(status().isConflict());
+        }
+
         @Test
         public void givenAValidId_whenCallsDeleteById_shouldDeleteIt() throws Exception {
                 // given
-                final var expectedId = ItemID.from("123");
+                final var expectedId = ItemID.unique();
 
                 doNothing().when(deleteItemUseCase).execute(any());
 
@@ -286,7 +533,7 @@ public class ItemAPITest {
         @Test
         public void givenAInvalidId_whenCallsDeleteByIdAndItemDoesntExists_shouldReturnNotFound() throws Exception {
                 // given
-                final var expectedId = ItemID.from("123");
+                final var expectedId = ItemID.unique();
 
                 doThrow(NotFoundException.with(Item.class, expectedId))
                                 .when(deleteItemUseCase).execute(any());
@@ -358,6 +605,43 @@ public class ItemAPITest {
                                 && Objects.equals(expectedDirection, aQuery.direction())));
         }
 
+        @Test
+        public void givenACursorWithoutCount_whenCallListItems_shouldSkipTheCount() throws Exception {
+                // given
+                final var expectedCursor = "cursor";
+
+                when(listItemsUseCase.execute(any()))
+                                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of(), false, null));
+
+                // when
+                final var aRequest = get("/items").with(ApiTest.USER_JWT)
+                                .queryParam("after", expectedCursor)
+                                .accept(MediaType.APPLICATION_JSON);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)));
+
+                verify(listItemsUseCase).execute(argThat(aQuery -> Objects.equals(expectedCursor, aQuery.after())
+                                && aQuery.count() == CountMode.NONE));
+        }
+
+        @Test
+        public void givenAPageBeyondTheIntRange_whenCallListItems_shouldReturnUnprocessableEntity() throws Exception {
+                // when
+                final var response = this.mvc.perform(get("/items").with(ApiTest.USER_JWT)
+                                .queryParam("page", String.valueOf(Integer.MAX_VALUE / 10))
+                                .queryParam("perPage", "100"));
+
+                // then
+                response.andExpect(status().isUnprocessableEntity())
+                                .andExpect(jsonPath("$.message", equalTo("'page' is too large for 'perPage'")));
+
+                verify(listItemsUseCase, times(0)).execute(any());
+        }
+
         @Test
         public void givenEmptyParams_whenCallListItems_shouldUseDefaultsAndReturnIt() throws Exception {
                 // given
@@ -407,4 +691,290 @@ public class ItemAPITest {
                                 && Objects.equals(expectedSort, aQuery.sort())
                                 && Objects.equals(expectedDirection, aQuery.direction())));
         }
-}
\ No newline at end of file
+
+        @Test
+        public void givenArchivedParam_whenCallListItems_shouldIncludeArchivedItems() throws Exception {
+                // given
+                final var aItem = Item.newItem("Item name", "Item description", 10.0);
+                final var expectedItems = List.of(ItemListOutput.from(aItem));
+
+                when(listItemsWithArchiveUseCase.execute(any()))
+                                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+                // when
+                final var aRequest = get("/items").with(ApiTest.USER_JWT)
+                                .queryParam("archived", "true")
+                                .accept(MediaType.APPLICATION_JSON);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total", equalTo(1)))
+                                .andExpect(jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())));
+
+                verify(listItemsWithArchiveUseCase).execute(any());
+                verifyNoInteractions(listItemsUseCase);
+        }
+
+        @Test
+        public void givenNoFormat_whenCallsExportItems_shouldStreamNdjson() throws Exception {
+                // given
+                final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+                final var otherItem = Item.newItem("Tablet", "A tablet", 20.0);
+
+                doAnswer(invocation -> {
+                        final ExportItemsCommand aCommand = invocation.getArgument(0);
+                        aCommand.consumer().accept(ItemListOutput.from(aItem));
+                        aCommand.consumer().accept(ItemListOutput.from(otherItem));
+                        return null;
+                }).when(exportItemsUseCase).execute(any());
+
+                // when
+                final var started = this.mvc.perform(get("/items/export").with(ApiTest.USER_JWT)
+                                .queryParam("search", "note"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                final var response = this.mvc.perform(asyncDispatch(started));
+
+                // then
+                final var expectedBody = """
+                                {"id":"%s","name":"Notebook","description":"A notebook","price":10.0,"created_at":"%s"}
+                                {"id":"%s","name":"Tablet","description":"A tablet","price":20.0,"created_at":"%s"}
+                                """.formatted(
+                                aItem.getId().getValue(), aItem.getCreatedAt(),
+                                otherItem.getId().getValue(), otherItem.getCreatedAt());
+
+                response.andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                                .andExpect(header().doesNotExist("Content-Encoding"))
+                                .andExpect(content().string(expectedBody));
+
+                verify(exportItemsUseCase).execute(argThat(aCommand -> Objects.equals("note", aCommand.terms())));
+        }
+
+        @Test
+        public void givenCsvAndGzip_whenCallsExportItems_shouldStreamCompressedCsv() throws Exception {
+                // given
+                final var aItem = Item.newItem("Notebook, 15\"", "A \"pro\" notebook", 10.0);
+
+                doAnswer(invocation -> {
+                        final ExportItemsCommand aCommand = invocation.getArgument(0);
+                        aCommand.consumer().accept(ItemListOutput.from(aItem));
+                        return null;
+                }).when(exportItemsUseCase).execute(any());
+
+                // when
+                final var started = this.mvc.perform(get("/items/export").with(ApiTest.USER_JWT)
+                                .queryParam("format", "csv")
+                                .header("Accept-Encoding", "gzip, deflate"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                final var response = this.mvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", "text/csv"))
+                                .andExpect(header().string("Content-Encoding", "gzip"))
+                                .andReturn()
+                                .getResponse();
+
+                // then
+                final var expectedBody = """
+                                id,name,description,price,created_at
+                                %s,"Notebook, 15""\","A ""pro"" notebook",10.0,%s
+                                """.formatted(aItem.getId().getValue(), aItem.getCreatedAt());
+
+                try (final var gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                        Assertions.assertEquals(expectedBody, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+                }
+        }
+
+        @Test
+        public void givenGzipRefused_whenCallsExportItems_shouldStreamUncompressed() throws Exception {
+                // given
+                final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+
+                doAnswer(invocation -> {
+                        final ExportItemsCommand aCommand = invocation.getArgument(0);
+                        aCommand.consumer().accept(ItemListOutput.from(aItem));
+                        return null;
+                }).when(exportItemsUseCase).execute(any());
+
+                // when
+                final var started = this.mvc.perform(get("/items/export").with(ApiTest.USER_JWT)
+                                .header("Accept-Encoding", "gzip;q=0, identity"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                final var response = this.mvc.perform(asyncDispatch(started));
+
+                // then
+                final var expectedBody = """
+                                {"id":"%s","name":"Notebook","description":"A notebook","price":10.0,"created_at":"%s"}
+                                """.formatted(aItem.getId().getValue(), aItem.getCreatedAt());
+
+                response.andExpect(status().isOk())
+                                .andExpect(header().doesNotExist("Content-Encoding"))
+                                .andExpect(content().string(expectedBody));
+        }
+
+        @Test
+        public void givenAnUnknownFormat_whenCallsExportItems_shouldReturnUnprocessableEntity() throws Exception {
+                // when
+                final var response = this.mvc.perform(get("/items/export").with(ApiTest.USER_JWT)
+                                .queryParam("format", "xml"));
+
+                // then
+                response.andExpect(status().isUnprocessableEntity())
+                                .andExpect(jsonPath("$.message", equalTo("'format' must be one of ndjson or csv")));
+
+                verify(exportItemsUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenAnNdjsonBody_whenCallsImportItems_shouldStreamRejectedRowsAndSummary() throws Exception {
+                // given
+                final var body = """
+                                {"name":"Notebook","description":"A notebook","price":10.0}
+
+                                {"name":"Tablet",
+                                {"name":"","description":"A tablet","price":20.0}
+                                """;
+
+                final var actualRows = new ArrayList<CreateItemCommand>();
+
+                when(importItemsUseCase.execute(any())).thenAnswer(invocation -> {
+                        final ImportItemsCommand aCommand = invocation.getArgument(0);
+                        aCommand.rows().forEachRemaining(actualRows::add);
+                        aCommand.onError().accept(ImportItemsError.with(2, List.of(new Error("could not be parsed"))));
+                        aCommand.onError().accept(ImportItemsError.with(3, List.of(new Error("'name' should not be empty"))));
+                        return ImportItemsOutput.completed(1, 2);
+                });
+
+                // when
+                final var started = this.mvc.perform(post("/items/import").with(ApiTest.USER_JWT)
+                                .contentType("application/x-ndjson")
+                                .content(body))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                final var response = this.mvc.perform(asyncDispatch(started));
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                                .andExpect(content().string("""
+                                                {"row":2,"errors":[{"message":"could not be parsed"}]}
+                                                {"row":3,"errors":[{"message":"'name' should not be empty"}]}
+                                                {"imported":1,"rejected":2,"complete":true}
+                                                """));
+
+                Assertions.assertEquals(3, actualRows.size());
+                Assertions.assertEquals(CreateItemCommand.with("Notebook", "A notebook", 10.0), actualRows.get(0));
+                Assertions.assertNull(actualRows.get(1));
+                Assertions.assertEquals(CreateItemCommand.with("", "A tablet", 20.0), actualRows.get(2));
+        }
+
+        @Test
+        public void givenACsvBody_whenCallsImportItems_shouldReadQuotedFieldsByHeaderName() throws Exception {
+                // given
+                final var body = """
+                                price,name,description
+                                10.0,"Notebook, 15""\","A ""pro""
+                                notebook"
+                                abc,Tablet,A tablet
+                                20.0,Celular
+                                """;
+
+                final var actualRows = new ArrayList<CreateItemCommand>();
+
+                when(importItemsUseCase.execute(any())).thenAnswer(invocation -> {
+                        final ImportItemsCommand aCommand = invocation.getArgument(0);
+                        aCommand.rows().forEachRemaining(actualRows::add);
+                        return ImportItemsOutput.completed(1, 2);
+                });
+
+                // when
+                final var started = this.mvc.perform(post("/items/import").with(ApiTest.USER_JWT)
+                                .queryParam("format", "csv")
+                                .contentType("text/csv")
+                                .content(body))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                final var response = this.mvc.perform(asyncDispatch(started));
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(content().string("{\"imported\":1,\"rejected\":2,\"complete\":true}\n"));
+
+                Assertions.assertEquals(3, actualRows.size());
+                Assertions.assertEquals(CreateItemCommand.with("Notebook, 15\"", "A \"pro\"\nnotebook", 10.0), actualRows.get(0));
+                Assertions.assertNull(actualRows.get(1));
+                Assertions.assertNull(actualRows.get(2));
+        }
+
+        @Test
+        public void givenACsvWithAnUnclosedQuote_whenCallsImportItems_shouldRejectOnlyTheOversizedRow() throws Exception {
+                // given
+                final var body = "name,description,price\n"
+                                + "Notebook,\"" + "x\n".repeat(40_000)
+                                + "Tablet,A tablet,20.0\n";
+
+                final var actualRows = new ArrayList<CreateItemCommand>();
+
+                when(importItemsUseCase.execute(any())).thenAnswer(invocation -> {
+                        final ImportItemsCommand aCommand = invocation.getArgument(0);
+                        aCommand.rows().forEachRemaining(actualRows::add);
+                        return ImportItemsOutput.completed(1, 1);
+                });
+
+                // when
+                final var started = this.mvc.perform(post("/items/import").with(ApiTest.USER_JWT)
+                                .queryParam("format", "csv")
+                                .contentType("text/csv")
+                                .content(body))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                this.mvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk());
+
+                // then
+                Assertions.assertNull(actualRows.get(0));
+                Assertions.assertEquals(CreateItemCommand.with("Tablet", "A tablet", 20.0), actualRows.get(actualRows.size() - 1));
+        }
+
+        @Test
+        public void givenACsvWithoutRequiredColumns_whenCallsImportItems_shouldReturnUnprocessableEntity() throws Exception {
+                // when
+                final var response = this.mvc.perform(post("/items/import").with(ApiTest.USER_JWT)
+                                .queryParam("format", "csv")
+                                .contentType("text/csv")
+                                .content("name,price\nNotebook,10.0\n"));
+
+                // then
+                response.andExpect(status().isUnprocessableEntity())
+                                .andExpect(jsonPath("$.message", equalTo("CSV header must contain name, description and price")));
+
+                verify(importItemsUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenPartitions_whenCallsRebuildListings_shouldReturnRebuiltCount() throws Exception {
+                // given
+                when(rebuildItemListingsUseCase.execute(any())).thenReturn(new RebuildItemListingsOutput(8, 1_000));
+
+                // when
+                final var response = this.mvc.perform(post("/items/listings/rebuild").with(ApiTest.ADMIN_JWT)
+                                .queryParam("partitions", "8"));
+
+                // then
+                response.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.partitions", equalTo(8)))
+                                .andExpect(jsonPath("$.rebuilt", equalTo(1_000)));
+
+                verify(rebuildItemListingsUseCase).execute(eq(RebuildItemListingsCommand.with(8)));
+        }
+}
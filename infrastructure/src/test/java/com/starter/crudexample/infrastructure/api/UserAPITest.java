@@ -40,6 +40,8 @@ import com.starter.crudexample.application.user.retrieve.get.DefaultGetUserByIdU
 import com.starter.crudexample.application.user.retrieve.get.GetUserByIdOutput;
 import com.starter.crudexample.application.user.retrieve.list.DefaultListUsersUseCase;
 import com.starter.crudexample.application.user.retrieve.list.UserListOutput;
+import com.starter.crudexample.application.user.retrieve.revision.DefaultGetUserRevisionUseCase;
+import com.starter.crudexample.application.user.retrieve.revision.UserRevisionOutput;
 import com.starter.crudexample.application.user.update.DefaultUpdateUserUseCase;
 import com.starter.crudexample.application.user.update.UpdateUserOutput;
 import com.starter.crudexample.domain.exceptions.NotFoundException;
@@ -67,6 +69,9 @@ public class UserAPITest {
     @MockitoBean
     private DefaultGetUserByIdUseCase getUserByIdUseCase;
 
+    @MockitoBean
+    private DefaultGetUserRevisionUseCase getUserRevisionUseCase;
+
     @MockitoBean
     private DefaultUpdateUserUseCase updateUserUseCase;
 
@@ -84,7 +89,7 @@ public class UserAPITest {
         final var expectedPassword = "123456";
         final var expectedRoles = List.of(Role.USER);
         final var expectedActive = true;
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
 
         final var aCommand = new CreateUserRequest(expectedUsername, expectedEmail, expectedPassword, expectedRoles,
                 expectedActive);
@@ -185,7 +190,7 @@ public class UserAPITest {
     @Test
     public void givenAValidId_whenCallsGetUserById_thenShouldReturnUser() throws Exception {
         // Given
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
         final var expectedUsername = "johndoe";
         final var expectedEmail = "john.doe@example.com";
         final var expectedRoles = List.of(Role.USER);
@@ -201,7 +206,8 @@ public class UserAPITest {
                 expectedActive,
                 expectedCreatedAt,
                 expectedUpdatedAt,
-                null
+                null,
+                0L
         );
 
         when(getUserByIdUseCase.execute(any()))
@@ -227,10 +233,34 @@ public class UserAPITest {
         ));
     }
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetUserById_thenShouldReturnNotModified() throws Exception {
+        // Given
+        final var expectedId = UserID.unique().getValue();
+        final var expectedRevision = UserRevisionOutput.from(UserID.from(expectedId), 1L);
+        final var expectedETag = "\"" + expectedRevision.revision() + "\"";
+
+        when(getUserRevisionUseCase.execute(any()))
+                .thenReturn(expectedRevision);
+
+        // When
+        final var response = this.mvc.perform(get("/users/{id}", expectedId)
+                .with(ApiTest.ADMIN_JWT)
+                .header("If-None-Match", expectedETag)
+                .accept(MediaType.APPLICATION_JSON));
+
+        // Then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag));
+
+        verify(getUserRevisionUseCase).execute(eq(expectedId));
+        verify(getUserByIdUseCase, times(0)).execute(any());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetUserById_thenShouldReturnNotFound() throws Exception {
         // Given
-        final var expectedId = "invalid-id";
+        final var expectedId = UserID.unique().getValue();
 
         when(getUserByIdUseCase.execute(any()))
                 .thenThrow(NotFoundException.with(User.class, UserID.from(expectedId)));
@@ -251,7 +281,7 @@ public class UserAPITest {
     @Test
     public void givenAValidCommand_whenCallsUpdateUser_thenShouldReturnItsIdentifier() throws Exception {
         // Given
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
         final var expectedUsername = "johnny";
         final var expectedEmail = "johnny@example.com";
         final var expectedPassword = "newpassword123";
@@ -263,11 +293,12 @@ public class UserAPITest {
                 expectedEmail,
                 expectedPassword,
                 expectedRoles,
-                expectedActive
+                expectedActive,
+                null
         );
 
         when(updateUserUseCase.execute(any()))
-                .thenReturn(UpdateUserOutput.from(UserID.from(expectedId)));
+                .thenReturn(new UpdateUserOutput(expectedId, 1L));
 
         // When
         final var response = this.mvc.perform(put("/users/{id}", expectedId)
@@ -293,7 +324,7 @@ public class UserAPITest {
     @Test
     public void givenAnInvalidUsername_whenCallsUpdateUser_thenShouldReturnNotification() throws Exception {
         // Given
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
         final String invalidUsername = " ";
         final var expectedEmail = "johnny@example.com";
         final var expectedPassword = "newpassword123";
@@ -306,7 +337,8 @@ public class UserAPITest {
                 expectedEmail,
                 expectedPassword,
                 expectedRoles,
-                expectedActive
+                expectedActive,
+                null
         );
 
         when(updateUserUseCase.execute(any()))
@@ -337,7 +369,7 @@ public class UserAPITest {
     @Test
     public void givenAnInvalidEmail_whenCallsUpdateUser_thenShouldReturnNotification() throws Exception {
         // Given
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
         final var expectedUsername = "johnny";
         final String invalidEmail = "invalid-email";
         final var expectedPassword = "newpassword123";
@@ -350,7 +382,8 @@ public class UserAPITest {
                 invalidEmail,
                 expectedPassword,
                 expectedRoles,
-                expectedActive
+                expectedActive,
+                null
         );
 
         when(updateUserUseCase.execute(any()))
@@ -381,7 +414,7 @@ public class UserAPITest {
     @Test
     public void givenAnInvalidId_whenCallsUpdateUser_thenShouldReturnNotFound() throws Exception {
         // Given
-        final var expectedId = "invalid-id";
+        final var expectedId = UserID.unique().getValue();
         final var expectedUsername = "johnny";
         final var expectedEmail = "johnny@example.com";
         final var expectedPassword = "newpassword123";
@@ -393,7 +426,8 @@ public class UserAPITest {
                 expectedEmail,
                 expectedPassword,
                 expectedRoles,
-                expectedActive
+                expectedActive,
+                null
         );
 
         when(updateUserUseCase.execute(any()))
@@ -421,7 +455,7 @@ public class UserAPITest {
     @Test
     public void givenANullPassword_whenCallsUpdateUser_thenShouldNotUpdatePassword() throws Exception {
         // Given
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
         final var expectedUsername = "johnny";
         final var expectedEmail = "johnny@example.com";
         final String nullPassword = null;
@@ -433,11 +467,12 @@ public class UserAPITest {
                 expectedEmail,
                 nullPassword,
                 expectedRoles,
-                expectedActive
+                expectedActive,
+                null
         );
 
         when(updateUserUseCase.execute(any()))
-                .thenReturn(UpdateUserOutput.from(UserID.from(expectedId)));
+                .thenReturn(new UpdateUserOutput(expectedId, 1L));
 
         // When
         final var response = this.mvc.perform(put("/users/{id}", expectedId)
@@ -463,7 +498,7 @@ public class UserAPITest {
     @Test
     public void givenAValidId_whenCallsDeleteById_thenShouldDeleteIt() throws Exception {
         // Given
-        final var expectedId = "abc-123";
+        final var expectedId = UserID.unique().getValue();
 
         doNothing().when(deleteUserUseCase).execute(any());
 
@@ -480,7 +515,7 @@ public class UserAPITest {
     @Test
     public void givenAnInvalidId_whenCallsDeleteByIdAndUserDoesntExists_thenShouldReturnNotFound() throws Exception {
         // Given
-        final var expectedId = "invalid-id";
+        final var expectedId = UserID.unique().getValue();
 
         doThrow(NotFoundException.with(User.class, UserID.from(expectedId)))
                 .when(deleteUserUseCase).execute(any());
@@ -0,0 +1,72 @@
+package com.starter.crudexample.infrastructure.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.starter.crudexample.IntegrationTest;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.infrastructure.api.models.BatchOperationRequest;
+import com.starter.crudexample.infrastructure.api.models.BatchRequest;
+import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+
+@IntegrationTest
+public class BatchControllerIT {
+
+    @Autowired
+    private BatchController controller;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    public void givenValidOperations_whenCallsBatch_shouldCommitAllOfThem() {
+        // given
+        final var toUpdate = itemRepository.saveAndFlush(ItemJpaEntity.from(Item.newItem("Celular", "Item 2 description", 20.0)));
+        final var toDelete = itemRepository.saveAndFlush(ItemJpaEntity.from(Item.newItem("Tablet", "Item 3 description", 30.0)));
+
+        final var aRequest = new BatchRequest(List.of(
+                new BatchOperationRequest("create", null, "Notebook", "Item 1 description", 10.0),
+                new BatchOperationRequest("update", toUpdate.getId(), "Celular Novo", "Item 2 description", 25.0),
+                new BatchOperationRequest("delete", toDelete.getId(), null, null, null)));
+
+        // when
+        final var actualResponse = controller.execute(aRequest);
+
+        // then
+        assertEquals(200, actualResponse.getStatusCode().value());
+        assertTrue(actualResponse.getBody().committed());
+        assertEquals(2, itemRepository.count());
+        assertEquals("Celular Novo", itemRepository.findById(toUpdate.getId()).get().getName());
+        assertFalse(itemRepository.existsById(toDelete.getId()));
+    }
+
+    @Test
+    public void givenAnInvalidOperation_whenCallsBatch_shouldRollbackPreviousOperations() {
+        // given
+        final var toDelete = itemRepository.saveAndFlush(ItemJpaEntity.from(Item.newItem("Tablet", "Item 3 description", 30.0)));
+
+        final var aRequest = new BatchRequest(List.of(
+                new BatchOperationRequest("create", null, "Notebook", "Item 1 description", 10.0),
+                new BatchOperationRequest("delete", toDelete.getId(), null, null, null),
+                new BatchOperationRequest("create", null, null, "Item 2 description", 20.0)));
+
+        // when
+        final var actualResponse = controller.execute(aRequest);
+
+        // then
+        assertEquals(422, actualResponse.getStatusCode().value());
+        assertFalse(actualResponse.getBody().committed());
+        assertEquals(3, actualResponse.getBody().results().size());
+        assertEquals("'name' should not be null", actualResponse.getBody().results().get(2).errors().get(0).message());
+
+        assertEquals(1, itemRepository.count());
+        assertTrue(itemRepository.existsById(toDelete.getId()));
+    }
+}
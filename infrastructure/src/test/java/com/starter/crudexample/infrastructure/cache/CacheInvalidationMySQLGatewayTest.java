@@ -0,0 +1,117 @@
+package com.starter.crudexample.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.user.Role;
+import com.starter.crudexample.domain.user.User;
+import com.starter.crudexample.domain.utils.IdUtils;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationRepository;
+import com.starter.crudexample.infrastructure.item.ItemMySQLGateway;
+import com.starter.crudexample.infrastructure.user.UserMySQLGateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MySQLGatewayTest
+public class CacheInvalidationMySQLGatewayTest {
+
+    @Autowired
+    private CacheInvalidationMySQLGateway invalidationGateway;
+
+    @Autowired
+    private CacheInvalidationRepository invalidationRepository;
+
+    @Autowired
+    private ItemMySQLGateway itemGateway;
+
+    @Autowired
+    private UserMySQLGateway userGateway;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenUpdatesAndDeletes_whenGatewaysWrite_shouldRecordWhichEntriesChanged() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        final var aUser = userGateway.create(User.newUser("johndoe", "john.doe@example.com", "123456", List.of(Role.USER), true));
+        Assertions.assertEquals(0, invalidationRepository.count());
+
+        // when
+        itemGateway.update(Item.with(itemGateway.findById(aItem.getId()).orElseThrow())
+                .update("Notebook Dell", "A notebook", 12.0));
+        userGateway.deleteById(aUser.getId());
+
+        // then
+        final var actualRows = invalidationGateway.findSince(InstantUtils.now().minusSeconds(60));
+        Assertions.assertEquals(
+                List.of(
+                        List.of(CacheInvalidationMySQLGateway.ITEMS, aItem.getId().getValue()),
+                        List.of(CacheInvalidationMySQLGateway.USERS, aUser.getId().getValue())),
+                actualRows.stream()
+                        .sorted(Comparator.comparing(CacheInvalidation::cacheName))
+                        .map(row -> List.of(row.cacheName(), row.entryId()))
+                        .toList());
+    }
+
+    @Test
+    public void givenRecentInvalidations_whenCallsPollOnce_shouldEvictLocalEntriesAndMeasureEachRowOnce() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        itemGateway.deleteById(aItem.getId());
+
+        final var evicted = new CopyOnWriteArrayList<String>();
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var poller = new CacheInvalidationPoller(
+                invalidationGateway,
+                List.of(LocalCache.of(CacheInvalidationMySQLGateway.ITEMS, evicted::add)),
+                transactionManager,
+                meterRegistry,
+                Duration.ofMillis(50),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10));
+
+        // when
+        final var actualFirst = poller.pollOnce();
+        final var actualSecond = poller.pollOnce();
+
+        // then
+        Assertions.assertEquals(1, actualFirst);
+        // Ainda na janela de folga: descartada de novo, mas não contada de novo
+        Assertions.assertEquals(0, actualSecond);
+        Assertions.assertEquals(List.of(aItem.getId().getValue(), aItem.getId().getValue()), evicted);
+        Assertions.assertEquals(1, meterRegistry.get("cache.invalidation.lag").timer().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.invalidation.invalidated").tag("cache", "items").counter().count());
+    }
+
+    @Test
+    public void givenRowsOlderThanTheRetention_whenCallsPollOnce_shouldPurgeThem() {
+        // given
+        final var expired = new CacheInvalidationJpaEntity(
+                IdUtils.uuid(), CacheInvalidationMySQLGateway.ITEMS, IdUtils.uuid(), InstantUtils.now().minus(Duration.ofHours(1)));
+        invalidationRepository.saveAndFlush(expired);
+
+        final var poller = new CacheInvalidationPoller(
+                invalidationGateway, List.of(), transactionManager, new SimpleMeterRegistry(),
+                Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMinutes(10));
+
+        // when
+        final var actualApplied = poller.pollOnce();
+
+        // then
+        Assertions.assertEquals(0, actualApplied);
+        Assertions.assertEquals(0, invalidationRepository.count());
+    }
+}
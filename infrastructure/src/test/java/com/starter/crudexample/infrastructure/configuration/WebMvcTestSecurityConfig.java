@@ -15,11 +15,12 @@ public class WebMvcTestSecurityConfig {
     @Bean
     public SecurityFilterChain webMvcTestFilterChain(HttpSecurity http) throws Exception {
         // Limita este chain apenas às rotas de API sob teste
-        http.securityMatcher("/items/**", "/users/**");
+        http.securityMatcher("/items/**", "/users/**", "/batch");
         return http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/items/**").hasAnyRole("USER", "ADMIN")
+                        .requestMatchers("/batch").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/users/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
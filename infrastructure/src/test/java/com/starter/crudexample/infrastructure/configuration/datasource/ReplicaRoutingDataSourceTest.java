@@ -0,0 +1,111 @@
+package com.starter.crudexample.infrastructure.configuration.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// Duas instâncias H2 fazem o papel de primária e réplica; cada uma responde com o próprio nome
+public class ReplicaRoutingDataSourceTest {
+
+    private final AtomicReference<String> client = new AtomicReference<>();
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        this.primary = node("primary");
+        this.replica = node("replica");
+        this.client.set(null);
+    }
+
+    @Test
+    public void givenAReadOnlyExecution_whenQuerying_shouldUseTheReplica() throws Throwable {
+        // given
+        final var dataSource = routing(List.of(replica), Duration.ofSeconds(5));
+        final var jdbc = new JdbcTemplate(dataSource);
+
+        // when
+        final var actualRead = dataSource.readOnly(() -> nodeOf(jdbc));
+        final var actualWrite = nodeOf(jdbc);
+
+        // then
+        Assertions.assertEquals("replica", actualRead);
+        Assertions.assertEquals("primary", actualWrite);
+    }
+
+    @Test
+    public void givenNoReplicas_whenQueryingReadOnly_shouldUseThePrimary() throws Throwable {
+        // given
+        final var dataSource = routing(List.of(), Duration.ofSeconds(5));
+        final var jdbc = new JdbcTemplate(dataSource);
+
+        // when
+        final var actualRead = dataSource.readOnly(() -> nodeOf(jdbc));
+
+        // then
+        Assertions.assertEquals("primary", actualRead);
+    }
+
+    @Test
+    public void givenARecentWrite_whenTheSameClientReads_shouldStickToThePrimary() throws Throwable {
+        // given
+        final var dataSource = routing(List.of(replica), Duration.ofMillis(200));
+        final var jdbc = new JdbcTemplate(dataSource);
+
+        this.client.set("alice");
+        dataSource.wrote();
+
+        // when
+        final var actualOwnRead = dataSource.readOnly(() -> nodeOf(jdbc));
+
+        this.client.set("bob");
+        final var actualOtherRead = dataSource.readOnly(() -> nodeOf(jdbc));
+
+        // then
+        Assertions.assertEquals("primary", actualOwnRead);
+        Assertions.assertEquals("replica", actualOtherRead);
+
+        Thread.sleep(400);
+        this.client.set("alice");
+        Assertions.assertEquals("replica", dataSource.readOnly(() -> nodeOf(jdbc)));
+    }
+
+    @Test
+    public void givenAReadOnlyExecution_whenQueryingThePrimary_shouldUseThePrimaryOnlyInside() throws Throwable {
+        // given
+        final var dataSource = routing(List.of(replica), Duration.ofSeconds(5));
+        final var jdbc = new JdbcTemplate(dataSource);
+
+        // when
+        final var actualReads = dataSource.readOnly(() -> List.of(
+                dataSource.primary(() -> nodeOf(jdbc)),
+                nodeOf(jdbc)));
+
+        // then
+        Assertions.assertEquals(List.of("primary", "replica"), actualReads);
+    }
+
+    private ReplicaRoutingDataSource routing(final List<DriverManagerDataSource> replicas, final Duration readYourWrites) {
+        return new ReplicaRoutingDataSource(this.primary, replicas, readYourWrites, this.client::get);
+    }
+
+    private static String nodeOf(final JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource node(final String aName) {
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + aName + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", aName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,101 @@
+package com.starter.crudexample.infrastructure.configuration.usecases;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.starter.crudexample.IntegrationTest;
+import com.starter.crudexample.application.item.retrieve.get.GetItemByIdUseCase;
+import com.starter.crudexample.application.item.retrieve.list.ListItemsUseCase;
+import com.starter.crudexample.application.item.update.UpdateItemCommand;
+import com.starter.crudexample.application.item.update.UpdateItemUseCase;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemListingGateway;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+
+@IntegrationTest
+public class UnitOfWorkIT {
+
+    @Autowired
+    private UpdateItemUseCase updateItemUseCase;
+
+    @Autowired
+    private GetItemByIdUseCase getItemByIdUseCase;
+
+    @Autowired
+    private ListItemsUseCase listItemsUseCase;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @MockitoSpyBean
+    private ItemGateway itemGateway;
+
+    @MockitoSpyBean
+    private ItemListingGateway itemListingGateway;
+
+    @Test
+    public void givenAnUpdate_whenCallsExecute_shouldFindAndUpdateInTheSameReadWriteTransaction() {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        this.itemRepository.saveAndFlush(ItemJpaEntity.from(aItem));
+
+        final var actualTransactions = recordTransactions();
+
+        // when
+        this.updateItemUseCase.execute(
+                UpdateItemCommand.with(aItem.getId().getValue(), "Laptop", "A laptop", 20.0));
+
+        // then
+        Assertions.assertEquals(2, actualTransactions.size());
+        Assertions.assertEquals(actualTransactions.get(0), actualTransactions.get(1));
+        Assertions.assertTrue(actualTransactions.get(0).endsWith(".execute:false"));
+        Assertions.assertEquals("Laptop", this.itemRepository.findById(aItem.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenQueryUseCases_whenCallsExecute_shouldRunInReadOnlyTransactions() {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        this.itemRepository.saveAndFlush(ItemJpaEntity.from(aItem));
+
+        final var actualTransactions = recordTransactions();
+
+        // when
+        this.getItemByIdUseCase.execute(aItem.getId().getValue());
+        this.listItemsUseCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(2, actualTransactions.size());
+        Assertions.assertTrue(actualTransactions.stream().allMatch(tx -> tx.endsWith(".execute:true")));
+    }
+
+    // Registra "nome da transação:read-only" a cada chamada ao gateway
+    private List<String> recordTransactions() {
+        final var transactions = new ArrayList<String>();
+
+        final Answer<?> record = invocation -> {
+            transactions.add(TransactionSynchronizationManager.getCurrentTransactionName()
+                    + ":" + TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return invocation.callRealMethod();
+        };
+
+        doAnswer(record).when(this.itemGateway).findById(any());
+        doAnswer(record).when(this.itemGateway).update(any());
+        doAnswer(record).when(this.itemListingGateway).findAll(any());
+
+        return transactions;
+    }
+}
@@ -0,0 +1,223 @@
+package com.starter.crudexample.infrastructure.event;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.starter.crudexample.domain.event.DomainEvent;
+import com.starter.crudexample.domain.item.ItemDeleted;
+import com.starter.crudexample.domain.item.ItemID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AsyncDomainEventBusTest {
+
+    @TempDir
+    private Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<ItemDeleted> events;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.events = IntStream.range(0, 10).mapToObj(i -> ItemDeleted.of(ItemID.unique())).toList();
+    }
+
+    @Test
+    public void givenPublishedEvents_whenTheBusCloses_shouldDeliverThemInOrderOnTheSubscriberThread() throws Exception {
+        // given
+        final var subscriber = new RecordingSubscriber("recorder", new CountDownLatch(0));
+        final var bus = newBus(subscriber, 100, OverflowPolicy.BLOCK);
+        bus.start();
+
+        // when
+        events.forEach(bus::publishEvent);
+        bus.close();
+
+        // then
+        Assertions.assertEquals(events, subscriber.received);
+        Assertions.assertEquals(List.of("events-recorder"), subscriber.threads.stream().distinct().toList());
+        Assertions.assertEquals(10.0, counter("events.bus.delivered"));
+        Assertions.assertEquals(10, meterRegistry.get("events.bus.lag").timer().count());
+    }
+
+    @Test
+    public void givenASlowSubscriberAndDropPolicy_whenTheBufferIsFull_shouldNotHoldThePublisher() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var subscriber = new RecordingSubscriber("slow", release);
+        final var bus = newBus(subscriber, 2, OverflowPolicy.DROP);
+        bus.start();
+
+        // when
+        events.forEach(bus::publishEvent);
+        release.countDown();
+        bus.close();
+
+        // then
+        final var dropped = counter("events.bus.dropped");
+        Assertions.assertTrue(dropped > 0);
+        Assertions.assertEquals(events.size() - dropped, subscriber.received.size());
+    }
+
+    @Test
+    public void givenASlowSubscriberAndSpillPolicy_whenTheBufferIsFull_shouldDeliverEverythingInOrder() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var subscriber = new RecordingSubscriber("spilling", release);
+        final var bus = newBus(subscriber, 2, OverflowPolicy.SPILL);
+        bus.start();
+
+        // when
+        events.forEach(bus::publishEvent);
+        release.countDown();
+        bus.close();
+
+        // then
+        Assertions.assertTrue(counter("events.bus.spilled") > 0);
+        Assertions.assertEquals(events, subscriber.received);
+        Assertions.assertEquals(0, Files.size(directory.resolve("spilling.spill")));
+    }
+
+    @Test
+    public void givenACorruptSpilledRecord_whenConsuming_shouldSkipItAndKeepDelivering() throws Exception {
+        // given
+        final var path = directory.resolve("corrupt.spill");
+        try (final var spill = SpillFile.open(path)) {
+            spill.append(envelope(events.get(0)));
+            spill.append(envelope(events.get(1)));
+        }
+        // tamanho válido, corpo que não desserializa
+        Files.write(path, ByteBuffer.allocate(Integer.BYTES + 3).putInt(3).put(new byte[] { 1, 2, 3 }).array(),
+                StandardOpenOption.APPEND);
+        try (final var spill = SpillFile.open(path)) {
+            spill.append(envelope(events.get(2)));
+        }
+
+        final var subscriber = new RecordingSubscriber("corrupt", new CountDownLatch(0));
+        final var bus = newBus(subscriber, 100, OverflowPolicy.SPILL);
+        bus.start();
+
+        // when
+        bus.publishEvent(events.get(3));
+        bus.close();
+
+        // then
+        Assertions.assertEquals(events.subList(0, 4), subscriber.received);
+        Assertions.assertEquals(1.0, counter("events.bus.failures"));
+        Assertions.assertEquals(0, Files.size(path));
+    }
+
+    @Test
+    public void givenAPendingSpill_whenConsuming_shouldReadItWithoutWaitingOnTheEmptyBuffer() throws Exception {
+        // given
+        final var spilled = IntStream.range(0, 400).mapToObj(i -> ItemDeleted.of(ItemID.unique())).toList();
+        try (final var spill = SpillFile.open(directory.resolve("backlog.spill"))) {
+            spilled.forEach(anEvent -> spill.append(envelope(anEvent)));
+        }
+
+        final var subscriber = new RecordingSubscriber("backlog", new CountDownLatch(0));
+        final var bus = newBus(subscriber, 100, OverflowPolicy.SPILL);
+
+        // when
+        bus.start();
+
+        // then
+        // 100 lotes de 4: esperando 100ms no buffer antes de cada um levaria 10s
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (subscriber.received.size() < spilled.size() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        final var actualDelivered = subscriber.received.size();
+        bus.close();
+
+        Assertions.assertEquals(spilled.size(), actualDelivered);
+        Assertions.assertEquals(spilled, subscriber.received);
+    }
+
+    @Test
+    public void givenAFailingSubscriber_whenABatchFails_shouldKeepConsumingTheNextOnes() throws Exception {
+        // given
+        final var handled = new CopyOnWriteArrayList<DomainEvent>();
+        final var subscriber = new DomainEventSubscriber() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public void handle(final List<DomainEvent> batch) {
+                if (batch.contains(events.get(0))) {
+                    throw new IllegalStateException("boom");
+                }
+                handled.addAll(batch);
+            }
+        };
+        final var bus = new AsyncDomainEventBus(List.of(subscriber), meterRegistry, 100, 1, OverflowPolicy.BLOCK, directory);
+        bus.start();
+
+        // when
+        bus.publishEvent(events.get(0));
+        bus.publishEvent(events.get(1));
+        bus.close();
+
+        // then
+        Assertions.assertEquals(List.of(events.get(1)), handled);
+        Assertions.assertEquals(1.0, counter("events.bus.failures"));
+    }
+
+    private AsyncDomainEventBus newBus(
+            final DomainEventSubscriber subscriber, final int capacity, final OverflowPolicy overflowPolicy) {
+        return new AsyncDomainEventBus(List.of(subscriber), meterRegistry, capacity, 4, overflowPolicy, directory);
+    }
+
+    private static AsyncDomainEventBus.Envelope envelope(final DomainEvent anEvent) {
+        return new AsyncDomainEventBus.Envelope(anEvent, Instant.now());
+    }
+
+    private double counter(final String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static final class RecordingSubscriber implements DomainEventSubscriber {
+
+        private final String name;
+        private final CountDownLatch release;
+        private final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        private RecordingSubscriber(final String name, final CountDownLatch release) {
+            this.name = name;
+            this.release = release;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void handle(final List<DomainEvent> batch) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            threads.add(Thread.currentThread().getName());
+            received.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.starter.crudexample.infrastructure.item;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+import com.starter.crudexample.domain.item.ItemID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CachedItemGatewayTest {
+
+    private ItemGateway itemGateway;
+    private SimpleMeterRegistry meterRegistry;
+    private CachedItemGateway cachedGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.itemGateway = mock(ItemGateway.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.cachedGateway = new CachedItemGateway(itemGateway, itemGateway::findById, 100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    public void givenACachedItem_whenCallsFindByIdAgain_shouldNotHitTheGateway() {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        when(itemGateway.findById(aItem.getId())).thenReturn(Optional.of(aItem));
+
+        // when
+        final var first = cachedGateway.findById(aItem.getId()).orElseThrow();
+        final var second = cachedGateway.findById(aItem.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(aItem.getName(), first.getName());
+        Assertions.assertEquals(aItem.getName(), second.getName());
+        Assertions.assertNotSame(first, second);
+        verify(itemGateway, times(1)).findById(aItem.getId());
+
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    public void givenConcurrentMisses_whenCallsFindById_shouldLoadOnlyOnce() throws Exception {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        final var release = new CountDownLatch(1);
+
+        when(itemGateway.findById(aItem.getId())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(aItem);
+        });
+
+        // when
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var futures = IntStream.range(0, 20)
+                    .mapToObj(i -> executor.submit(() -> cachedGateway.findById(aItem.getId())))
+                    .toList();
+
+            release.countDown();
+
+            for (final var future : futures) {
+                Assertions.assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+            }
+        }
+
+        // then
+        verify(itemGateway, times(1)).findById(aItem.getId());
+    }
+
+    @Test
+    public void givenAMissingItem_whenCallsFindById_shouldNotCacheTheAbsence() {
+        // given
+        final var anId = ItemID.unique();
+        when(itemGateway.findById(anId)).thenReturn(Optional.empty());
+
+        // when
+        cachedGateway.findById(anId);
+        final var actualResult = cachedGateway.findById(anId);
+
+        // then
+        Assertions.assertTrue(actualResult.isEmpty());
+        verify(itemGateway, times(2)).findById(anId);
+    }
+
+    @Test
+    public void givenACachedItem_whenCallsUpdate_shouldInvalidateIt() {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        final var updated = Item.with(aItem).update("Laptop", "A laptop", 20.0);
+
+        when(itemGateway.findById(aItem.getId())).thenReturn(Optional.of(aItem), Optional.of(updated));
+        when(itemGateway.update(any())).thenReturn(updated);
+
+        cachedGateway.findById(aItem.getId());
+
+        // when
+        cachedGateway.update(updated);
+        final var actualItem = cachedGateway.findById(aItem.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals("Laptop", actualItem.getName());
+        verify(itemGateway, times(2)).findById(aItem.getId());
+    }
+
+    @Test
+    public void givenACachedItem_whenCallsDeleteById_shouldInvalidateIt() {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        when(itemGateway.findById(aItem.getId())).thenReturn(Optional.of(aItem), Optional.empty());
+
+        cachedGateway.findById(aItem.getId());
+
+        // when
+        cachedGateway.deleteById(aItem.getId());
+
+        // then
+        Assertions.assertTrue(cachedGateway.findById(aItem.getId()).isEmpty());
+        verify(itemGateway).deleteById(aItem.getId());
+    }
+
+    @Test
+    public void givenALaggingReplica_whenCallsFindById_shouldCacheTheCopyLoadedFromThePrimary() {
+        // given
+        final var stale = Item.newItem("Notebook", "A notebook", 10.0);
+        final var fresh = Item.with(stale).update("Laptop", "A laptop", 20.0);
+
+        final var replica = mock(ItemGateway.class);
+        final var primary = mock(ItemGateway.class);
+        when(replica.findById(stale.getId())).thenReturn(Optional.of(stale));
+        when(primary.findById(stale.getId())).thenReturn(Optional.of(fresh));
+
+        final var gateway = new CachedItemGateway(replica, primary::findById, 100, Duration.ofMinutes(5), meterRegistry);
+
+        // when
+        final var first = gateway.findById(stale.getId()).orElseThrow();
+        final var second = gateway.findById(stale.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals("Laptop", first.getName());
+        Assertions.assertEquals("Laptop", second.getName());
+        verify(primary, times(1)).findById(stale.getId());
+        verify(replica, never()).findById(any());
+    }
+}
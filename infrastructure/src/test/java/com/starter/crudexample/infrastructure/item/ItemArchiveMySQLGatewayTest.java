@@ -0,0 +1,160 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.CountMode;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.infrastructure.cache.CacheInvalidationMySQLGateway;
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+import com.starter.crudexample.infrastructure.cache.persistence.CacheInvalidationRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemArchiveRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MySQLGatewayTest
+public class ItemArchiveMySQLGatewayTest {
+
+    @Autowired
+    private ItemArchiveMySQLGateway archiveGateway;
+
+    @Autowired
+    private ItemMySQLGateway itemGateway;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemListingRepository itemListingRepository;
+
+    @Autowired
+    private ItemArchiveRepository itemArchiveRepository;
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Test
+    public void givenColdItems_whenCallsArchive_shouldMoveTheOldestOutOfTheHotTables() {
+        // given
+        final var aColdItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        final var aHotItem = itemGateway.create(Item.newItem("Tablet", "A tablet", 20.0));
+
+        // when
+        final var actualNotCold = archiveGateway.archive(InstantUtils.now().minus(Duration.ofHours(1)), 10);
+        final var actualMoved = archiveGateway.archive(InstantUtils.now().plusSeconds(60), 1);
+
+        // then
+        Assertions.assertEquals(0, actualNotCold);
+        Assertions.assertEquals(1, actualMoved);
+        Assertions.assertEquals(List.of(aHotItem.getId().getValue()),
+                itemRepository.findAll().stream().map(ItemJpaEntity::getId).toList());
+        Assertions.assertEquals(List.of(aHotItem.getId().getValue()),
+                itemListingRepository.findAll().stream().map(ItemListingJpaEntity::getId).toList());
+        Assertions.assertEquals(1, itemArchiveRepository.count());
+        Assertions.assertEquals(List.of(aColdItem.getId().getValue()),
+                cacheInvalidationRepository.findAll().stream()
+                        .filter(row -> CacheInvalidationMySQLGateway.ITEMS.equals(row.getCacheName()))
+                        .map(CacheInvalidationJpaEntity::getEntryId)
+                        .toList());
+    }
+
+    @Test
+    public void givenAnArchivedItem_whenCallsFindById_shouldRehydrateIt() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        archiveGateway.archive(InstantUtils.now().plusSeconds(60), 10);
+
+        // when
+        final var actualItem = archiveGateway.findById(aItem.getId()).orElseThrow();
+
+        // then
+        Assertions.assertTrue(itemGateway.findById(aItem.getId()).isEmpty());
+        Assertions.assertEquals(aItem.getName(), actualItem.getName());
+        Assertions.assertEquals(aItem.getDescription(), actualItem.getDescription());
+        Assertions.assertEquals(aItem.getPrice(), actualItem.getPrice());
+        Assertions.assertEquals(aItem.getVersion(), actualItem.getVersion());
+        Assertions.assertEquals(aItem.getVersion(), archiveGateway.findVersion(aItem.getId()).orElseThrow());
+    }
+
+    @Test
+    public void givenArchivedItems_whenCallsFindAllWithTerms_shouldReturnTheMatchingPage() {
+        // given
+        itemGateway.create(Item.newItem("Notebook Dell", "Description", 10.0));
+        itemGateway.create(Item.newItem("Notebook Lenovo", "Description", 20.0));
+        itemGateway.create(Item.newItem("Tablet", "Description", 30.0));
+        archiveGateway.archive(InstantUtils.now().plusSeconds(60), 10);
+
+        final var aQuery = new SearchQuery(0, 1, "notebook", "price", "desc", null, CountMode.EXACT);
+
+        // when
+        final var actualPage = archiveGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertTrue(actualPage.hasNext());
+        Assertions.assertEquals(List.of("Notebook Lenovo"), actualPage.items().stream().map(ItemPreview::name).toList());
+    }
+
+    @Test
+    public void givenArchivedItems_whenCallsFindAllByName_shouldSortByTheNameKey() {
+        // given
+        itemGateway.create(Item.newItem("  zebra", "Description", 10.0));
+        itemGateway.create(Item.newItem("Apple", "Description", 20.0));
+        itemGateway.create(Item.newItem("a pple", "Description", 30.0));
+        archiveGateway.archive(InstantUtils.now().plusSeconds(60), 10);
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc", null, CountMode.NONE);
+
+        // when
+        final var actualPage = archiveGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(List.of("a pple", "Apple", "  zebra"), actualPage.items().stream().map(ItemPreview::name).toList());
+    }
+
+    @Test
+    public void givenAnArchivedItem_whenCallsDeleteById_shouldRemoveItFromTheArchive() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        archiveGateway.archive(InstantUtils.now().plusSeconds(60), 10);
+        Assertions.assertEquals(1, itemArchiveRepository.count());
+
+        // when
+        archiveGateway.deleteById(aItem.getId());
+
+        // then
+        Assertions.assertEquals(0, itemArchiveRepository.count());
+        Assertions.assertTrue(archiveGateway.findById(aItem.getId()).isEmpty());
+        Assertions.assertDoesNotThrow(() -> archiveGateway.deleteById(aItem.getId()));
+    }
+
+    @Test
+    public void givenAColdItem_whenCallsArchiveOnce_shouldCountTheMovedItems() {
+        // given
+        itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var archiver = new ItemArchiver(
+                archiveGateway, meterRegistry, 10, Duration.ofMillis(10), Duration.ofSeconds(1), Duration.ofSeconds(-60));
+
+        // when
+        final var actualMoved = archiver.archiveOnce();
+
+        // then
+        Assertions.assertEquals(1, actualMoved);
+        Assertions.assertEquals(1.0, meterRegistry.get("archive.moved").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("archive.chunk").timer().count());
+        Assertions.assertEquals(0, itemRepository.count());
+    }
+}
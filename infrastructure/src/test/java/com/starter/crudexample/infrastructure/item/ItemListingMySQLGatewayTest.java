@@ -0,0 +1,116 @@
+package com.starter.crudexample.infrastructure.item;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.SearchQuery;
+import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingJpaEntity;
+import com.starter.crudexample.infrastructure.item.persistence.ItemListingRepository;
+import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+
+import jakarta.persistence.EntityManager;
+
+@MySQLGatewayTest
+public class ItemListingMySQLGatewayTest {
+
+    @Autowired
+    private ItemListingMySQLGateway itemListingGateway;
+
+    @Autowired
+    private ItemMySQLGateway itemGateway;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemListingRepository itemListingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenItemEvents_whenCallsFindAll_shouldServeTheProjection() {
+        // given
+        final var notebook = itemGateway.create(Item.newItem("notebook Dell", "A notebook", 10.0));
+        final var mouse = Item.newItem("Mouse Logitech", "A mouse", 5.0);
+        itemGateway.create(mouse);
+        final var tablet = Item.newItem("Tablet", "A tablet", 20.0);
+        itemGateway.create(tablet);
+
+        itemGateway.update(Item.with(itemGateway.findById(tablet.getId()).orElseThrow())
+                .update("Tablet Samsung", "A tablet", 25.0));
+        itemGateway.deleteById(mouse.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final var actualPage = itemListingGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+        final var actualSearch = itemListingGateway.findAll(new SearchQuery(0, 10, "dell", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(
+                List.of("notebook Dell", "Tablet Samsung"),
+                actualPage.items().stream().map(ItemPreview::name).toList());
+        Assertions.assertEquals(25.0, actualPage.items().get(1).price());
+
+        Assertions.assertEquals(1, actualSearch.total());
+        Assertions.assertEquals(notebook.getId().getValue(), actualSearch.items().get(0).id());
+
+        final var actualEntity = itemListingRepository.findById(notebook.getId().getValue()).orElseThrow();
+        Assertions.assertEquals("NOTEBOOK DELL", actualEntity.getNameKey());
+        Assertions.assertEquals("NOTEBOOK DELL", actualEntity.getSearchTokens());
+    }
+
+    @Test
+    public void givenAnInvalidSort_whenCallsFindAll_shouldNotAcceptTheSortKey() {
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> itemListingGateway.findAll(new SearchQuery(0, 10, "", "nameKey", "asc")));
+    }
+
+    // Cada partição confirma os próprios lotes: os dados precisam estar gravados antes
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenItemsWithoutProjection_whenCallsRebuild_shouldReplayEveryPartition() {
+        // given
+        final var items = IntStream.rangeClosed(1, 9)
+                .mapToObj(i -> ItemJpaEntity.newEntity(Item.newItem("Item  %d  item".formatted(i), "Description", 1.0 * i)))
+                .toList();
+        itemRepository.saveAllAndFlush(items);
+
+        final var orphan = Item.newItem("Orphan", "Removed from items", 1.0);
+        itemListingRepository.saveAndFlush(ItemListingJpaEntity.newEntity(ItemPreview.from(orphan)));
+
+        final var gateway = new ItemListingMySQLGateway(
+                itemListingRepository, entityManager, transactionManager, Duration.ofSeconds(30), false, 2);
+
+        // when
+        final var actualRebuilt = gateway.rebuild(3);
+
+        // then
+        Assertions.assertEquals(9, actualRebuilt);
+        Assertions.assertEquals(9, itemListingRepository.count());
+        Assertions.assertTrue(itemListingRepository.findById(orphan.getId().getValue()).isEmpty());
+
+        final var actualEntity = itemListingRepository.findById(items.get(0).getId()).orElseThrow();
+        Assertions.assertEquals("ITEM  1  ITEM", actualEntity.getNameKey());
+        Assertions.assertEquals("ITEM 1", actualEntity.getSearchTokens());
+    }
+}
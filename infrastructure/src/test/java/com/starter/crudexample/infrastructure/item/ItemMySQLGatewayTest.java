@@ -1,20 +1,35 @@
 package com.starter.crudexample.infrastructure.item;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import com.starter.crudexample.infrastructure.item.persistence.ItemJpaEntity;
 import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
 import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.exceptions.DomainException;
 import com.starter.crudexample.domain.item.Item;
 import com.starter.crudexample.domain.item.ItemID;
+import com.starter.crudexample.domain.item.ItemPreview;
+import com.starter.crudexample.domain.pagination.CountMode;
+import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @MySQLGatewayTest
 public class ItemMySQLGatewayTest {
     @Autowired
@@ -23,6 +38,12 @@ public class ItemMySQLGatewayTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @TempDir
+    private Path directory;
+
     @Test
     public void testDependencies() {
         Assertions.assertNotNull(itemGateway);
@@ -64,6 +85,47 @@ public class ItemMySQLGatewayTest {
         Assertions.assertNotNull(actualEntity.getUpdatedAt());
     }
 
+    @Test
+    public void givenAValidItem_whenCallsCreate_shouldEmitOnlyInserts() {
+        // given
+        final var aItem = Item.newItem("Item 1", "Item 1 description", 10.0);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        itemGateway.create(aItem);
+        itemRepository.flush();
+
+        // then - um INSERT em items, um em item_listings e um em outbox_events, nenhum SELECT
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(3, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenManyItems_whenCallsCreateAll_shouldPersistAll() {
+        // given
+        final var someItems = IntStream.range(0, 1_050)
+                .mapToObj(i -> Item.newItem("Item " + i, "Item description " + i, (double) i))
+                .toList();
+
+        Assertions.assertEquals(0, itemRepository.count());
+
+        // when
+        final var actualItems = itemGateway.createAll(someItems);
+
+        // then
+        Assertions.assertEquals(someItems.size(), actualItems.size());
+        Assertions.assertEquals(someItems.size(), itemRepository.count());
+
+        final var actualEntity = itemRepository.findById(someItems.get(1_049).getId().getValue()).get();
+        Assertions.assertEquals("Item 1049", actualEntity.getName());
+    }
+
     @Test
     public void givenAValidItem_whenCallsUpdate_shouldRefreshIt() {
         // given
@@ -115,7 +177,7 @@ public class ItemMySQLGatewayTest {
 
         // when
         final var actualItem = itemGateway.existsByIds(
-                List.of(expectedId, ItemID.from("123")));
+                List.of(expectedId, ItemID.unique()));
 
         // then
         Assertions.assertEquals(1, actualItem.size());
@@ -123,6 +185,45 @@ public class ItemMySQLGatewayTest {
         Assertions.assertEquals(expectedId.getValue(), actualItem.get(0).getValue());
     }
 
+    @Test
+    public void givenADeletedItem_whenCallsExistsByIds_shouldStillReturnItsID() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Item 1", "Item 1 description", 10.0));
+        itemGateway.deleteById(aItem.getId());
+
+        Assertions.assertTrue(itemGateway.findById(aItem.getId()).isEmpty());
+
+        // when
+        final var actualIds = itemGateway.existsByIds(List.of(aItem.getId(), ItemID.unique()));
+
+        // then
+        Assertions.assertEquals(List.of(aItem.getId()), actualIds);
+    }
+
+    @Test
+    public void givenAJournaledItemDeletedBeforeACrash_whenReplaying_shouldNotRecreateIt() throws Exception {
+        // given
+        final var deleted = itemGateway.create(Item.newItem("Item 1", "Item 1 description", 10.0));
+        itemGateway.deleteById(deleted.getId());
+        final var missing = Item.newItem("Item 2", "Item 2 description", 20.0);
+
+        final var journal = directory.resolve("items.journal");
+        try (final var crashed = ItemJournal.open(journal)) {
+            crashed.append(deleted);
+            crashed.append(missing);
+        }
+
+        // when
+        final var restarted = new WriteBehindItemGateway(itemGateway, journal, 10, 10, Duration.ofMillis(50), Duration.ofMillis(1));
+        restarted.start();
+        restarted.close();
+
+        // then
+        Assertions.assertTrue(itemGateway.findById(deleted.getId()).isEmpty());
+        Assertions.assertTrue(itemGateway.findById(missing.getId()).isPresent());
+        Assertions.assertEquals(0, Files.size(journal));
+    }
+
     @Test
     public void givenAValidItem_whenCallsDeleteById_shouldDeleteIt() {
         // given
@@ -150,7 +251,7 @@ public class ItemMySQLGatewayTest {
         Assertions.assertEquals(1, itemRepository.count());
 
         // when
-        itemGateway.deleteById(ItemID.from("123"));
+        itemGateway.deleteById(ItemID.unique());
 
         // then
         Assertions.assertEquals(1, itemRepository.count());
@@ -180,6 +281,68 @@ public class ItemMySQLGatewayTest {
         Assertions.assertEquals(aItem.getUpdatedAt(), actualItem.get().getUpdatedAt());
     }
 
+    @Test
+    public void givenAStaleVersion_whenCallsUpdate_shouldFailWithoutOverwriting() {
+        // given
+        final var aItem = Item.newItem("Item 1", "Item 1 description", 10.0);
+        itemRepository.saveAndFlush(ItemJpaEntity.from(aItem));
+
+        final var actualUpdated = itemGateway.update(Item.with(aItem).update("Item 2", "Item 2 description", 20.0));
+
+        Assertions.assertEquals(1L, actualUpdated.getVersion());
+        Assertions.assertEquals(1L, itemRepository.findById(aItem.getId().getValue()).get().getVersion());
+
+        // when
+        final var staleItem = Item.with(aItem).update("Item 3", "Item 3 description", 30.0);
+
+        Assertions.assertThrows(
+                OptimisticLockingFailureException.class, () -> itemGateway.update(staleItem));
+
+        // then
+        Assertions.assertEquals("Item 2", itemRepository.findById(aItem.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenAValidItem_whenCallsFindVersion_shouldReturnOnlyTheVersion() {
+        // given
+        final var aItem = Item.newItem("Item 1", "Item 1 description", 10.0);
+        final var expectedVersion = itemRepository.saveAndFlush(ItemJpaEntity.from(aItem)).getVersion();
+
+        // when
+        final var actualVersion = itemGateway.findVersion(aItem.getId());
+        final var actualMissing = itemGateway.findVersion(ItemID.unique());
+
+        // then
+        Assertions.assertEquals(Optional.of(expectedVersion), actualVersion);
+        Assertions.assertTrue(actualMissing.isEmpty());
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "description", "asc");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class, () -> itemGateway.findAll(aQuery));
+
+        // then
+        Assertions.assertEquals("'sort' must be one of name, price, createdAt", actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnUnknownDirection_whenCallsFindAllPreviews_shouldThrowDomainException() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "price", "sideways");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class, () -> itemGateway.findAllPreviews(aQuery));
+
+        // then
+        Assertions.assertEquals("'dir' must be one of asc or desc", actualException.getMessage());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsFindById_shouldReturnEmpty() {
         // given
@@ -190,7 +353,7 @@ public class ItemMySQLGatewayTest {
         Assertions.assertEquals(1, itemRepository.count());
 
         // when
-        final var actualItem = itemGateway.findById(ItemID.from("123"));
+        final var actualItem = itemGateway.findById(ItemID.unique());
 
         // then
         Assertions.assertTrue(actualItem.isEmpty());
@@ -258,6 +421,49 @@ public class ItemMySQLGatewayTest {
         Assertions.assertEquals(expectedName, actualResult.items().get(0).getName());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "item test,1,Item test5",
+            "TEST item,1,Item test5",
+            "e a,3,Celular",
+            "note tab,0,",
+    })
+    public void givenMultipleTokens_whenCallsFindAll_shouldMatchAllOfThem(
+            final String expectedTerms,
+            final long expectedTotal,
+            final String expectedName) {
+        // given
+        this.mockItems();
+
+        final var aQuery = new SearchQuery(0, 10, expectedTerms, "name", "asc");
+
+        // when
+        final var actualResult = itemGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        if (expectedName != null) {
+            Assertions.assertEquals(expectedName, actualResult.items().get(0).getName());
+        }
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutFullText_whenCallsFindAll_shouldFallbackToName() {
+        // given
+        this.mockItems();
+
+        final var aQuery = new SearchQuery(0, 2, "e", "relevance", "desc");
+
+        // when
+        final var actualResult = itemGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(5, actualResult.total());
+        Assertions.assertEquals("Celular", actualResult.items().get(0).getName());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "name,asc,0,10,5,5,Celular",
@@ -295,6 +501,212 @@ public class ItemMySQLGatewayTest {
         Assertions.assertEquals(expectedName, actualResult.items().get(0).getName());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Celular;Impressora|Item test5;Notebook|Tablet",
+            "name,desc,Tablet;Notebook|Item test5;Impressora|Celular",
+            "price,asc,Notebook;Celular|Tablet;Impressora|Item test5",
+            "createdAt,desc,Item test5;Impressora|Tablet;Celular|Notebook",
+    })
+    public void givenACursor_whenCallsFindAll_shouldSeekNextPages(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedPages
+    ) {
+        // given
+        this.mockItems();
+
+        final var expectedPerPage = 2;
+        final var actualPages = new ArrayList<String>();
+
+        // when
+        String after = null;
+        do {
+            final var actualResult = itemGateway.findAll(
+                    new SearchQuery(0, expectedPerPage, "", expectedSort, expectedDirection, after));
+
+            Assertions.assertEquals(5, actualResult.total());
+            actualPages.add(String.join(";", actualResult.items().stream().map(Item::getName).toList()));
+            after = actualResult.nextCursor();
+        } while (after != null);
+
+        // then
+        Assertions.assertEquals(expectedPages, String.join("|", actualPages));
+    }
+
+    @Test
+    public void givenACursorAndTerms_whenCallsFindAll_shouldSeekOnlyFiltered() {
+        // given
+        this.mockItems();
+
+        final var firstPage = itemGateway.findAll(new SearchQuery(0, 1, "t", "name", "asc"));
+
+        // when
+        final var actualResult = itemGateway.findAll(
+                new SearchQuery(0, 1, "t", "name", "asc", firstPage.nextCursor()));
+
+        // then
+        Assertions.assertEquals("Item test5", firstPage.items().get(0).getName());
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals("Notebook", actualResult.items().get(0).getName());
+        Assertions.assertNotNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        this.mockItems();
+
+        final var firstPage = itemGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+        final var aQuery = new SearchQuery(0, 1, "", "price", "asc", firstPage.nextCursor());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class, () -> itemGateway.findAll(aQuery));
+
+        // then
+        Assertions.assertEquals("'after' was issued for a different sort", actualException.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0,2,true,Celular",
+            "1,2,true,Item test5",
+            "2,2,false,Tablet",
+    })
+    public void givenCountModeNone_whenCallsFindAll_shouldSkipTotalAndReturnHasNext(
+            final int expectedPage,
+            final int expectedPerPage,
+            final boolean expectedHasNext,
+            final String expectedName
+    ) {
+        // given
+        this.mockItems();
+
+        final var aQuery = new SearchQuery(
+                expectedPage, expectedPerPage, "", "name", "asc", null, CountMode.NONE);
+
+        // when
+        final var actualResult = itemGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedPage, actualResult.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedHasNext, actualResult.hasNext());
+        Assertions.assertEquals(expectedName, actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenCountModeEstimated_whenCallsFindAllTwice_shouldServeCachedTotal() {
+        // given
+        this.mockItems();
+
+        final var aQuery = new SearchQuery(0, 2, "", "name", "asc", null, CountMode.ESTIMATED);
+        final var firstResult = itemGateway.findAll(aQuery);
+
+        itemRepository.saveAndFlush(ItemJpaEntity.from(Item.newItem("Monitor", "Item 6 description", 60.0)));
+
+        // when
+        final var actualResult = itemGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(5, firstResult.total());
+        Assertions.assertEquals(5, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+    }
+
+    @Test
+    public void givenPersistedItems_whenCallsFindAllPreviews_shouldReturnProjectedPage() {
+        // given
+        this.mockItems();
+
+        final var expected = itemRepository.findAll().stream()
+                .filter(item -> item.getName().equals("Celular"))
+                .findFirst()
+                .orElseThrow();
+
+        // when
+        final var actualResult = itemGateway.findAllPreviews(new SearchQuery(0, 2, "", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(5, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+
+        final var actualPreview = actualResult.items().get(0);
+        Assertions.assertEquals(expected.getId(), actualPreview.id());
+        Assertions.assertEquals("Celular", actualPreview.name());
+        Assertions.assertEquals("Item 2 description", actualPreview.description());
+        Assertions.assertEquals(20.0, actualPreview.price());
+        Assertions.assertNotNull(actualPreview.createdAt());
+        Assertions.assertEquals("Impressora", actualResult.items().get(1).name());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Celular;Impressora|Item test5;Notebook|Tablet",
+            "price,desc,Item test5;Impressora|Tablet;Celular|Notebook",
+    })
+    public void givenACursor_whenCallsFindAllPreviews_shouldSeekNextPages(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedPages
+    ) {
+        // given
+        this.mockItems();
+
+        final var actualPages = new ArrayList<String>();
+
+        // when
+        String after = null;
+        do {
+            final var actualResult = itemGateway.findAllPreviews(
+                    new SearchQuery(0, 2, "", expectedSort, expectedDirection, after));
+
+            Assertions.assertEquals(5, actualResult.total());
+            actualPages.add(String.join(";", actualResult.items().stream().map(ItemPreview::name).toList()));
+            after = actualResult.nextCursor();
+        } while (after != null);
+
+        // then
+        Assertions.assertEquals(expectedPages, String.join("|", actualPages));
+    }
+
+    @Test
+    public void givenPersistedItems_whenCallsExportAll_shouldStreamEveryRowInIdOrder() {
+        // given
+        this.mockItems();
+
+        final var actualPreviews = new ArrayList<ItemPreview>();
+
+        // when
+        itemGateway.exportAll("", actualPreviews::add);
+
+        // then
+        Assertions.assertEquals(
+                List.of("Notebook", "Celular", "Tablet", "Impressora", "Item test5"),
+                actualPreviews.stream().map(ItemPreview::name).toList());
+        Assertions.assertEquals(20.0, actualPreviews.get(1).price());
+        Assertions.assertNotNull(actualPreviews.get(1).createdAt());
+    }
+
+    @Test
+    public void givenATerm_whenCallsExportAll_shouldStreamOnlyMatchingRows() {
+        // given
+        this.mockItems();
+
+        final var actualPreviews = new ArrayList<ItemPreview>();
+
+        // when
+        itemGateway.exportAll("note", actualPreviews::add);
+
+        // then
+        Assertions.assertEquals(1, actualPreviews.size());
+        Assertions.assertEquals("Notebook", actualPreviews.get(0).name());
+    }
+
     private void mockItems() {
         // Salvando individualmente para garantir diferenças (sequenciais) em createdAt
         // e preservar a ordenação determinística nos testes de sort por createdAt.
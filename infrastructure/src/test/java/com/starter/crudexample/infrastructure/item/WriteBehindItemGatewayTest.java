@@ -0,0 +1,251 @@
+package com.starter.crudexample.infrastructure.item;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemGateway;
+
+public class WriteBehindItemGatewayTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path journal;
+    private ItemGateway itemGateway;
+    private List<String> written;
+
+    @BeforeEach
+    void setUp() {
+        this.journal = directory.resolve("items.journal");
+        this.itemGateway = mock(ItemGateway.class);
+        this.written = new CopyOnWriteArrayList<>();
+
+        when(itemGateway.existsByIds(any())).thenReturn(List.of());
+        when(itemGateway.createAll(anyList())).thenAnswer(invocation -> {
+            final List<Item> batch = invocation.getArgument(0);
+            batch.forEach(anItem -> written.add(anItem.getName()));
+            return List.copyOf(batch);
+        });
+    }
+
+    @Test
+    public void givenAcceptedItems_whenCallsClose_shouldWriteThemInBatchesAndClearTheJournal() throws Exception {
+        // given
+        final var gateway = started(itemGateway, 100, 10, Duration.ofMillis(50));
+
+        // when
+        final var aItem = gateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        gateway.create(Item.newItem("Tablet", "A tablet", 20.0));
+        gateway.close();
+
+        // then
+        Assertions.assertEquals("Notebook", aItem.getName());
+        Assertions.assertEquals(List.of("Notebook", "Tablet"), written);
+        Assertions.assertEquals(0, Files.size(journal));
+        verify(itemGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenAnAcceptedItem_whenTheWriterRuns_shouldCommitWithoutWaitingForClose() throws Exception {
+        // given
+        final var gateway = started(itemGateway, 100, 10, Duration.ofMillis(50));
+
+        // when
+        gateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+
+        // then
+        verify(itemGateway, timeout(2_000)).createAll(anyList());
+        gateway.close();
+        Assertions.assertEquals(List.of("Notebook"), written);
+    }
+
+    @Test
+    public void givenAJournalLeftByACrash_whenStarting_shouldReplayOnlyMissingItems() throws Exception {
+        // given
+        final var notebook = Item.newItem("Notebook", "A notebook", 10.0);
+        final var tablet = Item.newItem("Tablet", "A tablet", 20.0);
+
+        try (final var crashed = ItemJournal.open(journal)) {
+            crashed.append(notebook);
+            crashed.append(tablet);
+        }
+
+        Assertions.assertTrue(Files.size(journal) > 0);
+
+        // Tablet chegou ao banco antes da queda
+        when(itemGateway.existsByIds(any())).thenReturn(List.of(tablet.getId()));
+
+        // when
+        final var restarted = started(itemGateway, 100, 10, Duration.ofMillis(50));
+        restarted.close();
+
+        // then
+        Assertions.assertEquals(List.of("Notebook"), written);
+        Assertions.assertEquals(0, Files.size(journal));
+        Assertions.assertNotNull(notebook.getId());
+    }
+
+    @Test
+    public void givenALongJournal_whenStarting_shouldReplayItInBatches() throws Exception {
+        // given
+        try (final var crashed = ItemJournal.open(journal)) {
+            for (int i = 1; i <= 5; i++) {
+                crashed.append(Item.newItem("Item " + i, "Description", 10.0 * i));
+            }
+        }
+
+        // when
+        final var restarted = started(itemGateway, 100, 2, Duration.ofMillis(50));
+        restarted.close();
+
+        // then
+        verify(itemGateway, times(3)).existsByIds(any());
+        Assertions.assertEquals(List.of("Item 1", "Item 2", "Item 3", "Item 4", "Item 5"), written);
+        Assertions.assertEquals(0, Files.size(journal));
+    }
+
+    @Test
+    public void givenItemsAlwaysPending_whenCommittingInAnyOrder_shouldCompactTheCommittedPrefix() throws Exception {
+        // given
+        final var notebook = Item.newItem("Notebook", "Description", 10.0);
+        final var tablet = Item.newItem("Tablet", "Description", 20.0);
+        final var phone = Item.newItem("Celular", "Description", 30.0);
+        final var watch = Item.newItem("Relogio", "Description", 40.0);
+
+        try (final var aJournal = ItemJournal.open(journal, 1)) {
+            aJournal.append(notebook);
+            aJournal.append(tablet);
+            aJournal.append(phone);
+            final var full = aJournal.size();
+
+            // when
+            aJournal.committed(List.of(notebook));
+            final var afterFirst = aJournal.size();
+
+            aJournal.append(watch);
+            aJournal.committed(List.of(phone));
+            aJournal.committed(List.of(tablet));
+
+            // then
+            Assertions.assertTrue(afterFirst < full);
+            Assertions.assertEquals(List.of("Relogio"), journaled(aJournal));
+            Assertions.assertEquals(aJournal.size(), Files.size(journal));
+        }
+    }
+
+    @Test
+    public void givenAFullQueue_whenCallsCreate_shouldWriteSynchronously() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        when(itemGateway.createAll(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return List.copyOf(invocation.<List<Item>>getArgument(0));
+        });
+        when(itemGateway.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var gateway = started(itemGateway, 1, 1, Duration.ofMillis(10));
+
+        // o writer segura o primeiro item; o segundo ocupa a única vaga da fila
+        gateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        verify(itemGateway, timeout(2_000)).createAll(anyList());
+        gateway.create(Item.newItem("Tablet", "A tablet", 20.0));
+
+        // when
+        final var actualItem = gateway.create(Item.newItem("Celular", "A phone", 30.0));
+
+        // then
+        verify(itemGateway).create(actualItem);
+
+        release.countDown();
+        gateway.close();
+    }
+
+    @Test
+    public void givenABatchThatKeepsFailing_whenRetriesRunOut_shouldDeadLetterItAndClearTheJournal() throws Exception {
+        // given
+        final var failing = mock(ItemGateway.class);
+        when(failing.existsByIds(any())).thenReturn(List.of());
+        when(failing.createAll(anyList())).thenThrow(new IllegalStateException("database is down"));
+
+        final var gateway = started(failing, 100, 10, Duration.ofMillis(50));
+
+        // when
+        gateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        gateway.close();
+
+        // then
+        verify(failing, times(5)).createAll(anyList());
+        Assertions.assertEquals(0, Files.size(journal));
+
+        final var deadLetters = Files.readAllLines(directory.resolve("items.journal.dead"));
+        Assertions.assertEquals(1, deadLetters.size());
+        Assertions.assertTrue(deadLetters.get(0).contains("Notebook"));
+    }
+
+    @Test
+    public void givenAFullQueueAndAFailingWrite_whenCallsCreate_shouldThrowWithoutJournalingTheItem() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        when(itemGateway.createAll(anyList())).thenAnswer(invocation -> {
+            release.await();
+            final List<Item> batch = invocation.getArgument(0);
+            batch.forEach(anItem -> written.add(anItem.getName()));
+            return List.copyOf(batch);
+        });
+        when(itemGateway.create(any())).thenThrow(new IllegalStateException("database is down"));
+
+        final var gateway = started(itemGateway, 1, 1, Duration.ofMillis(10));
+
+        gateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        verify(itemGateway, timeout(2_000)).createAll(anyList());
+        gateway.create(Item.newItem("Tablet", "A tablet", 20.0));
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> gateway.create(Item.newItem("Celular", "A phone", 30.0)));
+
+        // then
+        release.countDown();
+        gateway.close();
+
+        // Celular não ficou no journal para ser reaplicado depois de a requisição ter falhado
+        Assertions.assertEquals(List.of("Notebook", "Tablet"), written);
+        Assertions.assertEquals(0, Files.size(journal));
+    }
+
+    private static List<String> journaled(final ItemJournal aJournal) {
+        final var names = new ArrayList<String>();
+        aJournal.replay(10, batch -> batch.forEach(anItem -> names.add(anItem.getName())));
+        return names;
+    }
+
+    private WriteBehindItemGateway started(
+            final ItemGateway aGateway,
+            final int capacity,
+            final int batchSize,
+            final Duration offerTimeout) {
+        final var gateway = new WriteBehindItemGateway(aGateway, journal, capacity, batchSize, offerTimeout, Duration.ofMillis(1));
+        gateway.start();
+        return gateway;
+    }
+}
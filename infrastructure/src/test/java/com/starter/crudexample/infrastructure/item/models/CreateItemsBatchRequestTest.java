@@ -0,0 +1,37 @@
+package com.starter.crudexample.infrastructure.item.models;
+
+import com.starter.crudexample.JacksonTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+@JacksonTest
+public class CreateItemsBatchRequestTest {
+        @Autowired
+        private JacksonTester<CreateItemsBatchRequest> json;
+
+        @Test
+        public void testUnmarshall() throws Exception {
+                final var json = """
+                                {
+                                  "items": [
+                                    { "name": "Notebook", "description": "Item 1 description", "price": 10.5 },
+                                    { "name": "Celular", "description": "Item 2 description", "price": 20.0 }
+                                  ]
+                                }
+                                """;
+
+                final var actualJson = this.json.parse(json).getObject();
+
+                Assertions.assertThat(actualJson.items()).hasSize(2);
+                Assertions.assertThat(actualJson.items().get(0))
+                                .hasFieldOrPropertyWithValue("name", "Notebook")
+                                .hasFieldOrPropertyWithValue("description", "Item 1 description")
+                                .hasFieldOrPropertyWithValue("price", 10.5);
+                Assertions.assertThat(actualJson.items().get(1))
+                                .hasFieldOrPropertyWithValue("name", "Celular")
+                                .hasFieldOrPropertyWithValue("price", 20.0);
+        }
+}
@@ -22,8 +22,9 @@ public class ItemResponseTest {
         final var expectedPrice = 99.99;
         final var expectedCreatedAt = Instant.now().toString();
         final var expectedUpdatedAt = Instant.now().toString();
+        final var expectedVersion = 3L;
 
-        final var itemResponse = new ItemResponse(expectedId, expectedName, expectedDescription, expectedPrice, expectedCreatedAt, expectedUpdatedAt);
+        final var itemResponse = new ItemResponse(expectedId, expectedName, expectedDescription, expectedPrice, expectedCreatedAt, expectedUpdatedAt, expectedVersion);
 
         final var actualJson = this.json.write(itemResponse);
 
@@ -33,6 +34,7 @@ public class ItemResponseTest {
                 .hasJsonPathValue("$.description", expectedDescription)
                 .hasJsonPathValue("$.price", expectedPrice)
                 .hasJsonPathValue("$.created_at", expectedCreatedAt)
-                .hasJsonPathValue("$.updated_at", expectedUpdatedAt);
+                .hasJsonPathValue("$.updated_at", expectedUpdatedAt)
+                .hasJsonPathValue("$.version", expectedVersion);
     }
 }
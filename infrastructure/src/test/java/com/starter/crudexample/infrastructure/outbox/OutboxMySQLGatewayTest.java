@@ -0,0 +1,118 @@
+package com.starter.crudexample.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.item.ItemCreated;
+import com.starter.crudexample.domain.user.Role;
+import com.starter.crudexample.domain.user.User;
+import com.starter.crudexample.infrastructure.item.ItemMySQLGateway;
+import com.starter.crudexample.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.starter.crudexample.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.starter.crudexample.infrastructure.user.UserMySQLGateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MySQLGatewayTest
+public class OutboxMySQLGatewayTest {
+
+    @Autowired
+    private OutboxMySQLGateway outboxGateway;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ItemMySQLGateway itemGateway;
+
+    @Autowired
+    private UserMySQLGateway userGateway;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenAnItemAndAUser_whenGatewaysSave_shouldWriteTheirEventsToTheOutbox() {
+        // given
+        final var aItem = Item.newItem("Notebook", "A notebook", 10.0);
+        final var aUser = User.newUser("johndoe", "john.doe@example.com", "secret-hash", List.of(Role.USER), true);
+
+        // when
+        itemGateway.create(aItem);
+        userGateway.create(aUser);
+        itemGateway.deleteById(aItem.getId());
+
+        // then
+        final var actualEvents = outboxEventRepository.findAll().stream()
+                .sorted(Comparator.comparing(OutboxEventJpaEntity::getId))
+                .toList();
+
+        Assertions.assertEquals(
+                List.of("ItemCreated", "UserCreated", "ItemDeleted"),
+                actualEvents.stream().map(OutboxEventJpaEntity::getEventType).toList());
+        Assertions.assertTrue(actualEvents.get(0).getPayload().contains("\"id\":\"%s\"".formatted(aItem.getId().getValue())));
+        Assertions.assertTrue(actualEvents.get(0).getPayload().contains("\"created_at\""));
+        Assertions.assertFalse(actualEvents.get(1).getPayload().contains("secret-hash"));
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsRelayOnce_shouldDeliverThemInBatchesAndRemoveThem() {
+        // given
+        final var expectedItems = List.of(
+                Item.newItem("Item 1", "Description", 1.0),
+                Item.newItem("Item 2", "Description", 2.0),
+                Item.newItem("Item 3", "Description", 3.0));
+        expectedItems.forEach(itemGateway::create);
+
+        final var actualBatches = new ArrayList<List<OutboxMessage>>();
+        final OutboxSink aSink = actualBatches::add;
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var relay = new OutboxRelay(
+                outboxGateway, List.of(aSink), transactionManager, meterRegistry, 2, Duration.ofSeconds(1));
+
+        // when
+        final var actualRelayed = List.of(relay.relayOnce(), relay.relayOnce(), relay.relayOnce());
+
+        // then
+        Assertions.assertEquals(List.of(2, 1, 0), actualRelayed);
+        Assertions.assertEquals(0, outboxEventRepository.count());
+
+        // Entregues na ordem de gravação (ids UUIDv7)
+        final var actualMessages = actualBatches.stream().flatMap(List::stream).toList();
+        Assertions.assertEquals(List.of(2, 1), actualBatches.stream().map(List::size).toList());
+        for (int i = 0; i < expectedItems.size(); i++) {
+            Assertions.assertEquals("ItemCreated", actualMessages.get(i).type());
+            Assertions.assertTrue(actualMessages.get(i).payload()
+                    .contains("\"id\":\"%s\"".formatted(expectedItems.get(i).getId().getValue())));
+        }
+
+        Assertions.assertEquals(3.0, meterRegistry.get("outbox.delivered").counter().count());
+        Assertions.assertEquals(3, meterRegistry.get("outbox.lag").timer().count());
+        Assertions.assertEquals(0.0, meterRegistry.get("outbox.oldest.age").gauge().value());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenNoTransaction_whenAnEventIsPublished_shouldNotWriteItAlone() {
+        // given
+        final var anEvent = ItemCreated.from(Item.newItem("Notebook", "A notebook", 10.0));
+
+        // when
+        Assertions.assertThrows(IllegalTransactionStateException.class, () -> outboxGateway.on(anEvent));
+
+        // then
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+}
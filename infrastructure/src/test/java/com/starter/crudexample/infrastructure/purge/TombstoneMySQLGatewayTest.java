@@ -0,0 +1,122 @@
+package com.starter.crudexample.infrastructure.purge;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.item.Item;
+import com.starter.crudexample.domain.user.Role;
+import com.starter.crudexample.domain.user.User;
+import com.starter.crudexample.domain.utils.InstantUtils;
+import com.starter.crudexample.infrastructure.item.ItemMySQLGateway;
+import com.starter.crudexample.infrastructure.item.persistence.ItemRepository;
+import com.starter.crudexample.infrastructure.user.UserMySQLGateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+@MySQLGatewayTest
+public class TombstoneMySQLGatewayTest {
+
+    @Autowired
+    private TombstoneMySQLGateway tombstoneGateway;
+
+    @Autowired
+    private ItemMySQLGateway itemGateway;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserMySQLGateway userGateway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void givenADeletedItem_whenCallsReadsAndDeleteAgain_shouldHideTheTombstone() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        final var anId = aItem.getId().getValue();
+
+        // when
+        itemGateway.deleteById(aItem.getId());
+
+        // then
+        Assertions.assertTrue(itemGateway.findById(aItem.getId()).isEmpty());
+        Assertions.assertTrue(itemGateway.findVersion(aItem.getId()).isEmpty());
+        Assertions.assertEquals(0, itemRepository.count());
+        Assertions.assertEquals(1, countRows("items"));
+        Assertions.assertEquals(0, itemRepository.softDeleteById(anId, InstantUtils.now()));
+    }
+
+    @Test
+    public void givenTombstones_whenCallsPurge_shouldOnlyDeleteTheExpiredOnes() {
+        // given
+        final var aItem = itemGateway.create(Item.newItem("Notebook", "A notebook", 10.0));
+        final var aLiveItem = itemGateway.create(Item.newItem("Tablet", "A tablet", 20.0));
+        itemGateway.deleteById(aItem.getId());
+
+        // when
+        final var actualNotExpired = tombstoneGateway.purge(TombstoneTable.ITEMS, InstantUtils.now().minus(Duration.ofHours(1)), 10);
+        final var actualExpired = tombstoneGateway.purge(TombstoneTable.ITEMS, InstantUtils.now().plusSeconds(60), 10);
+
+        // then
+        Assertions.assertEquals(0, actualNotExpired);
+        Assertions.assertEquals(1, actualExpired);
+        Assertions.assertEquals(1, countRows("items"));
+        Assertions.assertTrue(itemGateway.findById(aLiveItem.getId()).isPresent());
+    }
+
+    @Test
+    public void givenADeletedUser_whenCallsPurge_shouldDeleteItsRolesAndReleaseTheEmail() {
+        // given
+        final var aUser = userGateway.create(
+                User.newUser("johndoe", "john.doe@example.com", "123456", List.of(Role.USER, Role.ADMIN), true));
+        userGateway.deleteById(aUser.getId());
+
+        // O e-mail continua reservado pela chave única enquanto a lápide existir
+        Assertions.assertTrue(userGateway.findByUsername("johndoe").isEmpty());
+        Assertions.assertTrue(userGateway.existsByEmail("john.doe@example.com"));
+
+        // when
+        final var actualPurged = tombstoneGateway.purge(TombstoneTable.USERS, InstantUtils.now().plusSeconds(60), 10);
+
+        // then
+        Assertions.assertEquals(1, actualPurged);
+        Assertions.assertEquals(0, countRows("users"));
+        Assertions.assertEquals(0, countRows("user_roles"));
+        Assertions.assertFalse(userGateway.existsByEmail("john.doe@example.com"));
+    }
+
+    @Test
+    public void givenManyTombstones_whenCallsPurgeOnce_shouldDeleteOneBatchAtATime() {
+        // given
+        final var items = List.of(
+                Item.newItem("Item 1", "Description", 1.0),
+                Item.newItem("Item 2", "Description", 2.0),
+                Item.newItem("Item 3", "Description", 3.0));
+        items.forEach(itemGateway::create);
+        items.forEach(anItem -> itemGateway.deleteById(anItem.getId()));
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var purger = new TombstonePurger(
+                tombstoneGateway, meterRegistry, 2, Duration.ofMillis(10), Duration.ofSeconds(1), Duration.ZERO);
+
+        // when
+        final var actualPurged = List.of(purger.purgeOnce(), purger.purgeOnce(), purger.purgeOnce());
+
+        // then
+        Assertions.assertEquals(List.of(2, 1, 0), actualPurged);
+        Assertions.assertEquals(0, countRows("items"));
+        Assertions.assertEquals(3.0, meterRegistry.get("purge.deleted").tag("table", "items").counter().count());
+    }
+
+    private long countRows(final String table) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult()).longValue();
+    }
+}
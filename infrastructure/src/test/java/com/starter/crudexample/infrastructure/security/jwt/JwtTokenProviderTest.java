@@ -0,0 +1,62 @@
+package com.starter.crudexample.infrastructure.security.jwt;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.starter.crudexample.domain.user.Role;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "aSecretKeyForTheJwtTokenProviderTestThatIsAtLeast256BitsLong";
+
+    @Test
+    public void givenASignedToken_whenCallsVerify_shouldReturnSubjectRolesAndSharedAuthorities() {
+        // given
+        final var aProvider = new JwtTokenProvider(SECRET, 60_000);
+        final var aToken = aProvider.generateToken(authenticationOf("user-1", "ROLE_ADMIN", "ROLE_USER"));
+        final var otherToken = aProvider.generateToken(authenticationOf("user-2", "ROLE_ADMIN", "ROLE_USER"));
+
+        // when
+        final var actualToken = aProvider.verify(aToken).orElseThrow();
+        final var actualOther = aProvider.verify(otherToken).orElseThrow();
+
+        // then
+        Assertions.assertEquals("user-1", actualToken.userId());
+        Assertions.assertEquals(List.of(Role.ADMIN, Role.USER), actualToken.roles());
+        Assertions.assertEquals(
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")),
+                actualToken.authorities());
+        Assertions.assertEquals("user-2", actualOther.userId());
+        Assertions.assertSame(actualToken.authorities(), actualOther.authorities());
+    }
+
+    @Test
+    public void givenATamperedOrExpiredToken_whenCallsVerify_shouldReturnEmpty() {
+        // given
+        final var aProvider = new JwtTokenProvider(SECRET, 60_000);
+        final var aToken = aProvider.generateToken(authenticationOf("user-1", "ROLE_USER"));
+        final var aTamperedToken = aToken.substring(0, aToken.length() - 2)
+                + (aToken.endsWith("AA") ? "BB" : "AA");
+        final var anExpiredToken = new JwtTokenProvider(SECRET, -60_000)
+                .generateToken(authenticationOf("user-1", "ROLE_USER"));
+        final var aForeignToken = new JwtTokenProvider(SECRET.replace('a', 'b'), 60_000)
+                .generateToken(authenticationOf("user-1", "ROLE_USER"));
+
+        // when / then
+        Assertions.assertTrue(aProvider.verify(aTamperedToken).isEmpty());
+        Assertions.assertTrue(aProvider.verify(anExpiredToken).isEmpty());
+        Assertions.assertTrue(aProvider.verify(aForeignToken).isEmpty());
+        Assertions.assertTrue(aProvider.verify("not-a-jwt").isEmpty());
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticationOf(final String anId, final String... roles) {
+        final var authorities = Arrays.stream(roles).map(SimpleGrantedAuthority::new).toList();
+        final var aPrincipal = new UserPrincipal(anId, "johndoe", "john.doe@example.com", "secret", true, authorities);
+        return new UsernamePasswordAuthenticationToken(aPrincipal, null, authorities);
+    }
+}
@@ -1,7 +1,9 @@
 package com.starter.crudexample.infrastructure.user;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -9,13 +11,19 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.starter.crudexample.MySQLGatewayTest;
+import com.starter.crudexample.domain.exceptions.DomainException;
+import com.starter.crudexample.domain.pagination.CountMode;
+import com.starter.crudexample.domain.pagination.Pagination;
 import com.starter.crudexample.domain.pagination.SearchQuery;
 import com.starter.crudexample.domain.user.Role;
 import com.starter.crudexample.domain.user.User;
 import com.starter.crudexample.domain.user.UserID;
+import com.starter.crudexample.domain.user.UserPreview;
 import com.starter.crudexample.infrastructure.user.persistence.UserJpaEntity;
 import com.starter.crudexample.infrastructure.user.persistence.UserRepository;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @MySQLGatewayTest
 public class UserMySQLGatewayTest {
 
@@ -25,6 +33,9 @@ public class UserMySQLGatewayTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	@Test
 	public void testDependencies() {
 		Assertions.assertNotNull(userGateway);
@@ -72,6 +83,27 @@ public class UserMySQLGatewayTest {
 		Assertions.assertNotNull(actualEntity.getUpdatedAt());
 	}
 
+	@Test
+	public void givenAValidUser_whenCallsCreate_shouldEmitOnlyInserts() {
+		// given
+		final var aUser = User.newUser("johndoe", "john.doe@example.com", "123456", List.of(Role.USER, Role.ADMIN), true);
+
+		final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		// when
+		userGateway.create(aUser);
+		userRepository.flush();
+
+		// then - um INSERT em users, um em user_roles por papel e um em outbox_events, nenhum SELECT
+		Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+		Assertions.assertEquals(2, statistics.getEntityInsertCount());
+		Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+		statistics.setStatisticsEnabled(false);
+	}
+
 	@Test
 	public void givenAValidUser_whenCallsUpdate_shouldRefreshIt() {
 		// given
@@ -130,7 +162,7 @@ public class UserMySQLGatewayTest {
 		Assertions.assertEquals(1, userRepository.count());
 
 		// when
-		final var actual = userGateway.existsByIds(List.of(expectedId, UserID.from("123")));
+		final var actual = userGateway.existsByIds(List.of(expectedId, UserID.unique()));
 
 		// then
 		Assertions.assertEquals(1, actual.size());
@@ -165,7 +197,7 @@ public class UserMySQLGatewayTest {
 		Assertions.assertEquals(1, userRepository.count());
 
 		// when
-		userGateway.deleteById(UserID.from("123"));
+		userGateway.deleteById(UserID.unique());
 
 		// then
 		Assertions.assertEquals(1, userRepository.count());
@@ -207,7 +239,7 @@ public class UserMySQLGatewayTest {
 		Assertions.assertEquals(1, userRepository.count());
 
 		// when
-		final var actual = userGateway.findById(UserID.from("123"));
+		final var actual = userGateway.findById(UserID.unique());
 
 		// then
 		Assertions.assertTrue(actual.isEmpty());
@@ -327,6 +359,131 @@ public class UserMySQLGatewayTest {
 		Assertions.assertFalse(notExists);
 	}
 
+	@ParameterizedTest
+	@CsvSource({
+		"username,asc,alice;bob|carol;dave|eve",
+		"username,desc,eve;dave|carol;bob|alice",
+		"createdAt,asc,alice;bob|carol;dave|eve",
+	})
+	public void givenACursor_whenCallsFindAll_shouldSeekNextPages(
+			final String expectedSort,
+			final String expectedDirection,
+			final String expectedPages
+	) {
+		// given
+		this.mockUsers();
+
+		final var actualPages = new ArrayList<String>();
+
+		// when
+		String after = null;
+		do {
+			final var actualResult = userGateway.findAll(
+					new SearchQuery(0, 2, "", expectedSort, expectedDirection, after));
+
+			Assertions.assertEquals(5, actualResult.total());
+			actualPages.add(String.join(";", actualResult.items().stream().map(User::getUsername).toList()));
+			after = actualResult.nextCursor();
+		} while (after != null);
+
+		// then
+		Assertions.assertEquals(expectedPages, String.join("|", actualPages));
+	}
+
+	@Test
+	public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+		// given
+		final var aQuery = new SearchQuery(0, 2, "", "username", "asc", "not a cursor");
+
+		// when
+		final var actualException = Assertions.assertThrows(
+				DomainException.class, () -> userGateway.findAll(aQuery));
+
+		// then
+		Assertions.assertEquals("'after' is not a valid cursor", actualException.getMessage());
+	}
+
+	@Test
+	public void givenAnUnknownSort_whenCallsFindAll_shouldThrowDomainException() {
+		// given
+		final var aQuery = new SearchQuery(0, 2, "", "password", "asc");
+
+		// when
+		final var actualException = Assertions.assertThrows(
+				DomainException.class, () -> userGateway.findAll(aQuery));
+
+		// then
+		Assertions.assertEquals("'sort' must be one of username, createdAt", actualException.getMessage());
+	}
+
+	@Test
+	public void givenCountModeNone_whenCallsFindAllOnLastPage_shouldReturnNoNextPage() {
+		// given
+		this.mockUsers();
+
+		final var aQuery = new SearchQuery(2, 2, "", "username", "asc", null, CountMode.NONE);
+
+		// when
+		final var actualResult = userGateway.findAll(aQuery);
+
+		// then
+		Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+		Assertions.assertFalse(actualResult.hasNext());
+		Assertions.assertNull(actualResult.nextCursor());
+		Assertions.assertEquals(1, actualResult.items().size());
+		Assertions.assertEquals("eve", actualResult.items().get(0).getUsername());
+	}
+
+	@Test
+	public void givenUsersWithRoles_whenCallsFindAllPreviews_shouldReturnProjectedPageWithRoles() {
+		// given
+		this.mockUsers();
+		userRepository.saveAndFlush(UserJpaEntity.from(
+				User.newUser("aaron", "aaron@example.com", "123456", List.of(Role.ADMIN, Role.USER), false)));
+
+		// when
+		final var actualResult = userGateway.findAllPreviews(new SearchQuery(0, 2, "", "username", "asc"));
+
+		// then
+		Assertions.assertEquals(6, actualResult.total());
+		Assertions.assertTrue(actualResult.hasNext());
+		Assertions.assertEquals(2, actualResult.items().size());
+
+		final var actualPreview = actualResult.items().get(0);
+		Assertions.assertEquals("aaron", actualPreview.username());
+		Assertions.assertEquals("aaron@example.com", actualPreview.email());
+		Assertions.assertFalse(actualPreview.active());
+		Assertions.assertNotNull(actualPreview.createdAt());
+		Assertions.assertTrue(
+				actualPreview.roles().size() == 2
+						&& actualPreview.roles().containsAll(List.of(Role.ADMIN, Role.USER)));
+
+		Assertions.assertEquals("alice", actualResult.items().get(1).username());
+		Assertions.assertEquals(List.of(Role.USER), actualResult.items().get(1).roles());
+	}
+
+	@Test
+	public void givenACursor_whenCallsFindAllPreviews_shouldSeekNextPages() {
+		// given
+		this.mockUsers();
+
+		final var actualPages = new ArrayList<String>();
+
+		// when
+		String after = null;
+		do {
+			final var actualResult = userGateway.findAllPreviews(
+					new SearchQuery(0, 2, "", "username", "desc", after));
+
+			Assertions.assertEquals(5, actualResult.total());
+			actualPages.add(String.join(";", actualResult.items().stream().map(UserPreview::username).toList()));
+			after = actualResult.nextCursor();
+		} while (after != null);
+
+		// then
+		Assertions.assertEquals("eve;dave|carol;bob|alice", String.join("|", actualPages));
+	}
+
 	private void mockUsers() {
 		// Salvando individualmente para garantir diferenças (sequenciais) em createdAt
 		userRepository.saveAndFlush(UserJpaEntity.from(User.newUser("alice", "alice@example.com", "123456", List.of(Role.USER), true)));
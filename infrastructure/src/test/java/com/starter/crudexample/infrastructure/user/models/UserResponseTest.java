@@ -27,6 +27,7 @@ public class UserResponseTest {
         final var expectedCreatedAt = Instant.parse("2024-01-01T10:15:30Z");
         final var expectedUpdatedAt = Instant.parse("2024-01-02T12:45:00Z");
         final var expectedDeletedAt = Instant.parse("2024-01-03T08:00:00Z");
+        final var expectedVersion = 3L;
 
         final var response = new UserResponse(
             expectedId,
@@ -36,7 +37,8 @@ public class UserResponseTest {
             expectedActive,
             expectedCreatedAt,
             expectedUpdatedAt,
-            expectedDeletedAt
+            expectedDeletedAt,
+            expectedVersion
         );
 
         final var actualJson = this.json.write(response);
@@ -50,6 +52,7 @@ public class UserResponseTest {
             .hasJsonPathValue("$.active", expectedActive)
             .hasJsonPathValue("$.created_at", expectedCreatedAt.toString())
             .hasJsonPathValue("$.updated_at", expectedUpdatedAt.toString())
-            .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString());
+            .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString())
+            .hasJsonPathValue("$.version", expectedVersion);
     }
 }